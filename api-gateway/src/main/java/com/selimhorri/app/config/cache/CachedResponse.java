@@ -0,0 +1,70 @@
+package com.selimhorri.app.config.cache;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Buffered upstream response held by the edge cache, fresh until its TTL elapses 
+ * then servable while stale for the route's stale-while-revalidate window.
+ */
+@Getter
+@AllArgsConstructor
+public class CachedResponse {
+	
+	private final HttpStatus status;
+	private final HttpHeaders headers;
+	private final byte[] body;
+	private final String etag;
+	private final long storedAtNanos;
+	private final long freshUntilNanos;
+	private final long staleUntilNanos;
+	
+	public static CachedResponse of(final HttpStatus status, final HttpHeaders headers, final byte[] body, final String etag, 
+			final Duration freshness, final Duration staleWhileRevalidate) {
+		final long now = System.nanoTime();
+		return new CachedResponse(status, HttpHeaders.readOnlyHttpHeaders(headers), body, etag, now, 
+				now + freshness.toNanos(), now + freshness.toNanos() + staleWhileRevalidate.toNanos());
+	}
+	
+	public CachedResponse refreshed(final Duration freshness, final Duration staleWhileRevalidate) {
+		return of(this.status, this.headers, this.body, this.etag, freshness, staleWhileRevalidate);
+	}
+	
+	public boolean isFresh(final long now) {
+		return now - this.freshUntilNanos < 0;
+	}
+	
+	public boolean isServable(final long now) {
+		return now - this.staleUntilNanos < 0;
+	}
+	
+	public long getAgeSeconds(final long now) {
+		return TimeUnit.NANOSECONDS.toSeconds(now - this.storedAtNanos);
+	}
+	
+	/**
+	 * Heap held by this entry, used to bound the cache by size rather than entry count.
+	 */
+	public int getWeight() {
+		return this.body.length + 64 * this.headers.size();
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
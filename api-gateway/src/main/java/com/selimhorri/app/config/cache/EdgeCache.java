@@ -0,0 +1,170 @@
+package com.selimhorri.app.config.cache;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import com.github.benmanes.caffeine.cache.Cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+/**
+ * Bounded store behind the {@link EdgeCacheGatewayFilterFactory}: decides what is cacheable 
+ * from the upstream Cache-Control, revalidates stale entries in the background with a 
+ * conditional request, and records lookups per route for the hit ratio.
+ */
+@Component
+@Slf4j
+public class EdgeCache {
+	
+	public static final String METRIC_NAME = "gateway.edge.cache.requests";
+	private static final Pattern MAX_AGE = Pattern.compile("(?:^|,)\\s*(s-maxage|max-age)\\s*=\\s*(\\d+)");
+	private static final Set<String> UNCACHEABLE_DIRECTIVES = Set.of("no-store", "no-cache", "private");
+	private static final List<String> UNSTORED_HEADERS = List.of(
+			HttpHeaders.CONNECTION, 
+			HttpHeaders.TRANSFER_ENCODING, 
+			HttpHeaders.SET_COOKIE, 
+			HttpHeaders.DATE, 
+			HttpHeaders.AGE, 
+			"Keep-Alive");
+	
+	private final Cache<String, CachedResponse> cache;
+	private final WebClient webClient;
+	private final MeterRegistry meterRegistry;
+	private final Set<String> revalidating = ConcurrentHashMap.newKeySet();
+	
+	public EdgeCache(final Cache<String, CachedResponse> edgeResponseCache, 
+			@Qualifier("edgeCacheWebClient") final WebClient webClient, 
+			final MeterRegistry meterRegistry) {
+		this.cache = edgeResponseCache;
+		this.webClient = webClient;
+		this.meterRegistry = meterRegistry;
+	}
+	
+	public Optional<CachedResponse> get(final String key) {
+		return Optional.ofNullable(this.cache.getIfPresent(key));
+	}
+	
+	/**
+	 * Stores a 200 response unless the upstream forbids it, the upstream max-age (s-maxage first) 
+	 * overriding the route TTL. Returns the stored entry, if any.
+	 */
+	public Optional<CachedResponse> put(final String key, final HttpStatus status, final HttpHeaders headers, final byte[] body, 
+			final Duration ttl, final Duration staleWhileRevalidate) {
+		final Optional<Duration> freshness = freshness(status, headers, ttl);
+		if (freshness.isEmpty()) {
+			this.cache.invalidate(key);
+			return Optional.empty();
+		}
+		final HttpHeaders storedHeaders = new HttpHeaders();
+		headers.forEach((name, values) -> {
+			if (UNSTORED_HEADERS.stream().noneMatch(name::equalsIgnoreCase) 
+					&& !name.regionMatches(true, 0, "Access-Control-", 0, "Access-Control-".length()))
+				storedHeaders.put(name, values);
+		});
+		final String etag = Optional.ofNullable(headers.getETag())
+				.orElseGet(() -> "W/\"" + DigestUtils.md5DigestAsHex(body) + "\"");
+		storedHeaders.setETag(etag);
+		final CachedResponse cachedResponse = CachedResponse.of(status, storedHeaders, body, etag, freshness.get(), staleWhileRevalidate);
+		this.cache.put(key, cachedResponse);
+		return Optional.of(cachedResponse);
+	}
+	
+	/**
+	 * Refreshes a stale entry off the request path, at most one revalidation per key at a time. 
+	 * A 304 only extends the entry, any other answer replaces or evicts it.
+	 */
+	public void revalidate(final String key, final URI uri, final HttpHeaders keyHeaders, final CachedResponse stale, 
+			final Duration ttl, final Duration staleWhileRevalidate) {
+		if (!this.revalidating.add(key))
+			return;
+		this.webClient.get()
+				.uri(uri)
+				.headers(headers -> {
+					headers.addAll(keyHeaders);
+					headers.setIfNoneMatch(stale.getEtag());
+				})
+				.exchangeToMono(response -> (response.statusCode() == HttpStatus.NOT_MODIFIED) ? 
+						Mono.fromRunnable(() -> this.cache.put(key, stale.refreshed(
+								freshness(HttpStatus.OK, response.headers().asHttpHeaders(), ttl).orElse(ttl), staleWhileRevalidate))) : 
+						response.bodyToMono(byte[].class)
+								.defaultIfEmpty(new byte[0])
+								.doOnNext(body -> this.put(key, response.statusCode(), response.headers().asHttpHeaders(), 
+										body, ttl, staleWhileRevalidate))
+								.then())
+				.doOnError(e -> log.warn("*** Edge cache revalidation of {} failed: {} *", key, e.getMessage()))
+				.doFinally(signal -> this.revalidating.remove(key))
+				.subscribe(v -> { }, e -> { });
+	}
+	
+	public long purge(final Predicate<String> keyPredicate) {
+		final var keys = this.cache.asMap().keySet().stream()
+				.filter(keyPredicate)
+				.toArray();
+		for (final Object key : keys)
+			this.cache.invalidate(key);
+		return keys.length;
+	}
+	
+	public long size() {
+		return this.cache.estimatedSize();
+	}
+	
+	public void record(final String routeId, final String result) {
+		Counter.builder(METRIC_NAME)
+				.description("Edge cache lookups by route and result (hit, stale, miss, bypass)")
+				.tag("route", routeId)
+				.tag("result", result)
+				.register(this.meterRegistry)
+				.increment();
+	}
+	
+	static Optional<Duration> freshness(final HttpStatus status, final HttpHeaders headers, final Duration ttl) {
+		if (status != HttpStatus.OK || headers.containsKey(HttpHeaders.SET_COOKIE) || headers.getVary().contains("*"))
+			return Optional.empty();
+		final String cacheControl = Optional.ofNullable(headers.getCacheControl())
+				.orElse("")
+				.toLowerCase(Locale.ROOT);
+		if (UNCACHEABLE_DIRECTIVES.stream().anyMatch(cacheControl::contains))
+			return Optional.empty();
+		
+		Duration freshness = ttl;
+		final Matcher matcher = MAX_AGE.matcher(cacheControl);
+		while (matcher.find()) {
+			freshness = Duration.ofSeconds(Long.parseLong(matcher.group(2)));
+			if ("s-maxage".equals(matcher.group(1)))
+				break;
+		}
+		return (freshness.isZero() || freshness.isNegative()) ? Optional.empty() : Optional.of(freshness);
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,44 @@
+package com.selimhorri.app.config.cache;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.client.loadbalancer.reactive.ReactorLoadBalancerExchangeFilterFunction;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+@Configuration
+public class EdgeCacheConfig {
+	
+	@Bean
+	public Cache<String, CachedResponse> edgeResponseCache(@Value("${app.edge-cache.max-size:64MB}") final DataSize maxSize) {
+		return Caffeine.newBuilder()
+				.maximumWeight(maxSize.toBytes())
+				.weigher((String key, CachedResponse cachedResponse) -> key.length() + cachedResponse.getWeight())
+				.build();
+	}
+	
+	@Bean
+	public WebClient edgeCacheWebClient(final ObjectProvider<ReactorLoadBalancerExchangeFilterFunction> loadBalancerExchangeFilterFunction) {
+		final WebClient.Builder builder = WebClient.builder();
+		loadBalancerExchangeFilterFunction.ifAvailable(builder::filter);
+		return builder.build();
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,52 @@
+package com.selimhorri.app.config.cache;
+
+import java.util.Map;
+
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Admin view of the edge cache, the delete operation purges the entries matching 
+ * {@code routeId} and {@code pathPrefix}, or everything without arguments. It is left out of 
+ * the web exposure of the public gateway and is reached over JMX, with {@code spring.jmx.enabled}.
+ */
+@Component
+@Endpoint(id = "edgecache")
+@RequiredArgsConstructor
+public class EdgeCacheEndpoint {
+	
+	private final EdgeCache edgeCache;
+	
+	@ReadOperation
+	public Map<String, Object> size() {
+		return Map.of("entries", this.edgeCache.size());
+	}
+	
+	@DeleteOperation
+	public Map<String, Object> purge(@Nullable final String routeId, @Nullable final String pathPrefix) {
+		final long purged = this.edgeCache.purge(key -> {
+			final String[] routeAndPath = key.split(" ", 2);
+			return (routeId == null || routeId.equals(routeAndPath[0])) 
+					&& (pathPrefix == null || routeAndPath[1].startsWith(pathPrefix));
+		});
+		return Map.of("purged", purged);
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
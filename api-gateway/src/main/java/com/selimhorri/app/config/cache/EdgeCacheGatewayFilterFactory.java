@@ -0,0 +1,203 @@
+package com.selimhorri.app.config.cache;
+
+import static org.springframework.cloud.gateway.support.ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.TreeMap;
+
+import org.reactivestreams.Publisher;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import lombok.Data;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Caches anonymous GET responses of a route at the edge: 
+ * <pre>
+ * filters:
+ * - name: EdgeCache
+ *   args:
+ *     ttl: 60s
+ *     stale-while-revalidate: 30s
+ *     key-headers: Accept, Accept-Encoding, Accept-Language
+ * </pre>
+ * The key is the route, path, sorted query params and the key headers. Requests carrying an 
+ * Authorization header bypass the cache, and conditional requests matching the ETag get a 304.
+ */
+@Component
+public class EdgeCacheGatewayFilterFactory extends AbstractGatewayFilterFactory<EdgeCacheGatewayFilterFactory.Config> {
+	
+	public static final String CACHE_STATUS_HEADER = "X-Cache";
+	
+	private final EdgeCache edgeCache;
+	
+	public EdgeCacheGatewayFilterFactory(final EdgeCache edgeCache) {
+		super(Config.class);
+		this.edgeCache = edgeCache;
+	}
+	
+	@Override
+	public List<String> shortcutFieldOrder() {
+		return List.of("ttl", "staleWhileRevalidate");
+	}
+	
+	@Override
+	public GatewayFilter apply(final Config config) {
+		return (exchange, chain) -> {
+			final ServerHttpRequest request = exchange.getRequest();
+			final Route route = exchange.getAttribute(GATEWAY_ROUTE_ATTR);
+			final String routeId = (route != null) ? route.getId() : "";
+			
+			if (request.getMethod() != HttpMethod.GET || request.getHeaders().containsKey(HttpHeaders.AUTHORIZATION)) {
+				this.edgeCache.record(routeId, "bypass");
+				return chain.filter(exchange);
+			}
+			
+			final String key = key(routeId, request, config.getKeyHeaders());
+			final long now = System.nanoTime();
+			final Optional<CachedResponse> cached = this.edgeCache.get(key)
+					.filter(cachedResponse -> cachedResponse.isServable(now));
+			
+			if (cached.isPresent() && cached.get().isFresh(now)) {
+				this.edgeCache.record(routeId, "hit");
+				return write(exchange, cached.get(), "HIT", now);
+			}
+			if (cached.isPresent() && route != null) {
+				this.edgeCache.record(routeId, "stale");
+				this.edgeCache.revalidate(key, upstreamUri(route, request), keyHeaders(request, config.getKeyHeaders()), 
+						cached.get(), config.getTtl(), config.getStaleWhileRevalidate());
+				return write(exchange, cached.get(), "STALE", now);
+			}
+			
+			this.edgeCache.record(routeId, "miss");
+			exchange.getResponse().getHeaders().set(CACHE_STATUS_HEADER, "MISS");
+			return chain.filter(exchange.mutate()
+					.response(new CachingResponseDecorator(exchange.getResponse(), key, config))
+					.build());
+		};
+	}
+	
+	private static Mono<Void> write(final ServerWebExchange exchange, final CachedResponse cachedResponse, 
+			final String cacheStatus, final long now) {
+		final ServerHttpResponse response = exchange.getResponse();
+		response.getHeaders().putAll(cachedResponse.getHeaders());
+		response.getHeaders().set(CACHE_STATUS_HEADER, cacheStatus);
+		response.getHeaders().set(HttpHeaders.AGE, String.valueOf(cachedResponse.getAgeSeconds(now)));
+		
+		if (matches(exchange.getRequest().getHeaders().getIfNoneMatch(), cachedResponse.getEtag())) {
+			response.setStatusCode(HttpStatus.NOT_MODIFIED);
+			response.getHeaders().remove(HttpHeaders.CONTENT_LENGTH);
+			return response.setComplete();
+		}
+		response.setStatusCode(cachedResponse.getStatus());
+		return response.writeWith(Mono.fromSupplier(() -> response.bufferFactory().wrap(cachedResponse.getBody())));
+	}
+	
+	private static boolean matches(final List<String> ifNoneMatch, final String etag) {
+		final String opaqueTag = etag.replaceFirst("^W/", "");
+		return ifNoneMatch.stream()
+				.anyMatch(tag -> "*".equals(tag) || tag.replaceFirst("^W/", "").equals(opaqueTag));
+	}
+	
+	static String key(final String routeId, final ServerHttpRequest request, final List<String> keyHeaders) {
+		final var key = new StringBuilder(routeId)
+				.append(' ')
+				.append(request.getPath().value())
+				.append('?')
+				.append(new TreeMap<>(request.getQueryParams()));
+		keyHeaders.forEach(name -> key.append('|')
+				.append(request.getHeaders().getOrEmpty(name)));
+		return key.toString();
+	}
+	
+	private static HttpHeaders keyHeaders(final ServerHttpRequest request, final List<String> keyHeaders) {
+		final HttpHeaders headers = new HttpHeaders();
+		keyHeaders.forEach(name -> Optional.ofNullable(request.getHeaders().get(name))
+				.ifPresent(values -> headers.put(name, values)));
+		return headers;
+	}
+	
+	/**
+	 * Upstream address of the request for revalidation, lb:// routes being resolved by the load balanced client.
+	 */
+	private static URI upstreamUri(final Route route, final ServerHttpRequest request) {
+		return UriComponentsBuilder.fromUri(route.getUri())
+				.scheme("lb".equals(route.getUri().getScheme()) ? "http" : route.getUri().getScheme())
+				.replacePath(request.getPath().value())
+				.replaceQuery(request.getURI().getRawQuery())
+				.build(true)
+				.toUri();
+	}
+	
+	/**
+	 * Buffers a cacheable upstream body on its way to the client and stores it.
+	 */
+	private class CachingResponseDecorator extends ServerHttpResponseDecorator {
+		
+		private final String key;
+		private final Config config;
+		
+		CachingResponseDecorator(final ServerHttpResponse delegate, final String key, final Config config) {
+			super(delegate);
+			this.key = key;
+			this.config = config;
+		}
+		
+		@Override
+		public Mono<Void> writeWith(final Publisher<? extends DataBuffer> body) {
+			final HttpStatus status = this.getStatusCode();
+			if (status == null || EdgeCache.freshness(status, this.getHeaders(), this.config.getTtl()).isEmpty())
+				return super.writeWith(body);
+			return DataBufferUtils.join(Flux.from(body))
+					.flatMap(dataBuffer -> {
+						final byte[] bytes = new byte[dataBuffer.readableByteCount()];
+						dataBuffer.read(bytes);
+						DataBufferUtils.release(dataBuffer);
+						EdgeCacheGatewayFilterFactory.this.edgeCache.put(this.key, status, this.getHeaders(), bytes, 
+								this.config.getTtl(), this.config.getStaleWhileRevalidate())
+							.ifPresent(cachedResponse -> this.getHeaders().setETag(cachedResponse.getEtag()));
+						return super.writeWith(Mono.just(this.bufferFactory().wrap(bytes)));
+					});
+		}
+		
+	}
+	
+	@Data
+	public static class Config {
+		
+		private Duration ttl = Duration.ofSeconds(60);
+		private Duration staleWhileRevalidate = Duration.ofSeconds(30);
+		private List<String> keyHeaders = List.of(HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING, HttpHeaders.ACCEPT_LANGUAGE);
+		
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
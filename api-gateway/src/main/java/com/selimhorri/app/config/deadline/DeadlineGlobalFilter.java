@@ -0,0 +1,76 @@
+package com.selimhorri.app.config.deadline;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+/**
+ * Starts the request budget at the edge: every routed request is forwarded with the {@value #HEADER} 
+ * header, the milliseconds downstream hops have left. A client may ask for a shorter budget through the 
+ * same header (never longer than app.deadline.max-budget), without one it gets app.deadline.default-budget. 
+ * A client budget that is already spent is answered 504 right away.
+ */
+@Component
+@Slf4j
+public class DeadlineGlobalFilter implements GlobalFilter, Ordered {
+	
+	public static final String HEADER = "X-Deadline-Ms";
+	
+	private final long defaultBudgetMillis;
+	private final long maxBudgetMillis;
+	
+	public DeadlineGlobalFilter(
+			@Value("${app.deadline.default-budget:10s}") final Duration defaultBudget, 
+			@Value("${app.deadline.max-budget:30s}") final Duration maxBudget) {
+		this.defaultBudgetMillis = defaultBudget.toMillis();
+		this.maxBudgetMillis = maxBudget.toMillis();
+	}
+	
+	@Override
+	public Mono<Void> filter(final ServerWebExchange exchange, final GatewayFilterChain chain) {
+		
+		final long budgetMillis = this.budget(exchange.getRequest().getHeaders().getFirst(HEADER));
+		if (budgetMillis <= 0) {
+			log.info("*** Request deadline already exceeded, {} refused *", exchange.getRequest().getPath());
+			exchange.getResponse().setStatusCode(HttpStatus.GATEWAY_TIMEOUT);
+			return exchange.getResponse().setComplete();
+		}
+		
+		return chain.filter(exchange.mutate()
+				.request(request -> request.headers(headers -> headers.set(HEADER, Long.toString(budgetMillis))))
+				.build());
+	}
+	
+	@Override
+	public int getOrder() {
+		return Ordered.HIGHEST_PRECEDENCE;
+	}
+	
+	private long budget(final String header) {
+		if (header == null || !header.strip().matches("-?\\d{1,18}"))
+			return this.defaultBudgetMillis;
+		return Math.min(Long.parseLong(header.strip()), this.maxBudgetMillis);
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
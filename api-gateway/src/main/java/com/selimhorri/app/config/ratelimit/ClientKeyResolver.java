@@ -0,0 +1,37 @@
+package com.selimhorri.app.config.ratelimit;
+
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.Optional;
+
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.stereotype.Component;
+
+/**
+ * Identifies the client a request is charged to by its remote address. The gateway cannot verify 
+ * API keys or bearer tokens, so a bucket keyed on them would let a client mint a fresh quota, 
+ * and crowd legitimate buckets out of the cache, with every made-up value.
+ */
+@Component
+public class ClientKeyResolver {
+	
+	public String resolve(final ServerHttpRequest request) {
+		return "ip:" + Optional.ofNullable(request.getRemoteAddress())
+				.map(InetSocketAddress::getAddress)
+				.map(InetAddress::getHostAddress)
+				.orElse("unknown");
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
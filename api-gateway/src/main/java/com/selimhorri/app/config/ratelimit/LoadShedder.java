@@ -0,0 +1,54 @@
+package com.selimhorri.app.config.ratelimit;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Counts requests in flight through rate limited routes and refuses new ones once the 
+ * in-flight count reaches the share of {@code app.rate-limit.max-in-flight} of their priority.
+ */
+@Component
+public class LoadShedder {
+	
+	private final AtomicInteger inFlight = new AtomicInteger();
+	private final int maxInFlight;
+	
+	public LoadShedder(final MeterRegistry meterRegistry, @Value("${app.rate-limit.max-in-flight:1000}") final int maxInFlight) {
+		this.maxInFlight = maxInFlight;
+		Gauge.builder("gateway.requests.in.flight", this.inFlight, AtomicInteger::get)
+				.register(meterRegistry);
+	}
+	
+	public boolean tryAcquire(final Priority priority) {
+		final int limit = (int) (this.maxInFlight * priority.getShareOfCapacity());
+		while (true) {
+			final int current = this.inFlight.get();
+			if (current >= limit)
+				return false;
+			if (this.inFlight.compareAndSet(current, current + 1))
+				return true;
+		}
+	}
+	
+	public void release() {
+		this.inFlight.decrementAndGet();
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
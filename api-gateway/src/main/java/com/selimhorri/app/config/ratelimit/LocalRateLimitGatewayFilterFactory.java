@@ -0,0 +1,114 @@
+package com.selimhorri.app.config.ratelimit;
+
+import static org.springframework.cloud.gateway.support.ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+
+import com.github.benmanes.caffeine.cache.Cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Data;
+import reactor.core.publisher.Mono;
+
+/**
+ * In-process rate limiting and load shedding for a route, without Redis: 
+ * <pre>
+ * filters:
+ * - LocalRateLimit=capacity, refillPerSecond, priority
+ * </pre>
+ * Each client (see {@link ClientKeyResolver}) gets a token bucket per route, and the request is 
+ * shed when the gateway is past the in-flight share of the route priority. Both answer 429 
+ * with a Retry-After.
+ */
+@Component
+public class LocalRateLimitGatewayFilterFactory extends AbstractGatewayFilterFactory<LocalRateLimitGatewayFilterFactory.Config> {
+	
+	public static final String METRIC_NAME = "gateway.rate.limit.rejections";
+	
+	private final Cache<String, TokenBucket> tokenBuckets;
+	private final ClientKeyResolver clientKeyResolver;
+	private final LoadShedder loadShedder;
+	private final MeterRegistry meterRegistry;
+	
+	public LocalRateLimitGatewayFilterFactory(final Cache<String, TokenBucket> tokenBuckets, 
+			final ClientKeyResolver clientKeyResolver, 
+			final LoadShedder loadShedder, 
+			final MeterRegistry meterRegistry) {
+		super(Config.class);
+		this.tokenBuckets = tokenBuckets;
+		this.clientKeyResolver = clientKeyResolver;
+		this.loadShedder = loadShedder;
+		this.meterRegistry = meterRegistry;
+	}
+	
+	@Override
+	public List<String> shortcutFieldOrder() {
+		return List.of("capacity", "refillPerSecond", "priority");
+	}
+	
+	@Override
+	public GatewayFilter apply(final Config config) {
+		return (exchange, chain) -> {
+			final Route route = exchange.getAttribute(GATEWAY_ROUTE_ATTR);
+			final String routeId = (route != null) ? route.getId() : "";
+			
+			final long waitNanos = this.tokenBuckets.get(routeId + "|" + this.clientKeyResolver.resolve(exchange.getRequest()), 
+					key -> new TokenBucket(config.getCapacity(), config.getRefillPerSecond()))
+				.tryConsume();
+			if (waitNanos > 0)
+				return this.reject(exchange, routeId, "quota", TimeUnit.NANOSECONDS.toSeconds(waitNanos) + 1);
+			
+			if (!this.loadShedder.tryAcquire(config.getPriority()))
+				return this.reject(exchange, routeId, "shed", 1L);
+			
+			return chain.filter(exchange)
+					.doFinally(signal -> this.loadShedder.release());
+		};
+	}
+	
+	private Mono<Void> reject(final ServerWebExchange exchange, final String routeId, final String reason, final long retryAfterSeconds) {
+		Counter.builder(METRIC_NAME)
+				.description("Requests refused by the local rate limiter, by route and reason (quota, shed)")
+				.tag("route", routeId)
+				.tag("reason", reason)
+				.register(this.meterRegistry)
+				.increment();
+		final ServerHttpResponse response = exchange.getResponse();
+		response.setStatusCode(HttpStatus.TOO_MANY_REQUESTS);
+		response.getHeaders().set(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+		return response.setComplete();
+	}
+	
+	@Data
+	public static class Config {
+		
+		private long capacity = 100;
+		private double refillPerSecond = 50;
+		private Priority priority = Priority.STANDARD;
+		
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,20 @@
+package com.selimhorri.app.config.ratelimit;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Share of the gateway in-flight capacity a route may use before it is shed, 
+ * so that browsing is shed first and checkout keeps the remaining headroom.
+ */
+@RequiredArgsConstructor
+@Getter
+public enum Priority {
+	
+	CRITICAL(1.0),
+	STANDARD(0.85),
+	BROWSING(0.6);
+	
+	private final double shareOfCapacity;
+	
+}
@@ -0,0 +1,37 @@
+package com.selimhorri.app.config.ratelimit;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+@Configuration
+public class RateLimitConfig {
+	
+	@Bean
+	public Cache<String, TokenBucket> tokenBuckets(
+			@Value("${app.rate-limit.max-clients:100000}") final long maxClients, 
+			@Value("${app.rate-limit.idle-eviction:10m}") final Duration idleEviction) {
+		return Caffeine.newBuilder()
+				.maximumSize(maxClients)
+				.expireAfterAccess(idleEviction)
+				.build();
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,46 @@
+package com.selimhorri.app.config.ratelimit;
+
+/**
+ * Lazily refilled token bucket, refilled from the elapsed time whenever it is consulted.
+ */
+public class TokenBucket {
+	
+	private final double capacity;
+	private final double refillPerNano;
+	private double tokens;
+	private long lastRefillNanos;
+	
+	public TokenBucket(final long capacity, final double refillPerSecond) {
+		this.capacity = capacity;
+		this.refillPerNano = refillPerSecond / 1e9;
+		this.tokens = capacity;
+		this.lastRefillNanos = System.nanoTime();
+	}
+	
+	/**
+	 * Takes one token, returns 0 when granted or otherwise the nanos until a token is available.
+	 */
+	public synchronized long tryConsume() {
+		final long now = System.nanoTime();
+		this.tokens = Math.min(this.capacity, this.tokens + (now - this.lastRefillNanos) * this.refillPerNano);
+		this.lastRefillNanos = now;
+		if (this.tokens >= 1) {
+			this.tokens -= 1;
+			return 0L;
+		}
+		return (long) Math.ceil((1 - this.tokens) / this.refillPerNano);
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
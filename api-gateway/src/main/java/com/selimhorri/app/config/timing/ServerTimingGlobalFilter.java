@@ -0,0 +1,101 @@
+package com.selimhorri.app.config.timing;
+
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+
+import com.selimhorri.app.config.cache.EdgeCacheGatewayFilterFactory;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Aggregated {@value #HEADER} header at the edge. The routed service's entries are prefixed with its name 
+ * and its own total becomes {@code <service>}, e.g. {@code proxy-client.user-service;dur=40.2, proxy-client;dur=52.0, 
+ * gateway;dur=3.1, total;dur=55.1}, where {@code gateway} is the time spent in the gateway filters and on the network. 
+ * Responses served from the edge cache only report the cache status and the gateway total.
+ */
+@Component
+@ConditionalOnProperty(name = "app.server-timing.enabled", havingValue = "true")
+public class ServerTimingGlobalFilter implements GlobalFilter, Ordered {
+	
+	public static final String HEADER = "Server-Timing";
+	
+	private static final Set<String> CACHED = Set.of("HIT", "STALE");
+	
+	@Override
+	public Mono<Void> filter(final ServerWebExchange exchange, final GatewayFilterChain chain) {
+		final long startTime = System.nanoTime();
+		final ServerHttpResponse response = exchange.getResponse();
+		response.beforeCommit(() -> {
+			response.getHeaders().set(HEADER, aggregate(exchange, System.nanoTime() - startTime));
+			return Mono.empty();
+		});
+		return chain.filter(exchange);
+	}
+	
+	@Override
+	public int getOrder() {
+		return Ordered.HIGHEST_PRECEDENCE + 1;
+	}
+	
+	static String aggregate(final ServerWebExchange exchange, final long totalNanos) {
+		
+		final HttpHeaders headers = exchange.getResponse().getHeaders();
+		final Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+		final String cacheStatus = headers.getFirst(EdgeCacheGatewayFilterFactory.CACHE_STATUS_HEADER);
+		final boolean cached = cacheStatus != null && CACHED.contains(cacheStatus);
+		final StringBuilder header = new StringBuilder();
+		Long upstreamNanos = null;
+		
+		if (route != null && !cached) {
+			final String service = route.getId().toLowerCase(Locale.ROOT);
+			for (final String value : headers.getOrEmpty(HEADER)) {
+				for (final String entry : value.split(",")) {
+					final String[] params = entry.strip().split(";");
+					if (params[0].isEmpty())
+						continue;
+					if (!"total".equals(params[0])) {
+						header.append(service).append('.').append(entry.strip()).append(", ");
+						continue;
+					}
+					for (int i = 1; i < params.length; i++) {
+						if (params[i].strip().startsWith("dur=")) {
+							try {
+								upstreamNanos = (long) (Double.parseDouble(params[i].strip().substring(4)) * 1_000_000);
+							}
+							catch (NumberFormatException e) {
+								// without a readable upstream total the gateway share is left out
+							}
+						}
+					}
+				}
+			}
+			if (upstreamNanos != null)
+				header.append(service).append(";dur=").append(millis(upstreamNanos)).append(", ");
+		}
+		
+		if (cacheStatus != null)
+			header.append("cache;desc=\"").append(cacheStatus).append("\", ");
+		if (upstreamNanos != null || cached)
+			header.append("gateway;dur=").append(millis(totalNanos - ((upstreamNanos != null) ? upstreamNanos : 0L))).append(", ");
+		return header.append("total;dur=").append(millis(totalNanos)).toString();
+	}
+	
+	private static String millis(final long nanos) {
+		return String.format(Locale.ROOT, "%.1f", nanos / (double) TimeUnit.MILLISECONDS.toNanos(1));
+	}
+
+
+
+}
@@ -0,0 +1,180 @@
+package com.selimhorri.app.config.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.cloud.gateway.support.ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.Mono;
+
+class EdgeCacheGatewayFilterFactoryTest {
+
+    private static final String BODY = "{\"collection\":[{\"productId\":1}]}";
+
+    private final Route route = Route.async()
+            .id("PRODUCT-SERVICE")
+            .uri("lb://PRODUCT-SERVICE")
+            .predicate(exchange -> true)
+            .build();
+    private final AtomicInteger upstreamCalls = new AtomicInteger();
+    private final List<ClientRequest> revalidations = new ArrayList<>();
+
+    private MeterRegistry meterRegistry;
+    private EdgeCache edgeCache;
+    private EdgeCacheGatewayFilterFactory.Config config;
+    private GatewayFilter filter;
+    private String upstreamCacheControl;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        WebClient webClient = WebClient.builder()
+                .exchangeFunction(request -> {
+                    revalidations.add(request);
+                    return Mono.just(ClientResponse.create(HttpStatus.NOT_MODIFIED).build());
+                })
+                .build();
+        edgeCache = new EdgeCache(new EdgeCacheConfig().edgeResponseCache(DataSize.ofMegabytes(1)), webClient, meterRegistry);
+        EdgeCacheGatewayFilterFactory factory = new EdgeCacheGatewayFilterFactory(edgeCache);
+        config = new EdgeCacheGatewayFilterFactory.Config();
+        filter = factory.apply(config);
+    }
+
+    @Test
+    void secondIdenticalGetIsServedFromCacheWhateverTheQueryOrder() {
+        // When
+        MockServerWebExchange first = execute(MockServerHttpRequest.get("/product-service/api/products?page=0&size=5"));
+        MockServerWebExchange second = execute(MockServerHttpRequest.get("/product-service/api/products?size=5&page=0"));
+
+        // Then
+        assertEquals(1, upstreamCalls.get());
+        assertEquals("MISS", first.getResponse().getHeaders().getFirst(EdgeCacheGatewayFilterFactory.CACHE_STATUS_HEADER));
+        assertEquals("HIT", second.getResponse().getHeaders().getFirst(EdgeCacheGatewayFilterFactory.CACHE_STATUS_HEADER));
+        assertEquals(BODY, second.getResponse().getBodyAsString().block());
+        assertEquals(MediaType.APPLICATION_JSON, second.getResponse().getHeaders().getContentType());
+        assertEquals(1, meterRegistry.get(EdgeCache.METRIC_NAME).tag("result", "hit").counter().count());
+    }
+
+    @Test
+    void keyHeadersSeparateEntries() {
+        // When
+        execute(MockServerHttpRequest.get("/product-service/api/products/1").header(HttpHeaders.ACCEPT_LANGUAGE, "en"));
+        execute(MockServerHttpRequest.get("/product-service/api/products/1").header(HttpHeaders.ACCEPT_LANGUAGE, "fr"));
+
+        // Then
+        assertEquals(2, upstreamCalls.get());
+    }
+
+    @Test
+    void matchingIfNoneMatchGetsNotModified() {
+        // Given
+        MockServerWebExchange first = execute(MockServerHttpRequest.get("/product-service/api/products/1"));
+        String etag = first.getResponse().getHeaders().getETag();
+
+        // When
+        MockServerWebExchange second = execute(MockServerHttpRequest.get("/product-service/api/products/1")
+                .header(HttpHeaders.IF_NONE_MATCH, etag));
+
+        // Then
+        assertTrue(etag.startsWith("W/\""));
+        assertEquals(HttpStatus.NOT_MODIFIED, second.getResponse().getStatusCode());
+        assertEquals(1, upstreamCalls.get());
+    }
+
+    @Test
+    void upstreamNoStoreAndAuthorizedRequestsAreNotCached() {
+        // Given
+        upstreamCacheControl = "no-store";
+
+        // When
+        execute(MockServerHttpRequest.get("/product-service/api/products/1"));
+        execute(MockServerHttpRequest.get("/product-service/api/products/1"));
+        upstreamCacheControl = null;
+        execute(MockServerHttpRequest.get("/product-service/api/products/2").header(HttpHeaders.AUTHORIZATION, "Bearer token"));
+        execute(MockServerHttpRequest.get("/product-service/api/products/2").header(HttpHeaders.AUTHORIZATION, "Bearer token"));
+
+        // Then
+        assertEquals(4, upstreamCalls.get());
+        assertEquals(0, edgeCache.size());
+    }
+
+    @Test
+    void staleEntryIsServedAndRevalidatedWithItsEtag() throws Exception {
+        // Given
+        config.setTtl(Duration.ofMillis(50));
+        MockServerWebExchange first = execute(MockServerHttpRequest.get("/product-service/api/products/1?page=0"));
+        Thread.sleep(100);
+
+        // When
+        MockServerWebExchange stale = execute(MockServerHttpRequest.get("/product-service/api/products/1?page=0"));
+        MockServerWebExchange revalidated = execute(MockServerHttpRequest.get("/product-service/api/products/1?page=0"));
+
+        // Then
+        assertEquals("STALE", stale.getResponse().getHeaders().getFirst(EdgeCacheGatewayFilterFactory.CACHE_STATUS_HEADER));
+        assertEquals(BODY, stale.getResponse().getBodyAsString().block());
+        assertEquals(1, revalidations.size());
+        assertEquals("http://PRODUCT-SERVICE/product-service/api/products/1?page=0", revalidations.get(0).url().toString());
+        assertEquals(first.getResponse().getHeaders().getETag(), revalidations.get(0).headers().getFirst(HttpHeaders.IF_NONE_MATCH));
+        assertEquals("HIT", revalidated.getResponse().getHeaders().getFirst(EdgeCacheGatewayFilterFactory.CACHE_STATUS_HEADER));
+        assertEquals(1, upstreamCalls.get());
+    }
+
+    @Test
+    void purgeEvictsMatchingEntries() {
+        // Given
+        execute(MockServerHttpRequest.get("/product-service/api/products/1"));
+        execute(MockServerHttpRequest.get("/product-service/api/categories"));
+
+        // When
+        Object purged = new EdgeCacheEndpoint(edgeCache).purge("PRODUCT-SERVICE", "/product-service/api/products").get("purged");
+        execute(MockServerHttpRequest.get("/product-service/api/products/1"));
+
+        // Then
+        assertEquals(1L, purged);
+        assertEquals(3, upstreamCalls.get());
+        assertEquals(2, edgeCache.size());
+    }
+
+    private MockServerWebExchange execute(final MockServerHttpRequest.BaseBuilder<?> request) {
+        MockServerWebExchange exchange = MockServerWebExchange.from(request);
+        exchange.getAttributes().put(GATEWAY_ROUTE_ATTR, route);
+        filter.filter(exchange, upstream()).block();
+        return exchange;
+    }
+
+    private GatewayFilterChain upstream() {
+        return exchange -> {
+            upstreamCalls.incrementAndGet();
+            ServerHttpResponse response = exchange.getResponse();
+            response.setStatusCode(HttpStatus.OK);
+            response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+            if (upstreamCacheControl != null)
+                response.getHeaders().setCacheControl(upstreamCacheControl);
+            return response.writeWith(Mono.just(response.bufferFactory().wrap(BODY.getBytes(StandardCharsets.UTF_8))));
+        };
+    }
+
+}
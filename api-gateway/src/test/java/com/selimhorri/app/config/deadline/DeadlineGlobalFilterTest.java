@@ -0,0 +1,65 @@
+package com.selimhorri.app.config.deadline;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+
+import reactor.core.publisher.Mono;
+
+class DeadlineGlobalFilterTest {
+
+    private final DeadlineGlobalFilter deadlineGlobalFilter = new DeadlineGlobalFilter(Duration.ofSeconds(10), Duration.ofSeconds(30));
+
+    private final AtomicReference<String> forwarded = new AtomicReference<>();
+
+    private final GatewayFilterChain upstream = exchange -> {
+        forwarded.set(exchange.getRequest().getHeaders().getFirst(DeadlineGlobalFilter.HEADER));
+        return Mono.empty();
+    };
+
+    @Test
+    void requestsWithoutBudgetGetTheDefaultOne() {
+        // When
+        deadlineGlobalFilter.filter(MockServerWebExchange.from(MockServerHttpRequest.get("/app/api/products")), upstream).block();
+
+        // Then
+        assertEquals("10000", forwarded.get());
+    }
+
+    @Test
+    void clientBudgetIsKeptWhenShorterAndCappedWhenLonger() {
+        // When
+        deadlineGlobalFilter.filter(MockServerWebExchange.from(MockServerHttpRequest.get("/app/api/products")
+                .header(DeadlineGlobalFilter.HEADER, "1500")), upstream).block();
+        final String shorter = forwarded.get();
+        deadlineGlobalFilter.filter(MockServerWebExchange.from(MockServerHttpRequest.get("/app/api/products")
+                .header(DeadlineGlobalFilter.HEADER, "600000")), upstream).block();
+
+        // Then
+        assertEquals("1500", shorter);
+        assertEquals("30000", forwarded.get());
+    }
+
+    @Test
+    void spentBudgetIsAnsweredWithoutRouting() {
+        // Given
+        final MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/app/api/products")
+                .header(DeadlineGlobalFilter.HEADER, "0"));
+
+        // When
+        deadlineGlobalFilter.filter(exchange, upstream).block();
+
+        // Then
+        assertEquals(HttpStatus.GATEWAY_TIMEOUT, exchange.getResponse().getStatusCode());
+        assertNull(forwarded.get());
+    }
+
+}
@@ -0,0 +1,161 @@
+package com.selimhorri.app.config.ratelimit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.springframework.cloud.gateway.support.ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR;
+
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Base64;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+class LocalRateLimitGatewayFilterFactoryTest {
+
+    private final GatewayFilterChain upstream = exchange -> {
+        exchange.getResponse().setStatusCode(HttpStatus.OK);
+        return exchange.getResponse().setComplete();
+    };
+
+    private static final InetSocketAddress ALICE = new InetSocketAddress("10.0.0.1", 50000);
+    private static final InetSocketAddress BOB = new InetSocketAddress("10.0.0.2", 50000);
+
+    private MeterRegistry meterRegistry;
+    private LoadShedder loadShedder;
+    private LocalRateLimitGatewayFilterFactory factory;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        loadShedder = new LoadShedder(meterRegistry, 10);
+        factory = new LocalRateLimitGatewayFilterFactory(new RateLimitConfig().tokenBuckets(1_000, Duration.ofMinutes(10)),
+                new ClientKeyResolver(), loadShedder, meterRegistry);
+    }
+
+    @Test
+    void exhaustedBucketAnswersTooManyRequestsWithRetryAfter() {
+        // Given
+        GatewayFilter filter = factory.apply(config(2, 0.5, Priority.STANDARD));
+
+        // When
+        MockServerWebExchange first = execute(filter, "PRODUCT-SERVICE", request().remoteAddress(ALICE), upstream);
+        MockServerWebExchange second = execute(filter, "PRODUCT-SERVICE", request().remoteAddress(ALICE), upstream);
+        MockServerWebExchange third = execute(filter, "PRODUCT-SERVICE", request().remoteAddress(ALICE), upstream);
+
+        // Then
+        assertEquals(HttpStatus.OK, first.getResponse().getStatusCode());
+        assertEquals(HttpStatus.OK, second.getResponse().getStatusCode());
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, third.getResponse().getStatusCode());
+        assertEquals("2", third.getResponse().getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+        assertEquals(1, meterRegistry.get(LocalRateLimitGatewayFilterFactory.METRIC_NAME).tag("reason", "quota").counter().count());
+    }
+
+    @Test
+    void bucketsArePerClientAndPerRoute() {
+        // Given
+        GatewayFilter filter = factory.apply(config(1, 0.1, Priority.STANDARD));
+
+        // When
+        MockServerWebExchange alice = execute(filter, "PRODUCT-SERVICE", request().remoteAddress(ALICE), upstream);
+        MockServerWebExchange bob = execute(filter, "PRODUCT-SERVICE", request().remoteAddress(BOB), upstream);
+        MockServerWebExchange aliceOnOtherRoute = execute(filter, "USER-SERVICE", request().remoteAddress(ALICE), upstream);
+        MockServerWebExchange aliceAgain = execute(filter, "PRODUCT-SERVICE", request().remoteAddress(ALICE), upstream);
+
+        // Then
+        assertEquals(HttpStatus.OK, alice.getResponse().getStatusCode());
+        assertEquals(HttpStatus.OK, bob.getResponse().getStatusCode());
+        assertEquals(HttpStatus.OK, aliceOnOtherRoute.getResponse().getStatusCode());
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, aliceAgain.getResponse().getStatusCode());
+    }
+
+    @Test
+    void unverifiedApiKeysAndSubjectsDoNotGetTheirOwnBucket() {
+        // Given
+        GatewayFilter filter = factory.apply(config(1, 0.1, Priority.STANDARD));
+
+        // When
+        MockServerWebExchange first = execute(filter, "PRODUCT-SERVICE", request().remoteAddress(ALICE)
+                .header("X-API-Key", "key-1").header(HttpHeaders.AUTHORIZATION, bearer("alice")), upstream);
+        MockServerWebExchange forged = execute(filter, "PRODUCT-SERVICE", request().remoteAddress(ALICE)
+                .header("X-API-Key", "key-2").header(HttpHeaders.AUTHORIZATION, bearer("mallory")), upstream);
+
+        // Then
+        assertEquals(HttpStatus.OK, first.getResponse().getStatusCode());
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, forged.getResponse().getStatusCode());
+    }
+
+    @Test
+    void browsingIsShedBeforeCheckoutUnderLoad() {
+        // Given
+        GatewayFilter browsing = factory.apply(config(100, 100, Priority.BROWSING));
+        GatewayFilter checkout = factory.apply(config(100, 100, Priority.CRITICAL));
+        Sinks.Empty<Void> pending = Sinks.empty();
+        GatewayFilterChain slowUpstream = exchange -> pending.asMono();
+        for (int i = 0; i < 6; i++)
+            browsing.filter(exchange("PRODUCT-SERVICE", request()), slowUpstream).subscribe();
+
+        // When
+        MockServerWebExchange shed = execute(browsing, "PRODUCT-SERVICE", request(), upstream);
+        MockServerWebExchange admitted = execute(checkout, "ORDER-SERVICE", request(), upstream);
+        pending.tryEmitEmpty();
+        MockServerWebExchange afterRelease = execute(browsing, "PRODUCT-SERVICE", request(), upstream);
+
+        // Then
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, shed.getResponse().getStatusCode());
+        assertEquals("1", shed.getResponse().getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+        assertEquals(HttpStatus.OK, admitted.getResponse().getStatusCode());
+        assertNull(admitted.getResponse().getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+        assertEquals(HttpStatus.OK, afterRelease.getResponse().getStatusCode());
+        assertEquals(0, meterRegistry.get("gateway.requests.in.flight").gauge().value());
+    }
+
+    private static LocalRateLimitGatewayFilterFactory.Config config(final long capacity, final double refillPerSecond, final Priority priority) {
+        LocalRateLimitGatewayFilterFactory.Config config = new LocalRateLimitGatewayFilterFactory.Config();
+        config.setCapacity(capacity);
+        config.setRefillPerSecond(refillPerSecond);
+        config.setPriority(priority);
+        return config;
+    }
+
+    private static MockServerHttpRequest.BaseBuilder<?> request() {
+        return MockServerHttpRequest.get("/product-service/api/products");
+    }
+
+    private static String bearer(final String subject) {
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        return "Bearer " + encoder.encodeToString("{\"alg\":\"HS256\"}".getBytes(StandardCharsets.UTF_8)) + "."
+                + encoder.encodeToString(("{\"sub\":\"" + subject + "\"}").getBytes(StandardCharsets.UTF_8)) + ".signature";
+    }
+
+    private static MockServerWebExchange exchange(final String routeId, final MockServerHttpRequest.BaseBuilder<?> request) {
+        MockServerWebExchange exchange = MockServerWebExchange.from(request);
+        exchange.getAttributes().put(GATEWAY_ROUTE_ATTR, Route.async()
+                .id(routeId)
+                .uri("lb://" + routeId)
+                .predicate(e -> true)
+                .build());
+        return exchange;
+    }
+
+    private static MockServerWebExchange execute(final GatewayFilter filter, final String routeId,
+            final MockServerHttpRequest.BaseBuilder<?> request, final GatewayFilterChain chain) {
+        MockServerWebExchange exchange = exchange(routeId, request);
+        filter.filter(exchange, chain).block();
+        return exchange;
+    }
+
+}
@@ -0,0 +1,86 @@
+package com.selimhorri.app.config.route;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cloud.gateway.config.GatewayProperties;
+import org.springframework.cloud.gateway.filter.FilterDefinition;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.route.RouteLocator;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+
+import reactor.core.publisher.Mono;
+
+@SpringBootTest(properties = {"SPRING_CONFIG_IMPORT=", "eureka.client.enabled=false"})
+class GatewayRoutesTest {
+
+    @Autowired
+    private RouteLocator routeLocator;
+
+    @Autowired
+    private GatewayProperties gatewayProperties;
+
+    @Test
+    void checkoutThroughTheProxyIsRoutedAheadOfTheCatchAllWithCriticalPriority() {
+        // Given
+        final String[] checkoutPaths = {"/app/api/orders/1", "/app/api/carts", "/app/api/payments/1"};
+
+        // When / Then
+        for (final String path : checkoutPaths) {
+            assertEquals("PROXY-CLIENT-CHECKOUT", this.routeFor(path), path);
+        }
+        assertEquals("CRITICAL", this.rateLimitPriority("PROXY-CLIENT-CHECKOUT"));
+    }
+
+    @Test
+    void otherProxyTrafficKeepsTheCatchAllRoute() {
+        // When
+        final String route = this.routeFor("/app/api/products/1");
+
+        // Then
+        assertEquals("PROXY-CLIENT", route);
+        assertEquals("STANDARD", this.rateLimitPriority("PROXY-CLIENT"));
+    }
+
+    @Test
+    void catalogCacheHitsAreServedAheadOfTheRateLimiter() {
+        // When
+        final List<String> filters = this.gatewayProperties.getRoutes().stream()
+                .filter(route -> route.getId().equals("PRODUCT-SERVICE"))
+                .flatMap(route -> route.getFilters().stream())
+                .map(FilterDefinition::getName)
+                .collect(Collectors.toList());
+
+        // Then
+        assertEquals(List.of("EdgeCache", "LocalRateLimit"), filters);
+    }
+
+    private String routeFor(final String path) {
+        final MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get(path));
+        return this.routeLocator.getRoutes()
+                .concatMap(route -> Mono.from(route.getPredicate().apply(exchange))
+                        .filter(Boolean::booleanValue)
+                        .map(matches -> route))
+                .next()
+                .map(Route::getId)
+                .block();
+    }
+
+    private String rateLimitPriority(final String routeId) {
+        return this.gatewayProperties.getRoutes().stream()
+                .filter(route -> route.getId().equals(routeId))
+                .flatMap(route -> route.getFilters().stream())
+                .filter(filter -> filter.getName().equals("LocalRateLimit"))
+                .map(FilterDefinition::getArgs)
+                .map(args -> args.get("_genkey_2"))
+                .findFirst()
+                .orElse(null);
+    }
+
+}
@@ -0,0 +1,62 @@
+package com.selimhorri.app.config.timing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.net.URI;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+
+import com.selimhorri.app.config.cache.EdgeCacheGatewayFilterFactory;
+
+class ServerTimingGlobalFilterTest {
+
+    private final ServerTimingGlobalFilter serverTimingGlobalFilter = new ServerTimingGlobalFilter();
+
+    @Test
+    void upstreamEntriesArePrefixedWithTheRoutedService() {
+        // Given
+        final MockServerWebExchange exchange = routed();
+
+        // When
+        serverTimingGlobalFilter.filter(exchange, e -> {
+            e.getResponse().getHeaders().add(ServerTimingGlobalFilter.HEADER, "user-service;dur=40.0, json;dur=1.5, total;dur=50.0");
+            return e.getResponse().setComplete();
+        }).block();
+
+        // Then
+        final String header = exchange.getResponse().getHeaders().getFirst(ServerTimingGlobalFilter.HEADER);
+        assertTrue(header.startsWith("proxy-client.user-service;dur=40.0, proxy-client.json;dur=1.5, proxy-client;dur=50.0, gateway;dur="));
+        assertTrue(header.contains(", total;dur="));
+    }
+
+    @Test
+    void cachedResponsesOnlyReportTheGateway() {
+        // Given
+        final MockServerWebExchange exchange = routed();
+        exchange.getResponse().getHeaders().add(ServerTimingGlobalFilter.HEADER, "db;dur=12.0, total;dur=15.0");
+        exchange.getResponse().getHeaders().set(EdgeCacheGatewayFilterFactory.CACHE_STATUS_HEADER, "HIT");
+
+        // When
+        final String header = ServerTimingGlobalFilter.aggregate(exchange, TimeUnit.MILLISECONDS.toNanos(2));
+
+        // Then
+        assertEquals("cache;desc=\"HIT\", gateway;dur=2.0, total;dur=2.0", header);
+    }
+
+    private static MockServerWebExchange routed() {
+        final MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/app/api/products"));
+        exchange.getAttributes().put(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR, Route.async()
+                .id("PROXY-CLIENT")
+                .uri(URI.create("lb://PROXY-CLIENT"))
+                .predicate(e -> true)
+                .build());
+        return exchange;
+    }
+
+}
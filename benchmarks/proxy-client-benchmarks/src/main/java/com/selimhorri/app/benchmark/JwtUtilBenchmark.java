@@ -0,0 +1,105 @@
+package com.selimhorri.app.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import com.selimhorri.app.business.user.model.CredentialDto;
+import com.selimhorri.app.business.user.model.RoleBasedAuthority;
+import com.selimhorri.app.business.user.model.UserDetailsImpl;
+import com.selimhorri.app.constant.AppConstant;
+import com.selimhorri.app.jwt.util.impl.JwtUtilImpl;
+
+/**
+ * {@link JwtUtilImpl} token generation, parsing and validation, with and without the claims cache
+ * and the embedded authorities.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtUtilBenchmark {
+	
+	@Param({ "false", "true" })
+	private boolean claimsCache;
+	
+	@Param({ "false", "true" })
+	private boolean embeddedAuthorities;
+	
+	private JwtUtilImpl jwtUtil;
+	private UserDetails userDetails;
+	private String token;
+	
+	@Setup
+	public void setUp() {
+		final DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+		if (this.claimsCache)
+			beanFactory.registerSingleton("cacheManager", new ConcurrentMapCacheManager(AppConstant.JWT_CACHE_NAME));
+		this.jwtUtil = new JwtUtilImpl(beanFactory.getBeanProvider(CacheManager.class), this.embeddedAuthorities);
+		this.userDetails = new UserDetailsImpl(CredentialDto.builder()
+				.credentialId(1)
+				.username("selimhorri")
+				.password("$2a$04$8D8OuqPbE5jMQCSgDrVNGe8Xs3K1FvKZGJoF0XOAZ3xlWPtc8Tp/e")
+				.roleBasedAuthority(RoleBasedAuthority.ROLE_USER)
+				.isEnabled(true)
+				.isAccountNonExpired(true)
+				.isAccountNonLocked(true)
+				.isCredentialsNonExpired(true)
+				.build());
+		this.token = this.jwtUtil.generateToken(this.userDetails);
+	}
+	
+	@Benchmark
+	public String generate() {
+		return this.jwtUtil.generateToken(this.userDetails);
+	}
+	
+	@Benchmark
+	public String parse() {
+		return this.jwtUtil.extractUsername(this.token);
+	}
+	
+	@Benchmark
+	public Boolean validate() {
+		return this.jwtUtil.validateToken(this.token, this.userDetails);
+	}
+	
+	/**
+	 * What the request filter does for every authenticated call.
+	 */
+	@Benchmark
+	public Boolean parseAndValidate() {
+		this.jwtUtil.extractUsername(this.token);
+		final UserDetails embedded = this.jwtUtil.extractUserDetails(this.token);
+		return this.jwtUtil.validateToken(this.token, (embedded != null) ? embedded : this.userDetails);
+	}
+
+
+
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,95 @@
+package com.selimhorri.app.benchmark;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.selimhorri.app.constant.AppConstant;
+import com.selimhorri.app.dto.OrderDto;
+
+/**
+ * The {@value AppConstant#LOCAL_DATE_TIME_FORMAT} pattern, parsed and formatted with a shared formatter,
+ * with one built per call, and through Jackson on the {@link OrderDto#getOrderDate()} field.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LocalDateTimeFormatBenchmark {
+	
+	private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern(AppConstant.LOCAL_DATE_TIME_FORMAT);
+	
+	private LocalDateTime dateTime;
+	private String text;
+	private ObjectMapper objectMapper;
+	private OrderDto orderDto;
+	private String orderJson;
+	
+	@Setup
+	public void setUp() throws JsonProcessingException {
+		this.dateTime = LocalDateTime.of(2021, 12, 5, 14, 30, 15, 123456000);
+		this.text = FORMATTER.format(this.dateTime);
+		this.objectMapper = Jackson2ObjectMapperBuilder.json().build();
+		this.orderDto = OrderDto.builder()
+				.orderId(1)
+				.orderDate(this.dateTime)
+				.orderDesc("init")
+				.orderFee(5000.0)
+				.build();
+		this.orderJson = this.objectMapper.writeValueAsString(this.orderDto);
+	}
+	
+	@Benchmark
+	public LocalDateTime parseWithSharedFormatter() {
+		return LocalDateTime.parse(this.text, FORMATTER);
+	}
+	
+	@Benchmark
+	public LocalDateTime parseWithNewFormatter() {
+		return LocalDateTime.parse(this.text, DateTimeFormatter.ofPattern(AppConstant.LOCAL_DATE_TIME_FORMAT));
+	}
+	
+	@Benchmark
+	public String format() {
+		return FORMATTER.format(this.dateTime);
+	}
+	
+	@Benchmark
+	public OrderDto deserializeOrder() throws JsonProcessingException {
+		return this.objectMapper.readValue(this.orderJson, OrderDto.class);
+	}
+	
+	@Benchmark
+	public String serializeOrder() throws JsonProcessingException {
+		return this.objectMapper.writeValueAsString(this.orderDto);
+	}
+
+
+
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,71 @@
+package com.selimhorri.app.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.selimhorri.app.domain.OrderItem;
+import com.selimhorri.app.domain.id.OrderItemId;
+import com.selimhorri.app.dto.OrderItemDto;
+import com.selimhorri.app.helper.OrderItemMappingHelper;
+
+/**
+ * {@link OrderItemMappingHelper} in both directions.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OrderItemMappingHelperBenchmark {
+	
+	private OrderItem orderItem;
+	private OrderItemDto orderItemDto;
+	
+	@Setup
+	public void setUp() {
+		this.orderItem = OrderItem.builder()
+				.orderItemId(new OrderItemId(1, 1))
+				.orderedQuantity(3)
+				.build();
+		this.orderItemDto = OrderItemMappingHelper.map(this.orderItem);
+	}
+	
+	@Benchmark
+	public OrderItemDto toDto() {
+		return OrderItemMappingHelper.map(this.orderItem);
+	}
+	
+	@Benchmark
+	public OrderItem toEntity() {
+		return OrderItemMappingHelper.map(this.orderItemDto);
+	}
+	
+	@Benchmark
+	public OrderItem roundTrip() {
+		return OrderItemMappingHelper.map(OrderItemMappingHelper.map(this.orderItem));
+	}
+
+
+
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,78 @@
+package com.selimhorri.app.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.selimhorri.app.dto.UserDto;
+import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
+import com.selimhorri.app.helper.UserMappingHelper;
+
+/**
+ * Jackson serialisation of a {@link DtoCollectionResponse} of users, as GET /api/users writes it,
+ * with the Spring Boot default mapper either compact or indented.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DtoCollectionResponseSerializationBenchmark {
+	
+	@Param({ "10", "1000", "100000" })
+	private int size;
+	
+	@Param({ "compact", "indented" })
+	private String layout;
+	
+	private ObjectWriter writer;
+	private DtoCollectionResponse<UserDto> response;
+	
+	@Setup
+	public void setUp() {
+		this.writer = Jackson2ObjectMapperBuilder.json()
+				.indentOutput("indented".equals(this.layout))
+				.build()
+				.writer();
+		final List<UserDto> userDtos = IntStream.rangeClosed(1, this.size)
+				.mapToObj(UserMappingHelperBenchmark::user)
+				.map(UserMappingHelper::map)
+				.collect(Collectors.toUnmodifiableList());
+		this.response = new DtoCollectionResponse<>(userDtos);
+	}
+	
+	@Benchmark
+	public byte[] serialize() throws JsonProcessingException {
+		return this.writer.writeValueAsBytes(this.response);
+	}
+
+
+
+}
+
+
+
+
+
+
+
+
+
+
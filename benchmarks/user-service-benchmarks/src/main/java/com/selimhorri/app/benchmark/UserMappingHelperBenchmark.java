@@ -0,0 +1,90 @@
+package com.selimhorri.app.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.selimhorri.app.domain.Credential;
+import com.selimhorri.app.domain.RoleBasedAuthority;
+import com.selimhorri.app.domain.User;
+import com.selimhorri.app.dto.UserDto;
+import com.selimhorri.app.helper.UserMappingHelper;
+
+/**
+ * {@link UserMappingHelper} in both directions, the user carries its credential as on every lookup.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UserMappingHelperBenchmark {
+	
+	private User user;
+	private UserDto userDto;
+	
+	@Setup
+	public void setUp() {
+		this.user = user(1);
+		this.userDto = UserMappingHelper.map(this.user);
+	}
+	
+	static User user(final int userId) {
+		return User.builder()
+				.userId(userId)
+				.firstName("selim")
+				.lastName("horri")
+				.imageUrl("https://bootdey.com/img/Content/avatar/avatar7.png")
+				.email("selim" + userId + "@gmail.com")
+				.phone("+21622125144")
+				.credential(Credential.builder()
+						.credentialId(userId)
+						.username("selimhorri" + userId)
+						.password("$2a$04$8D8OuqPbE5jMQCSgDrVNGe8Xs3K1FvKZGJoF0XOAZ3xlWPtc8Tp/e")
+						.roleBasedAuthority(RoleBasedAuthority.ROLE_USER)
+						.isEnabled(true)
+						.isAccountNonExpired(true)
+						.isAccountNonLocked(true)
+						.isCredentialsNonExpired(true)
+						.build())
+				.build();
+	}
+	
+	@Benchmark
+	public UserDto toDto() {
+		return UserMappingHelper.map(this.user);
+	}
+	
+	@Benchmark
+	public User toEntity() {
+		return UserMappingHelper.map(this.userDto);
+	}
+	
+	@Benchmark
+	public User roundTrip() {
+		return UserMappingHelper.map(UserMappingHelper.map(this.user));
+	}
+
+
+
+}
+
+
+
+
+
+
+
+
+
+
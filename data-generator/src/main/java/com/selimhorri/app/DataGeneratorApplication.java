@@ -0,0 +1,26 @@
+package com.selimhorri.app;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+
+import com.selimhorri.app.config.GeneratorProperties;
+
+@SpringBootApplication(exclude = DataSourceAutoConfiguration.class)
+@EnableConfigurationProperties(GeneratorProperties.class)
+public class DataGeneratorApplication {
+	
+	public static void main(String[] args) {
+		SpringApplication.run(DataGeneratorApplication.class, args);
+	}
+
+
+
+}
+
+
+
+
+
+
@@ -0,0 +1,79 @@
+package com.selimhorri.app.config;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+/**
+ * Scale and destination of a generated dataset, bound from the generator.* properties.
+ */
+@Data
+@ConfigurationProperties(prefix = "generator")
+public class GeneratorProperties {
+	
+	public enum Output {
+		JDBC, FILES
+	}
+	
+	private long seed = 42;
+	private Output output = Output.JDBC;
+	private int batchSize = 1000;
+	private String password = "generated";
+	private int historyDays = 365;
+	private Scale scale = new Scale();
+	private Files files = new Files();
+	private Map<String, Target> targets = new LinkedHashMap<>();
+	
+	@Data
+	public static class Scale {
+		
+		private int users = 1000;
+		private int addressesPerUser = 2;
+		private int rootCategories = 5;
+		private int subcategories = 4;
+		private int categoryDepth = 3;
+		private int products = 2000;
+		private int cartsPerUser = 1;
+		private long orders = 5000;
+		private int itemsPerOrder = 3;
+		private double paymentRatio = 0.9;
+		private int favouritesPerUser = 5;
+		private double skew = 2.0;
+	
+	}
+	
+	@Data
+	public static class Files {
+		
+		private Path directory = Paths.get("target", "dataset");
+		private long idOffset = 100;
+	
+	}
+	
+	@Data
+	public static class Target {
+		
+		private String url;
+		private String username;
+		private String password;
+	
+	}
+
+
+
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,287 @@
+package com.selimhorri.app.generator;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import com.selimhorri.app.config.GeneratorProperties;
+import com.selimhorri.app.config.GeneratorProperties.Scale;
+import com.selimhorri.app.sink.TableSink;
+import com.selimhorri.app.sink.TableSink.RowWriter;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Streams a referentially consistent dataset into a {@link TableSink}, table by table in foreign key order.
+ * Every row draws from its own random seeded with (seed, table, index), ids are plain offsets from the
+ * last stored id, so the same seed and scale always give the same dataset and nothing is kept in memory.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DatasetGenerator {
+	
+	public static final String USER_SERVICE = "user-service";
+	public static final String PRODUCT_SERVICE = "product-service";
+	public static final String FAVOURITE_SERVICE = "favourite-service";
+	public static final String ORDER_SERVICE = "order-service";
+	public static final String SHIPPING_SERVICE = "shipping-service";
+	public static final String PAYMENT_SERVICE = "payment-service";
+	
+	private static final int USERS = 1;
+	private static final int ADDRESSES = 2;
+	private static final int PRODUCTS = 3;
+	private static final int FAVOURITES = 4;
+	private static final int ORDERS = 5;
+	private static final int ORDER_ITEMS = 6;
+	private static final int PAYMENTS = 7;
+	
+	private static final String[] FIRST_NAMES = { "selim", "amine", "omar", "sarra", "yasmine", "ines", "karim", 
+			"leila", "youssef", "nour", "mehdi", "salma", "ali", "rania", "hatem", "mariem" };
+	private static final String[] LAST_NAMES = { "horri", "ben ali", "trabelsi", "gharbi", "jlassi", "mansour", 
+			"haddad", "sassi", "bouazizi", "chaabane", "dridi", "ayari" };
+	private static final String[] CITIES = { "Tunis", "Sfax", "Sousse", "Nabeul", "Bizerte", "Monastir", 
+			"Kairouan", "Gabes", "Ariana", "Mahdia" };
+	private static final String[] STREETS = { "Avenue Habib Bourguiba", "Rue de Marseille", "Rue de Rome", 
+			"Avenue de la Liberte", "Rue Ibn Khaldoun", "Avenue Mohamed V", "Rue de Palestine" };
+	private static final String[] CATEGORIES = { "Computer", "Mode", "Game", "Home", "Sport", "Books", 
+			"Garden", "Beauty", "Toys", "Music" };
+	private static final String[] ADJECTIVES = { "Classic", "Smart", "Compact", "Pro", "Ultra", "Eco", 
+			"Premium", "Mini", "Wireless", "Vintage" };
+	private static final String[] NOUNS = { "laptop", "headphones", "jacket", "console", "chair", "watch", 
+			"backpack", "lamp", "keyboard", "shoes", "camera", "speaker" };
+	private static final String[] ORDER_DESCRIPTIONS = { "init", "gift", "express delivery", "weekly groceries", 
+			"back to school", "birthday" };
+	
+	private final GeneratorProperties properties;
+	
+	/**
+	 * @return the number of rows written, by table
+	 */
+	public Map<String, Long> generate(final TableSink sink) {
+		final Scale scale = this.properties.getScale();
+		final Map<String, Long> counts = new LinkedHashMap<>();
+		final LocalDateTime now = LocalDateTime.now().withNano(0);
+		
+		final long userBase = sink.lastId(USER_SERVICE, "users", "user_id");
+		final long credentialBase = sink.lastId(USER_SERVICE, "credentials", "credential_id");
+		final long addressBase = sink.lastId(USER_SERVICE, "address", "address_id");
+		final long categoryBase = sink.lastId(PRODUCT_SERVICE, "categories", "category_id");
+		final long productBase = sink.lastId(PRODUCT_SERVICE, "products", "product_id");
+		final long cartBase = sink.lastId(ORDER_SERVICE, "carts", "cart_id");
+		final long orderBase = sink.lastId(ORDER_SERVICE, "orders", "order_id");
+		final long paymentBase = sink.lastId(PAYMENT_SERVICE, "payments", "payment_id");
+		
+		// user-service
+		try (final RowWriter users = this.open(sink, USER_SERVICE, "users", "user_id", 
+				"user_id", "first_name", "last_name", "image_url", "email", "phone")) {
+			for (long i = 0; i < scale.getUsers(); i++) {
+				final SplittableRandom random = this.random(USERS, i);
+				final long userId = userBase + 1 + i;
+				final String firstName = pick(random, FIRST_NAMES);
+				final String lastName = pick(random, LAST_NAMES);
+				users.write(userId, capitalize(firstName), capitalize(lastName), 
+						"https://bootdey.com/img/Content/avatar/avatar" + (1 + random.nextInt(8)) + ".png", 
+						firstName + "." + lastName.replace(' ', '.') + userId + "@example.com", 
+						String.format("+216%08d", random.nextInt(100_000_000)));
+			}
+			this.done(users, "users", counts);
+		}
+		
+		// one hash for all, bcrypt is far slower than everything else put together
+		final String password = new BCryptPasswordEncoder().encode(this.properties.getPassword());
+		try (final RowWriter credentials = this.open(sink, USER_SERVICE, "credentials", "credential_id", 
+				"credential_id", "user_id", "username", "password", "role", "is_enabled", "is_account_non_expired", 
+				"is_account_non_locked", "is_credentials_non_expired")) {
+			for (long i = 0; i < scale.getUsers(); i++)
+				credentials.write(credentialBase + 1 + i, userBase + 1 + i, "user" + (userBase + 1 + i), password, 
+						"ROLE_USER", true, true, true, true);
+			this.done(credentials, "credentials", counts);
+		}
+		
+		try (final RowWriter addresses = this.open(sink, USER_SERVICE, "address", "address_id", 
+				"address_id", "user_id", "full_address", "postal_code", "city")) {
+			long addressId = addressBase;
+			for (long i = 0; i < scale.getUsers(); i++) {
+				final SplittableRandom random = this.random(ADDRESSES, i);
+				final int count = random.nextInt(2 * scale.getAddressesPerUser() + 1);
+				for (int j = 0; j < count; j++)
+					addresses.write(++addressId, userBase + 1 + i, 
+							(1 + random.nextInt(200)) + " " + pick(random, STREETS), 
+							String.format("%04d", 1000 + random.nextInt(9000)), pick(random, CITIES));
+			}
+			this.done(addresses, "address", counts);
+		}
+		
+		// product-service, categories as a tree of rootCategories roots, subcategories children each, categoryDepth levels
+		final long leafCategories = scale.getRootCategories() * pow(scale.getSubcategories(), scale.getCategoryDepth() - 1);
+		long leafStart = 0;
+		try (final RowWriter categories = this.open(sink, PRODUCT_SERVICE, "categories", "category_id", 
+				"category_id", "parent_category_id", "category_title", "image_url")) {
+			long parentStart = 0;
+			long levelStart = 0;
+			long levelSize = scale.getRootCategories();
+			for (int level = 0; level < scale.getCategoryDepth(); level++) {
+				for (long k = 0; k < levelSize; k++) {
+					final long index = levelStart + k;
+					final Long parentId = (level == 0) ? null : categoryBase + 1 + parentStart + k / scale.getSubcategories();
+					categories.write(categoryBase + 1 + index, parentId, 
+							CATEGORIES[(int) (index % CATEGORIES.length)] + " " + (index + 1), null);
+				}
+				leafStart = levelStart;
+				parentStart = levelStart;
+				levelStart += levelSize;
+				levelSize *= scale.getSubcategories();
+			}
+			this.done(categories, "categories", counts);
+		}
+		
+		try (final RowWriter products = this.open(sink, PRODUCT_SERVICE, "products", "product_id", 
+				"product_id", "category_id", "product_title", "image_url", "sku", "price_unit", "quantity")) {
+			for (long i = 0; i < scale.getProducts(); i++) {
+				final SplittableRandom random = this.random(PRODUCTS, i);
+				final long productId = productBase + 1 + i;
+				products.write(productId, categoryBase + 1 + leafStart + random.nextLong(leafCategories), 
+						pick(random, ADJECTIVES) + " " + pick(random, NOUNS) + " " + productId, null, 
+						String.format("SKU-%010d", productId), BigDecimal.valueOf(100 + random.nextInt(499_900), 2), 
+						random.nextInt(501));
+			}
+			this.done(products, "products", counts);
+		}
+		
+		// favourite-service
+		try (final RowWriter favourites = this.open(sink, FAVOURITE_SERVICE, "favourites", null, 
+				"user_id", "product_id", "like_date")) {
+			final Set<Long> liked = new HashSet<>();
+			for (long i = 0; i < scale.getUsers(); i++) {
+				final SplittableRandom random = this.random(FAVOURITES, i);
+				final int count = (int) Math.min(random.nextInt(2 * scale.getFavouritesPerUser() + 1), scale.getProducts());
+				liked.clear();
+				while (liked.size() < count) {
+					final long product = this.skewed(random, scale.getProducts());
+					if (liked.add(product))
+						favourites.write(userBase + 1 + i, productBase + 1 + product, this.before(random, now));
+				}
+			}
+			this.done(favourites, "favourites", counts);
+		}
+		
+		// order-service, cart j of user i is cart i * cartsPerUser + j
+		final long carts = (long) scale.getUsers() * scale.getCartsPerUser();
+		try (final RowWriter cartWriter = this.open(sink, ORDER_SERVICE, "carts", "cart_id", "cart_id", "user_id")) {
+			for (long i = 0; i < carts; i++)
+				cartWriter.write(cartBase + 1 + i, userBase + 1 + i / scale.getCartsPerUser());
+			this.done(cartWriter, "carts", counts);
+		}
+		
+		try (final RowWriter orders = this.open(sink, ORDER_SERVICE, "orders", "order_id", 
+				"order_id", "cart_id", "order_date", "order_desc", "order_fee")) {
+			for (long i = 0; i < scale.getOrders(); i++) {
+				final SplittableRandom random = this.random(ORDERS, i);
+				orders.write(orderBase + 1 + i, cartBase + 1 + this.skewed(random, carts), this.before(random, now), 
+						pick(random, ORDER_DESCRIPTIONS), BigDecimal.valueOf(100 + random.nextInt(199_900), 2));
+			}
+			this.done(orders, "orders", counts);
+		}
+		
+		// shipping-service
+		try (final RowWriter orderItems = this.open(sink, SHIPPING_SERVICE, "order_items", null, 
+				"product_id", "order_id", "ordered_quantity")) {
+			final Set<Long> ordered = new HashSet<>();
+			for (long i = 0; i < scale.getOrders(); i++) {
+				final SplittableRandom random = this.random(ORDER_ITEMS, i);
+				final int count = (int) Math.min(1 + random.nextInt(Math.max(1, 2 * scale.getItemsPerOrder() - 1)), 
+						scale.getProducts());
+				ordered.clear();
+				while (ordered.size() < count) {
+					final long product = this.skewed(random, scale.getProducts());
+					if (ordered.add(product))
+						orderItems.write(productBase + 1 + product, orderBase + 1 + i, 1 + random.nextInt(5));
+				}
+			}
+			this.done(orderItems, "order_items", counts);
+		}
+		
+		// payment-service, most of the history is paid, the recent tail is still in progress
+		try (final RowWriter payments = this.open(sink, PAYMENT_SERVICE, "payments", "payment_id", 
+				"payment_id", "order_id", "is_payed", "payment_status")) {
+			long paymentId = paymentBase;
+			for (long i = 0; i < scale.getOrders(); i++) {
+				final SplittableRandom random = this.random(PAYMENTS, i);
+				if (random.nextDouble() >= scale.getPaymentRatio())
+					continue;
+				final double status = random.nextDouble();
+				if (status < 0.8)
+					payments.write(++paymentId, orderBase + 1 + i, true, "COMPLETED");
+				else
+					payments.write(++paymentId, orderBase + 1 + i, false, (status < 0.95) ? "IN_PROGRESS" : "NOT_STARTED");
+			}
+			this.done(payments, "payments", counts);
+		}
+		
+		return counts;
+	}
+	
+	private RowWriter open(final TableSink sink, final String service, final String table, final String idColumn, 
+			final String... columns) {
+		log.info("** Generating {}.{}*", service, table);
+		return sink.open(service, table, idColumn, List.of(columns));
+	}
+	
+	private void done(final RowWriter writer, final String table, final Map<String, Long> counts) {
+		counts.put(table, writer.count());
+		log.info("** {} {} rows*", writer.count(), table);
+	}
+	
+	private SplittableRandom random(final int table, final long index) {
+		return new SplittableRandom((this.properties.getSeed() * 0x9E3779B97F4A7C15L) ^ ((long) table << 40) ^ index);
+	}
+	
+	/**
+	 * Index in [0, n), the lower ones more likely as the skew grows, so a few carts and products are hot.
+	 */
+	private long skewed(final SplittableRandom random, final long n) {
+		return Math.min(n - 1, (long) (n * Math.pow(random.nextDouble(), this.properties.getScale().getSkew())));
+	}
+	
+	private LocalDateTime before(final SplittableRandom random, final LocalDateTime now) {
+		return now.minusSeconds(random.nextLong(this.properties.getHistoryDays() * 86_400L));
+	}
+	
+	private static String pick(final SplittableRandom random, final String[] values) {
+		return values[random.nextInt(values.length)];
+	}
+	
+	private static String capitalize(final String value) {
+		return Character.toUpperCase(value.charAt(0)) + value.substring(1);
+	}
+	
+	private static long pow(final long base, final int exponent) {
+		long result = 1;
+		for (int i = 0; i < exponent; i++)
+			result *= base;
+		return result;
+	}
+
+
+
+}
+
+
+
+
+
+
+
+
+
+
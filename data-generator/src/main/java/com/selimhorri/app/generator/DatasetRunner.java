@@ -0,0 +1,62 @@
+package com.selimhorri.app.generator;
+
+import java.util.Map;
+
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+import com.selimhorri.app.config.GeneratorProperties;
+import com.selimhorri.app.config.GeneratorProperties.Output;
+import com.selimhorri.app.sink.CsvTableSink;
+import com.selimhorri.app.sink.JdbcTableSink;
+import com.selimhorri.app.sink.TableSink;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Generates the configured dataset once at startup, into the targets or into load files.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DatasetRunner implements ApplicationRunner {
+	
+	private final GeneratorProperties properties;
+	private final DatasetGenerator datasetGenerator;
+	
+	@Override
+	public void run(final ApplicationArguments args) {
+		final long start = System.nanoTime();
+		final Map<String, Long> counts;
+		try (final TableSink sink = this.sink()) {
+			counts = this.datasetGenerator.generate(sink);
+		}
+		final long rows = counts.values().stream().mapToLong(Long::longValue).sum();
+		final double seconds = (System.nanoTime() - start) / 1e9;
+		log.info("** Generated {} rows in {} s ({} rows/s) with seed {}: {}*", rows, String.format("%.1f", seconds), 
+				Math.round(rows / seconds), this.properties.getSeed(), counts);
+	}
+	
+	private TableSink sink() {
+		if (this.properties.getOutput() == Output.FILES) {
+			log.info("** Writing load files to {}*", this.properties.getFiles().getDirectory().toAbsolutePath());
+			return new CsvTableSink(this.properties.getFiles().getDirectory(), this.properties.getFiles().getIdOffset());
+		}
+		return new JdbcTableSink(this.properties.getTargets(), this.properties.getBatchSize());
+	}
+
+
+
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,167 @@
+package com.selimhorri.app.sink;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes one CSV file per table under directory/service, with the load-mysql.sql ({@code LOAD DATA LOCAL INFILE})
+ * and load-h2.sql ({@code CSVREAD}) scripts that bulk load them. Ids start after the configured offset
+ * instead of the content of a database.
+ */
+public class CsvTableSink implements TableSink {
+	
+	private static final String NULL = "\\N";
+	private static final DateTimeFormatter TIMESTAMP = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+	
+	private final Path directory;
+	private final long idOffset;
+	private final Map<String, List<String>> mysqlScripts = new LinkedHashMap<>();
+	private final Map<String, List<String>> h2Scripts = new LinkedHashMap<>();
+	
+	public CsvTableSink(final Path directory, final long idOffset) {
+		this.directory = directory.toAbsolutePath();
+		this.idOffset = idOffset;
+	}
+	
+	@Override
+	public long lastId(final String service, final String table, final String idColumn) {
+		return this.idOffset;
+	}
+	
+	@Override
+	public RowWriter open(final String service, final String table, final String idColumn, final List<String> columns) {
+		try {
+			final Path file = Files.createDirectories(this.directory.resolve(service)).resolve(table + ".csv");
+			final BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8);
+			writer.write(String.join(",", columns));
+			writer.write('\n');
+			return new CsvWriter(service, table, idColumn, columns, file, writer);
+		}
+		catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+	
+	/**
+	 * Writes the load scripts of every service, tables in the order they were generated so that
+	 * foreign keys are satisfied.
+	 */
+	@Override
+	public void close() {
+		try {
+			for (final String service : this.mysqlScripts.keySet()) {
+				Files.write(this.directory.resolve(service).resolve("load-mysql.sql"), this.mysqlScripts.get(service));
+				Files.write(this.directory.resolve(service).resolve("load-h2.sql"), this.h2Scripts.get(service));
+			}
+		}
+		catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+	
+	private static String format(final Object value) {
+		if (value == null)
+			return NULL;
+		if (value instanceof Boolean)
+			return ((Boolean) value) ? "1" : "0";
+		if (value instanceof LocalDateTime)
+			return TIMESTAMP.format((LocalDateTime) value);
+		final String text = value.toString();
+		return (text.indexOf(',') >= 0 || text.indexOf('"') >= 0 || text.indexOf('\n') >= 0) ?
+				'"' + text.replace("\"", "\"\"") + '"' : text;
+	}
+	
+	private final class CsvWriter implements RowWriter {
+		
+		private final String service;
+		private final String table;
+		private final String idColumn;
+		private final int idIndex;
+		private final List<String> columns;
+		private final Path file;
+		private final BufferedWriter writer;
+		private long count;
+		private long maxId;
+		
+		private CsvWriter(final String service, final String table, final String idColumn, final List<String> columns, 
+				final Path file, final BufferedWriter writer) {
+			this.service = service;
+			this.table = table;
+			this.idColumn = idColumn;
+			this.idIndex = (idColumn == null) ? -1 : columns.indexOf(idColumn);
+			this.columns = columns;
+			this.file = file;
+			this.writer = writer;
+		}
+		
+		@Override
+		public void write(final Object... values) {
+			try {
+				for (int i = 0; i < values.length; i++) {
+					if (i > 0)
+						this.writer.write(',');
+					this.writer.write(format(values[i]));
+				}
+				this.writer.write('\n');
+				if (this.idIndex >= 0)
+					this.maxId = Math.max(this.maxId, ((Number) values[this.idIndex]).longValue());
+				this.count++;
+			}
+			catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		}
+		
+		@Override
+		public long count() {
+			return this.count;
+		}
+		
+		@Override
+		public void close() {
+			try {
+				this.writer.close();
+			}
+			catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+			final String columnList = String.join(", ", this.columns);
+			final List<String> mysql = mysqlScripts.computeIfAbsent(this.service, k -> new ArrayList<>());
+			final List<String> h2 = h2Scripts.computeIfAbsent(this.service, k -> new ArrayList<>());
+			mysql.add(String.format("LOAD DATA LOCAL INFILE '%s' INTO TABLE %s CHARACTER SET utf8mb4 "
+					+ "FIELDS TERMINATED BY ',' OPTIONALLY ENCLOSED BY '\"' LINES TERMINATED BY '\\n' IGNORE 1 LINES (%s);", 
+					this.file, this.table, columnList));
+			// CSVREAD unescapes backslashes in its options
+			h2.add(String.format("INSERT INTO %s (%s) SELECT * FROM CSVREAD('%s', NULL, 'charset=UTF-8 null=%s');", 
+					this.table, columnList, this.file, NULL.replace("\\", "\\\\")));
+			if (this.maxId > 0) {
+				mysql.add(String.format("ALTER TABLE %s AUTO_INCREMENT = %d;", this.table, this.maxId + 1));
+				h2.add(String.format("ALTER TABLE %s ALTER COLUMN %s RESTART WITH %d;", this.table, this.idColumn, this.maxId + 1));
+			}
+		}
+	
+	}
+
+
+
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,179 @@
+package com.selimhorri.app.sink;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.springframework.jdbc.UncategorizedSQLException;
+
+import com.selimhorri.app.config.GeneratorProperties.Target;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Writes straight into the service databases with JDBC batch inserts, committed every batch.
+ * One connection per target, so services sharing a database still get their own transaction.
+ */
+@Slf4j
+public class JdbcTableSink implements TableSink {
+	
+	private final Map<String, Target> targets;
+	private final int batchSize;
+	private final Map<String, Connection> connections = new HashMap<>();
+	
+	public JdbcTableSink(final Map<String, Target> targets, final int batchSize) {
+		this.targets = targets;
+		this.batchSize = batchSize;
+	}
+	
+	@Override
+	public long lastId(final String service, final String table, final String idColumn) {
+		final String sql = String.format("SELECT COALESCE(MAX(%s), 0) FROM %s", idColumn, table);
+		try (final Statement statement = this.connection(service).createStatement();
+				final ResultSet resultSet = statement.executeQuery(sql)) {
+			resultSet.next();
+			return resultSet.getLong(1);
+		}
+		catch (SQLException e) {
+			throw new UncategorizedSQLException("last id of " + table, sql, e);
+		}
+	}
+	
+	@Override
+	public RowWriter open(final String service, final String table, final String idColumn, final List<String> columns) {
+		final String sql = String.format("INSERT INTO %s (%s) VALUES (%s)", table, String.join(", ", columns), 
+				columns.stream().map(column -> "?").collect(Collectors.joining(", ")));
+		try {
+			final Connection connection = this.connection(service);
+			return new BatchWriter(connection, connection.prepareStatement(sql), table, sql, 
+					(idColumn == null) ? -1 : columns.indexOf(idColumn), idColumn);
+		}
+		catch (SQLException e) {
+			throw new UncategorizedSQLException("insert into " + table, sql, e);
+		}
+	}
+	
+	@Override
+	public void close() {
+		this.connections.forEach((service, connection) -> {
+			try {
+				connection.close();
+			}
+			catch (SQLException e) {
+				log.warn("** Closing the {} connection failed: {}*", service, e.getMessage());
+			}
+		});
+		this.connections.clear();
+	}
+	
+	private Connection connection(final String service) throws SQLException {
+		Connection connection = this.connections.get(service);
+		if (connection == null) {
+			final Target target = this.targets.get(service);
+			if (target == null)
+				throw new IllegalArgumentException("No generator.targets." + service + " configured");
+			connection = DriverManager.getConnection(target.getUrl(), target.getUsername(), target.getPassword());
+			connection.setAutoCommit(false);
+			this.connections.put(service, connection);
+		}
+		return connection;
+	}
+	
+	private final class BatchWriter implements RowWriter {
+		
+		private final Connection connection;
+		private final PreparedStatement statement;
+		private final String table;
+		private final String sql;
+		private final int idIndex;
+		private final String idColumn;
+		private long count;
+		private int pending;
+		private long maxId;
+		
+		private BatchWriter(final Connection connection, final PreparedStatement statement, final String table, 
+				final String sql, final int idIndex, final String idColumn) {
+			this.connection = connection;
+			this.statement = statement;
+			this.table = table;
+			this.sql = sql;
+			this.idIndex = idIndex;
+			this.idColumn = idColumn;
+		}
+		
+		@Override
+		public void write(final Object... values) {
+			try {
+				for (int i = 0; i < values.length; i++)
+					this.statement.setObject(i + 1, (values[i] instanceof LocalDateTime) ?
+							Timestamp.valueOf((LocalDateTime) values[i]) : values[i]);
+				this.statement.addBatch();
+				if (this.idIndex >= 0)
+					this.maxId = Math.max(this.maxId, ((Number) values[this.idIndex]).longValue());
+				this.count++;
+				if (++this.pending == batchSize)
+					this.flush();
+			}
+			catch (SQLException e) {
+				throw new UncategorizedSQLException("insert into " + this.table, this.sql, e);
+			}
+		}
+		
+		@Override
+		public long count() {
+			return this.count;
+		}
+		
+		private void flush() throws SQLException {
+			if (this.pending > 0) {
+				this.statement.executeBatch();
+				this.connection.commit();
+				this.pending = 0;
+			}
+		}
+		
+		/**
+		 * Rows were inserted with explicit ids, the identity has to skip them for the services' own inserts.
+		 */
+		@Override
+		public void close() {
+			try (final Statement restart = this.connection.createStatement()) {
+				this.flush();
+				this.statement.close();
+				if (this.maxId > 0) {
+					final boolean mysql = this.connection.getMetaData().getDatabaseProductName().startsWith("MySQL");
+					restart.execute(mysql ?
+							String.format("ALTER TABLE %s AUTO_INCREMENT = %d", this.table, this.maxId + 1) :
+							String.format("ALTER TABLE %s ALTER COLUMN %s RESTART WITH %d", this.table, this.idColumn, this.maxId + 1));
+					this.connection.commit();
+				}
+			}
+			catch (SQLException e) {
+				throw new UncategorizedSQLException("insert into " + this.table, this.sql, e);
+			}
+		}
+	
+	}
+
+
+
+}
+
+
+
+
+
+
+
+
+
+
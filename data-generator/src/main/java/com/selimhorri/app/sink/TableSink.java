@@ -0,0 +1,49 @@
+package com.selimhorri.app.sink;
+
+import java.util.List;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * Destination of the generated rows, one table of one service at a time.
+ */
+public interface TableSink extends AutoCloseable {
+	
+	/**
+	 * Highest id already stored in the table, generated ids start right after it.
+	 */
+	long lastId(final String service, final String table, final String idColumn);
+	
+	/**
+	 * Opens the table for writing, values are then given in the order of the columns. When the table
+	 * has an auto increment idColumn, it is moved past the written ids once the writer is closed.
+	 */
+	RowWriter open(final String service, final String table, @Nullable final String idColumn, final List<String> columns);
+	
+	@Override
+	void close();
+	
+	interface RowWriter extends AutoCloseable {
+		
+		void write(final Object... values);
+		
+		long count();
+		
+		@Override
+		void close();
+	
+	}
+
+
+
+}
+
+
+
+
+
+
+
+
+
+
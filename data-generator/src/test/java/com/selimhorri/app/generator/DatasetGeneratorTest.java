@@ -0,0 +1,174 @@
+package com.selimhorri.app.generator;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.selimhorri.app.config.GeneratorProperties;
+import com.selimhorri.app.config.GeneratorProperties.Target;
+import com.selimhorri.app.sink.CsvTableSink;
+import com.selimhorri.app.sink.JdbcTableSink;
+
+class DatasetGeneratorTest {
+
+    private static final List<String> SERVICES = List.of(DatasetGenerator.USER_SERVICE, DatasetGenerator.PRODUCT_SERVICE,
+            DatasetGenerator.FAVOURITE_SERVICE, DatasetGenerator.ORDER_SERVICE, DatasetGenerator.SHIPPING_SERVICE,
+            DatasetGenerator.PAYMENT_SERVICE);
+
+    private GeneratorProperties properties;
+
+    private Map<String, Target> targets;
+
+    @BeforeEach
+    void setUp() {
+        properties = new GeneratorProperties();
+        properties.setBatchSize(64);
+        properties.getScale().setUsers(50);
+        properties.getScale().setRootCategories(2);
+        properties.getScale().setSubcategories(3);
+        properties.getScale().setCategoryDepth(3);
+        properties.getScale().setProducts(40);
+        properties.getScale().setCartsPerUser(2);
+        properties.getScale().setOrders(300);
+        properties.getScale().setItemsPerOrder(3);
+
+        // every service on its own database, migrated by its own Flyway scripts
+        targets = new HashMap<>();
+        for (String service : SERVICES) {
+            Target target = new Target();
+            target.setUrl("jdbc:h2:mem:" + service + "-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+            target.setUsername("sa");
+            target.setPassword("");
+            Flyway.configure()
+                    .dataSource(target.getUrl(), target.getUsername(), target.getPassword())
+                    .locations("filesystem:../" + service + "/src/main/resources/db/migration")
+                    .load()
+                    .migrate();
+            targets.put(service, target);
+        }
+    }
+
+    @Test
+    void generateShouldWriteReferentiallyConsistentRowsAfterTheExistingOnes() throws SQLException {
+        // Given
+        DatasetGenerator generator = new DatasetGenerator(properties);
+
+        // When
+        Map<String, Long> counts;
+        try (JdbcTableSink sink = new JdbcTableSink(targets, properties.getBatchSize())) {
+            counts = generator.generate(sink);
+        }
+
+        // Then
+        assertEquals(50L, counts.get("users"));
+        assertEquals(50L, counts.get("credentials"));
+        assertEquals(2L + 6L + 18L, counts.get("categories"));
+        assertEquals(100L, counts.get("carts"));
+        assertEquals(300L, counts.get("orders"));
+        assertEquals(counts.get("order_items"), count(DatasetGenerator.SHIPPING_SERVICE, "SELECT COUNT(*) FROM order_items WHERE order_id > 4"));
+
+        // products only hang from the leaf categories
+        assertEquals(0L, count(DatasetGenerator.PRODUCT_SERVICE, "SELECT COUNT(*) FROM products p "
+                + "JOIN categories c ON c.category_id = p.category_id WHERE p.product_id > 4 "
+                + "AND EXISTS (SELECT 1 FROM categories s WHERE s.parent_category_id = c.category_id)"));
+
+        // ids referenced across services all exist on the owning side
+        Set<Long> userIds = ids(DatasetGenerator.USER_SERVICE, "SELECT user_id FROM users");
+        Set<Long> productIds = ids(DatasetGenerator.PRODUCT_SERVICE, "SELECT product_id FROM products");
+        Set<Long> orderIds = ids(DatasetGenerator.ORDER_SERVICE, "SELECT order_id FROM orders");
+        assertTrue(userIds.containsAll(ids(DatasetGenerator.ORDER_SERVICE, "SELECT user_id FROM carts")));
+        assertTrue(userIds.containsAll(ids(DatasetGenerator.FAVOURITE_SERVICE, "SELECT user_id FROM favourites")));
+        assertTrue(productIds.containsAll(ids(DatasetGenerator.FAVOURITE_SERVICE, "SELECT product_id FROM favourites")));
+        assertTrue(productIds.containsAll(ids(DatasetGenerator.SHIPPING_SERVICE, "SELECT product_id FROM order_items")));
+        assertTrue(orderIds.containsAll(ids(DatasetGenerator.SHIPPING_SERVICE, "SELECT order_id FROM order_items")));
+        assertTrue(orderIds.containsAll(ids(DatasetGenerator.PAYMENT_SERVICE, "SELECT order_id FROM payments")));
+
+        // generated ids continue after the 4 seeded users, and the identity after the generated ones
+        assertEquals(4L + 50L, count(DatasetGenerator.USER_SERVICE, "SELECT MAX(user_id) FROM users"));
+        execute(DatasetGenerator.USER_SERVICE, "INSERT INTO users (first_name) VALUES ('new')");
+        assertEquals(4L + 50L + 1L, count(DatasetGenerator.USER_SERVICE, "SELECT MAX(user_id) FROM users"));
+    }
+
+    @Test
+    void generateShouldWriteLoadFilesThatTheH2ScriptsLoad(@TempDir Path first, @TempDir Path second) throws Exception {
+        // Given
+        DatasetGenerator generator = new DatasetGenerator(properties);
+
+        // When
+        Map<String, Long> counts;
+        try (CsvTableSink sink = new CsvTableSink(first, 100)) {
+            counts = generator.generate(sink);
+        }
+        try (CsvTableSink sink = new CsvTableSink(second, 100)) {
+            generator.generate(sink);
+        }
+        long payments = count(DatasetGenerator.PAYMENT_SERVICE, "SELECT COUNT(*) FROM payments");
+        long favourites = count(DatasetGenerator.FAVOURITE_SERVICE, "SELECT COUNT(*) FROM favourites");
+        for (String service : SERVICES)
+            execute(service, "RUNSCRIPT FROM '" + first.resolve(service).resolve("load-h2.sql") + "'");
+
+        // Then
+        for (String table : List.of("users", "products", "order_items"))
+            assertArrayEquals(Files.readAllBytes(Files.list(first).map(dir -> dir.resolve(table + ".csv"))
+                            .filter(Files::exists).findFirst().orElseThrow()),
+                    Files.readAllBytes(Files.list(second).map(dir -> dir.resolve(table + ".csv"))
+                            .filter(Files::exists).findFirst().orElseThrow()));
+        assertEquals(payments + counts.get("payments"), count(DatasetGenerator.PAYMENT_SERVICE, "SELECT COUNT(*) FROM payments"));
+        assertEquals(favourites + counts.get("favourites"), count(DatasetGenerator.FAVOURITE_SERVICE, "SELECT COUNT(*) FROM favourites"));
+        assertEquals(0L, count(DatasetGenerator.ORDER_SERVICE, "SELECT COUNT(*) FROM orders WHERE order_id BETWEEN 5 AND 100"));
+        assertEquals(101L, count(DatasetGenerator.ORDER_SERVICE, "SELECT MIN(order_id) FROM orders WHERE order_id > 4"));
+        assertEquals(50L, count(DatasetGenerator.USER_SERVICE, "SELECT COUNT(*) FROM credentials WHERE credential_id > 100 AND is_enabled"));
+    }
+
+    private Connection connection(String service) throws SQLException {
+        Target target = targets.get(service);
+        return DriverManager.getConnection(target.getUrl(), target.getUsername(), target.getPassword());
+    }
+
+    private long count(String service, String sql) throws SQLException {
+        try (Connection connection = connection(service);
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(sql)) {
+            resultSet.next();
+            return resultSet.getLong(1);
+        }
+    }
+
+    private Set<Long> ids(String service, String sql) throws SQLException {
+        Set<Long> ids = new HashSet<>();
+        try (Connection connection = connection(service);
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(sql)) {
+            while (resultSet.next())
+                ids.add(resultSet.getLong(1));
+        }
+        return ids;
+    }
+
+    private void execute(String service, String sql) throws SQLException {
+        try (Connection connection = connection(service);
+             Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+
+}
@@ -0,0 +1,72 @@
+package com.selimhorri.app.config.loadbalancer;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * In-flight count, latency EWMA and outlier state of one service instance.
+ */
+public class InstanceLoad {
+	
+	private final double ewmaAlpha;
+	private final int consecutiveFailuresToEject;
+	private final long ejectionNanos;
+	private final AtomicInteger inFlight = new AtomicInteger();
+	private double latencyEwmaNanos;
+	private int consecutiveFailures;
+	private volatile long ejectedUntilNanos;
+	
+	public InstanceLoad(final double ewmaAlpha, final int consecutiveFailuresToEject, final long ejectionNanos) {
+		this.ewmaAlpha = ewmaAlpha;
+		this.consecutiveFailuresToEject = consecutiveFailuresToEject;
+		this.ejectionNanos = ejectionNanos;
+		this.ejectedUntilNanos = System.nanoTime();
+	}
+	
+	public void begin() {
+		this.inFlight.incrementAndGet();
+	}
+	
+	public synchronized void complete(final long latencyNanos, final boolean failure) {
+		this.inFlight.updateAndGet(count -> Math.max(0, count - 1));
+		this.latencyEwmaNanos = (this.latencyEwmaNanos == 0) ? 
+				latencyNanos : this.ewmaAlpha * latencyNanos + (1 - this.ewmaAlpha) * this.latencyEwmaNanos;
+		if (!failure)
+			this.consecutiveFailures = 0;
+		else if (++this.consecutiveFailures >= this.consecutiveFailuresToEject) {
+			this.consecutiveFailures = 0;
+			this.ejectedUntilNanos = System.nanoTime() + this.ejectionNanos;
+		}
+	}
+	
+	public boolean isEjected() {
+		return System.nanoTime() - this.ejectedUntilNanos < 0;
+	}
+	
+	public int getInFlight() {
+		return this.inFlight.get();
+	}
+	
+	public synchronized double getLatencyEwmaNanos() {
+		return this.latencyEwmaNanos;
+	}
+	
+	/**
+	 * Expected wait on this instance, lower is better; unmeasured instances score lowest so they get probed.
+	 */
+	public double getScore() {
+		return (this.getLatencyEwmaNanos() + 1) * (this.getInFlight() + 1);
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
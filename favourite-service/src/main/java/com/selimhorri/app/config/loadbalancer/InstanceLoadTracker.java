@@ -0,0 +1,140 @@
+package com.selimhorri.app.config.loadbalancer;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.CompletionContext;
+import org.springframework.cloud.client.loadbalancer.LoadBalancerLifecycle;
+import org.springframework.cloud.client.loadbalancer.Request;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.cloud.client.loadbalancer.ResponseData;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Feeds {@link InstanceLoad} from the load balancer lifecycle of RestTemplate and Feign calls, 
+ * a 5xx response or an I/O failure counts towards ejecting the instance.
+ * Blocking clients complete a request on the thread that started it, so the start time is thread bound.
+ */
+@Component
+@Slf4j
+public class InstanceLoadTracker implements LoadBalancerLifecycle<Object, Object, ServiceInstance> {
+	
+	private final Map<String, InstanceLoad> instanceLoads = new ConcurrentHashMap<>();
+	private final ThreadLocal<Long> requestStartTime = new ThreadLocal<>();
+	private final MeterRegistry meterRegistry;
+	private final double ewmaAlpha;
+	private final int consecutiveFailures;
+	private final Duration ejectionTime;
+	
+	public InstanceLoadTracker(final MeterRegistry meterRegistry, 
+			@Value("${app.loadbalancer.ewma-alpha:0.3}") final double ewmaAlpha, 
+			@Value("${app.loadbalancer.outlier.consecutive-failures:5}") final int consecutiveFailures, 
+			@Value("${app.loadbalancer.outlier.ejection-time:30s}") final Duration ejectionTime) {
+		this.meterRegistry = meterRegistry;
+		this.ewmaAlpha = ewmaAlpha;
+		this.consecutiveFailures = consecutiveFailures;
+		this.ejectionTime = ejectionTime;
+	}
+	
+	@Override
+	@SuppressWarnings("rawtypes")
+	public boolean supports(final Class requestContextClass, final Class responseClass, final Class serverTypeClass) {
+		return ServiceInstance.class.isAssignableFrom(serverTypeClass);
+	}
+	
+	@Override
+	public void onStart(final Request<Object> request) {
+		
+	}
+	
+	@Override
+	public void onStartRequest(final Request<Object> request, final Response<ServiceInstance> lbResponse) {
+		if (lbResponse != null && lbResponse.hasServer()) {
+			this.getInstanceLoad(lbResponse.getServer()).begin();
+			this.requestStartTime.set(System.nanoTime());
+		}
+	}
+	
+	@Override
+	public void onComplete(final CompletionContext<Object, ServiceInstance, Object> completionContext) {
+		final Response<ServiceInstance> lbResponse = completionContext.getLoadBalancerResponse();
+		if (completionContext.status() == CompletionContext.Status.DISCARD || lbResponse == null || !lbResponse.hasServer())
+			return;
+		final Long startTime = this.requestStartTime.get();
+		this.requestStartTime.remove();
+		final boolean failure = isFailure(completionContext);
+		this.getInstanceLoad(lbResponse.getServer())
+				.complete((startTime != null) ? System.nanoTime() - startTime : 0L, failure);
+		if (failure)
+			log.debug("*** Failed call to {} {} *", lbResponse.getServer().getServiceId(), key(lbResponse.getServer()));
+	}
+	
+	public InstanceLoad getInstanceLoad(final ServiceInstance serviceInstance) {
+		return this.instanceLoads.computeIfAbsent(serviceInstance.getServiceId() + "/" + key(serviceInstance), 
+				k -> this.register(serviceInstance, new InstanceLoad(this.ewmaAlpha, this.consecutiveFailures, this.ejectionTime.toNanos())));
+	}
+	
+	/**
+	 * Instances currently not ejected, or all of them when every instance is ejected.
+	 */
+	public List<ServiceInstance> withoutEjected(final List<ServiceInstance> serviceInstances) {
+		final List<ServiceInstance> healthy = serviceInstances.stream()
+				.filter(serviceInstance -> !this.getInstanceLoad(serviceInstance).isEjected())
+				.collect(Collectors.toUnmodifiableList());
+		return healthy.isEmpty() ? serviceInstances : healthy;
+	}
+	
+	private InstanceLoad register(final ServiceInstance serviceInstance, final InstanceLoad instanceLoad) {
+		final Tags tags = Tags.of("service", serviceInstance.getServiceId(), "instance", key(serviceInstance));
+		Gauge.builder("loadbalancer.instance.score", instanceLoad, InstanceLoad::getScore)
+				.tags(tags)
+				.register(this.meterRegistry);
+		Gauge.builder("loadbalancer.instance.in.flight", instanceLoad, InstanceLoad::getInFlight)
+				.tags(tags)
+				.register(this.meterRegistry);
+		Gauge.builder("loadbalancer.instance.latency.ewma", instanceLoad, load -> load.getLatencyEwmaNanos() / 1e9)
+				.tags(tags)
+				.baseUnit("seconds")
+				.register(this.meterRegistry);
+		Gauge.builder("loadbalancer.instance.ejected", instanceLoad, load -> load.isEjected() ? 1 : 0)
+				.tags(tags)
+				.register(this.meterRegistry);
+		return instanceLoad;
+	}
+	
+	private static boolean isFailure(final CompletionContext<Object, ServiceInstance, Object> completionContext) {
+		if (completionContext.status() == CompletionContext.Status.FAILED)
+			return true;
+		final Object clientResponse = completionContext.getClientResponse();
+		return clientResponse instanceof ResponseData 
+				&& ((ResponseData) clientResponse).getHttpStatus() != null 
+				&& ((ResponseData) clientResponse).getHttpStatus().is5xxServerError();
+	}
+	
+	private static String key(final ServiceInstance serviceInstance) {
+		return serviceInstance.getHost() + ":" + serviceInstance.getPort();
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,88 @@
+package com.selimhorri.app.config.timing;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * Adds the time spent in statement {@code execute*} calls to the request {@link ServerTiming} 
+ * as {@value ServerTiming#DB}. Connections borrowed outside of a request are handed out untouched.
+ */
+public class ServerTimingDataSource extends DelegatingDataSource {
+	
+	public ServerTimingDataSource(final DataSource targetDataSource) {
+		super(targetDataSource);
+	}
+	
+	@Override
+	public Connection getConnection() throws SQLException {
+		return timed(super.getConnection());
+	}
+	
+	@Override
+	public Connection getConnection(final String username, final String password) throws SQLException {
+		return timed(super.getConnection(username, password));
+	}
+	
+	private static Connection timed(final Connection connection) {
+		if (!ServerTiming.isActive())
+			return connection;
+		return proxy(Connection.class, connection, (target, method, args) -> {
+			final Object result = invoke(target, method, args);
+			return (result instanceof Statement && method.getReturnType().isInterface()) ? 
+					proxy(method.getReturnType(), result, ServerTimingDataSource::invokeStatement) : result;
+		});
+	}
+	
+	private static Object invokeStatement(final Object statement, final Method method, final Object[] args) throws Throwable {
+		if (!method.getName().startsWith("execute"))
+			return invoke(statement, method, args);
+		final long start = System.nanoTime();
+		try {
+			return invoke(statement, method, args);
+		}
+		finally {
+			ServerTiming.record(ServerTiming.DB, System.nanoTime() - start);
+		}
+	}
+	
+	private static <T> T proxy(final Class<T> type, final Object target, final Invocation invocation) {
+		return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] { type }, 
+				(proxy, method, args) -> {
+					switch (method.getName()) {
+						case "equals":
+							return proxy == args[0];
+						case "hashCode":
+							return System.identityHashCode(proxy);
+						default:
+							return invocation.invoke(target, method, args);
+					}
+				}));
+	}
+	
+	private static Object invoke(final Object target, final Method method, final Object[] args) throws Throwable {
+		try {
+			return method.invoke(target, args);
+		}
+		catch (InvocationTargetException e) {
+			throw e.getTargetException();
+		}
+	}
+	
+	@FunctionalInterface
+	private interface Invocation {
+		
+		Object invoke(Object target, Method method, Object[] args) throws Throwable;
+	
+	}
+
+
+
+}
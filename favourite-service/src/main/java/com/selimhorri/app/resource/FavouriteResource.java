@@ -4,8 +4,10 @@ import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 
 import javax.validation.Valid;
+import javax.validation.constraints.NotBlank;
 import javax.validation.constraints.NotNull;
 
+import org.springframework.data.domain.Sort;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -14,12 +16,14 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.selimhorri.app.constant.AppConstant;
 import com.selimhorri.app.domain.id.FavouriteId;
 import com.selimhorri.app.dto.FavouriteDto;
 import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
+import com.selimhorri.app.helper.PageRequestHelper;
 import com.selimhorri.app.service.FavouriteService;
 
 import lombok.RequiredArgsConstructor;
@@ -34,11 +38,34 @@ public class FavouriteResource {
 	private final FavouriteService favouriteService;
 	
 	@GetMapping
-	public ResponseEntity<DtoCollectionResponse<FavouriteDto>> findAll() {
+	public ResponseEntity<DtoCollectionResponse<FavouriteDto>> findAll(
+			@RequestParam(name = "page", required = false) final Integer page, 
+			@RequestParam(name = "size", required = false) final Integer size, 
+			@RequestParam(name = "cursor", required = false) final String cursor, 
+			final Sort sort) {
 		log.info("*** FavouriteDto List, controller; fetch all favourites *");
+		if (cursor != null) {
+			final var favouriteId = PageRequestHelper.decodeCursor(cursor, parts -> new FavouriteId(
+					Integer.parseInt(parts[0]), Integer.parseInt(parts[1]), LocalDateTime.parse(parts[2])));
+			return ResponseEntity.ok(DtoCollectionResponse.of(
+					this.favouriteService.findAllAfter(favouriteId, PageRequestHelper.size(size)), 
+					f -> PageRequestHelper.encodeCursor(f.getUserId(), f.getProductId(), f.getLikeDate())));
+		}
+		if (page != null || size != null || sort.isSorted())
+			return ResponseEntity.ok(DtoCollectionResponse.of(
+					this.favouriteService.findAll(PageRequestHelper.of(page, size, sort))));
 		return ResponseEntity.ok(new DtoCollectionResponse<>(this.favouriteService.findAll()));
 	}
 	
+	@GetMapping("/users/{userId}")
+	public ResponseEntity<DtoCollectionResponse<FavouriteDto>> findAllByUserId(
+			@PathVariable("userId") 
+			@NotBlank(message = "Input must not be blank") 
+			@Valid final String userId) {
+		log.info("*** FavouriteDto List, resource; fetch all favourites of user *");
+		return ResponseEntity.ok(new DtoCollectionResponse<>(this.favouriteService.findAllByUserId(Integer.parseInt(userId))));
+	}
+	
 	@GetMapping("/{userId}/{productId}/{likeDate}")
 	public ResponseEntity<FavouriteDto> findById(
 			@PathVariable("userId") final String userId, 
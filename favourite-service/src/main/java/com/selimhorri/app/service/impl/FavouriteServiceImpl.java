@@ -1,18 +1,36 @@
 package com.selimhorri.app.service.impl;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import javax.transaction.Transactional;
 
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpMethod;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
 
+import com.selimhorri.app.config.enrichment.EnrichmentExecutor;
 import com.selimhorri.app.constant.AppConstant;
 import com.selimhorri.app.domain.id.FavouriteId;
 import com.selimhorri.app.dto.FavouriteDto;
 import com.selimhorri.app.dto.ProductDto;
 import com.selimhorri.app.dto.UserDto;
+import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
 import com.selimhorri.app.exception.wrapper.FavouriteNotFoundException;
 import com.selimhorri.app.helper.FavouriteMappingHelper;
 import com.selimhorri.app.repository.FavouriteRepository;
@@ -29,24 +47,47 @@ public class FavouriteServiceImpl implements FavouriteService {
 	
 	private final FavouriteRepository favouriteRepository;
 	private final RestTemplate restTemplate;
+	private final EnrichmentExecutor enrichmentExecutor;
 	
 	@Override
 	public List<FavouriteDto> findAll() {
 		log.info("*** FavouriteDto List, service; fetch all favourites *");
-		return this.favouriteRepository.findAll()
+		return this.enrich(this.favouriteRepository.findAll()
 				.stream()
 					.map(FavouriteMappingHelper::map)
-					.map(f -> {
-						f.setUserDto(this.restTemplate
-								.getForObject(AppConstant.DiscoveredDomainsApi
-										.USER_SERVICE_API_URL + "/" + f.getUserId(), UserDto.class));
-						f.setProductDto(this.restTemplate
-								.getForObject(AppConstant.DiscoveredDomainsApi
-										.PRODUCT_SERVICE_API_URL + "/" + f.getProductId(), ProductDto.class));
-						return f;
-					})
 					.distinct()
-					.collect(Collectors.toUnmodifiableList());
+					.collect(Collectors.toUnmodifiableList()));
+	}
+	
+	@Override
+	public Page<FavouriteDto> findAll(final Pageable pageable) {
+		log.info("*** FavouriteDto Page, service; fetch favourites page *");
+		final Page<FavouriteDto> favouriteDtos = this.favouriteRepository.findAll(pageable)
+				.map(FavouriteMappingHelper::map);
+		this.enrich(favouriteDtos.getContent());
+		return favouriteDtos;
+	}
+	
+	@Override
+	public Slice<FavouriteDto> findAllAfter(final FavouriteId favouriteId, final int size) {
+		log.info("*** FavouriteDto Slice, service; fetch favourites after cursor *");
+		final var pageable = PageRequest.of(0, size, Sort.by("userId", "productId", "likeDate"));
+		final Slice<FavouriteDto> favouriteDtos = ((favouriteId == null) ? 
+					this.favouriteRepository.findAllBy(pageable) : 
+					this.favouriteRepository.findAllAfter(favouriteId.getUserId(), favouriteId.getProductId(), 
+						favouriteId.getLikeDate(), pageable))
+				.map(FavouriteMappingHelper::map);
+		this.enrich(favouriteDtos.getContent());
+		return favouriteDtos;
+	}
+	
+	@Override
+	public List<FavouriteDto> findAllByUserId(final Integer userId) {
+		log.info("*** FavouriteDto List, service; fetch all favourites of user *");
+		return this.enrich(this.favouriteRepository.findAllByUserIdOrderByLikeDateDesc(userId)
+				.stream()
+					.map(FavouriteMappingHelper::map)
+					.collect(Collectors.toUnmodifiableList()));
 	}
 	
 	@Override
@@ -54,15 +95,7 @@ public class FavouriteServiceImpl implements FavouriteService {
 		log.info("*** FavouriteDto, service; fetch favourite by id *");
 		return this.favouriteRepository.findById(favouriteId)
 				.map(FavouriteMappingHelper::map)
-				.map(f -> {
-					f.setUserDto(this.restTemplate
-							.getForObject(AppConstant.DiscoveredDomainsApi
-									.USER_SERVICE_API_URL + "/" + f.getUserId(), UserDto.class));
-					f.setProductDto(this.restTemplate
-							.getForObject(AppConstant.DiscoveredDomainsApi
-									.PRODUCT_SERVICE_API_URL + "/" + f.getProductId(), ProductDto.class));
-					return f;
-				})
+				.map(f -> this.enrich(List.of(f)).get(0))
 				.orElseThrow(() -> new FavouriteNotFoundException(
 						String.format("Favourite with id: [%s] not found!", favouriteId)));
 	}
@@ -84,6 +117,78 @@ public class FavouriteServiceImpl implements FavouriteService {
 		this.favouriteRepository.deleteById(favouriteId);
 	}
 	
+	private List<FavouriteDto> enrich(final List<FavouriteDto> favouriteDtos) {
+		
+		final long deadline = this.enrichmentExecutor.deadline();
+		
+		final Map<List<Integer>, CompletableFuture<Map<Integer, UserDto>>> userChunks = this.enrichmentExecutor.submitAll(
+				AppConstant.DiscoveredDomainsApi.USER_SERVICE_NAME, 
+				this.partition(favouriteDtos.stream()
+						.map(FavouriteDto::getUserId)
+						.collect(Collectors.toSet())),
+				ids -> this.fetchAllByIds(AppConstant.DiscoveredDomainsApi.USER_SERVICE_API_URL, ids,
+						new ParameterizedTypeReference<DtoCollectionResponse<UserDto>>() {}, UserDto::getUserId));
+		
+		final Map<List<Integer>, CompletableFuture<Map<Integer, ProductDto>>> productChunks = this.enrichmentExecutor.submitAll(
+				AppConstant.DiscoveredDomainsApi.PRODUCT_SERVICE_NAME, 
+				this.partition(favouriteDtos.stream()
+						.map(FavouriteDto::getProductId)
+						.collect(Collectors.toSet())),
+				ids -> this.fetchAllByIds(AppConstant.DiscoveredDomainsApi.PRODUCT_SERVICE_API_URL, ids,
+						new ParameterizedTypeReference<DtoCollectionResponse<ProductDto>>() {}, ProductDto::getProductId));
+		
+		final Map<Integer, UserDto> userDtos = new HashMap<>();
+		this.enrichmentExecutor.awaitAll(userChunks, deadline).values().forEach(userDtos::putAll);
+		final Map<Integer, ProductDto> productDtos = new HashMap<>();
+		this.enrichmentExecutor.awaitAll(productChunks, deadline).values().forEach(productDtos::putAll);
+		
+		favouriteDtos.forEach(f -> {
+			final var unresolved = new HashSet<String>();
+			Optional.ofNullable(userDtos.get(f.getUserId()))
+				.ifPresentOrElse(f::setUserDto, () -> unresolved.add("user"));
+			Optional.ofNullable(productDtos.get(f.getProductId()))
+				.ifPresentOrElse(f::setProductDto, () -> unresolved.add("product"));
+			if (!unresolved.isEmpty())
+				f.setUnresolved(unresolved);
+		});
+		
+		return favouriteDtos;
+	}
+	
+	/**
+	 * Splits the given ids into sorted chunks of {@link AppConstant#BULK_FETCH_BATCH_SIZE},
+	 * so that a single bulk {@code ?ids=} request URL stays within a safe length.
+	 */
+	private List<List<Integer>> partition(final Collection<Integer> ids) {
+		
+		final List<Integer> sortedIds = ids.stream()
+				.filter(Objects::nonNull)
+				.sorted()
+				.collect(Collectors.toCollection(ArrayList::new));
+		final List<List<Integer>> chunks = new ArrayList<>();
+		
+		for (int from = 0; from < sortedIds.size(); from += AppConstant.BULK_FETCH_BATCH_SIZE)
+			chunks.add(List.copyOf(sortedIds.subList(from, Math.min(from + AppConstant.BULK_FETCH_BATCH_SIZE, sortedIds.size()))));
+		
+		return chunks;
+	}
+	
+	private <T> Map<Integer, T> fetchAllByIds(final String apiUrl, final List<Integer> ids,
+			final ParameterizedTypeReference<DtoCollectionResponse<T>> responseType, final Function<T, Integer> idExtractor) {
+		
+		final String joinedIds = ids.stream()
+				.map(String::valueOf)
+				.collect(Collectors.joining(","));
+		
+		return Optional.ofNullable(this.restTemplate
+					.exchange(apiUrl + "?ids=" + joinedIds, HttpMethod.GET, null, responseType)
+					.getBody())
+				.map(DtoCollectionResponse::getCollection)
+				.map(collection -> collection.stream()
+						.collect(Collectors.toMap(idExtractor, Function.identity(), (first, second) -> first)))
+				.orElseGet(Map::of);
+	}
+	
 	
 	
 }
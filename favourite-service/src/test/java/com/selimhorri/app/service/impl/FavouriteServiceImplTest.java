@@ -0,0 +1,141 @@
+package com.selimhorri.app.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.RestTemplate;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.selimhorri.app.config.enrichment.EnrichmentExecutor;
+import com.selimhorri.app.config.resilience.DependencyGuard;
+import com.selimhorri.app.constant.AppConstant;
+import com.selimhorri.app.domain.Favourite;
+import com.selimhorri.app.dto.FavouriteDto;
+import com.selimhorri.app.dto.ProductDto;
+import com.selimhorri.app.dto.UserDto;
+import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
+import com.selimhorri.app.repository.FavouriteRepository;
+
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.timelimiter.TimeLimiterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class FavouriteServiceImplTest {
+
+    @Mock
+    private FavouriteRepository favouriteRepository;
+
+    @Mock
+    private RestTemplate restTemplate;
+
+    private FavouriteServiceImpl favouriteService;
+
+    @BeforeEach
+    void setUp() {
+        favouriteService = new FavouriteServiceImpl(favouriteRepository, restTemplate,
+                new EnrichmentExecutor(Executors.newFixedThreadPool(2), Duration.ofSeconds(2), dependencyGuard()));
+    }
+
+    @Test
+    void testFindAll_ShouldResolveUsersAndProductsWithOneBulkCallEach() {
+        // Given - three favourites sharing two users and two products
+        final LocalDateTime likeDate = LocalDateTime.of(2025, 5, 25, 10, 30);
+        when(favouriteRepository.findAll()).thenReturn(List.of(
+                new Favourite(1, 10, likeDate),
+                new Favourite(1, 20, likeDate),
+                new Favourite(2, 10, likeDate)));
+
+        doReturn(ResponseEntity.ok(new DtoCollectionResponse<>(List.of(
+                UserDto.builder().userId(1).firstName("selim").build(),
+                UserDto.builder().userId(2).firstName("amine").build()))))
+                .when(restTemplate).exchange(
+                        eq(AppConstant.DiscoveredDomainsApi.USER_SERVICE_API_URL + "?ids=1,2"),
+                        eq(HttpMethod.GET), isNull(), any(ParameterizedTypeReference.class));
+
+        // Product 20 is not returned by product-service
+        doReturn(ResponseEntity.ok(new DtoCollectionResponse<>(List.of(
+                ProductDto.builder().productId(10).productTitle("asus").build()))))
+                .when(restTemplate).exchange(
+                        eq(AppConstant.DiscoveredDomainsApi.PRODUCT_SERVICE_API_URL + "?ids=10,20"),
+                        eq(HttpMethod.GET), isNull(), any(ParameterizedTypeReference.class));
+
+        // When
+        final List<FavouriteDto> result = favouriteService.findAll();
+
+        // Then
+        assertEquals(3, result.size());
+        assertEquals("selim", result.get(0).getUserDto().getFirstName());
+        assertEquals("asus", result.get(0).getProductDto().getProductTitle());
+        assertEquals("amine", result.get(2).getUserDto().getFirstName());
+
+        // Unresolved products keep the id-only stub and are flagged
+        assertEquals(20, result.get(1).getProductDto().getProductId());
+        assertNull(result.get(1).getProductDto().getProductTitle());
+        assertEquals(Set.of("product"), result.get(1).getUnresolved());
+        assertNull(result.get(0).getUnresolved());
+
+        verify(restTemplate, times(2)).exchange(anyString(), eq(HttpMethod.GET), isNull(),
+                any(ParameterizedTypeReference.class));
+    }
+
+    @Test
+    void testFindAll_ShouldMarkLookupsPastTheDeadlineAsUnresolved() {
+        // Given - a deadline shorter than the user-service response time
+        favouriteService = new FavouriteServiceImpl(favouriteRepository, restTemplate,
+                new EnrichmentExecutor(Executors.newFixedThreadPool(2), Duration.ofMillis(500), dependencyGuard()));
+        when(favouriteRepository.findAll()).thenReturn(List.of(
+                new Favourite(1, 10, LocalDateTime.of(2025, 5, 25, 10, 30))));
+
+        doAnswer(invocation -> {
+            Thread.sleep(1000);
+            return ResponseEntity.ok(new DtoCollectionResponse<>(List.of(UserDto.builder().userId(1).build())));
+        }).when(restTemplate).exchange(startsWith(AppConstant.DiscoveredDomainsApi.USER_SERVICE_API_URL),
+                eq(HttpMethod.GET), isNull(), any(ParameterizedTypeReference.class));
+        doReturn(ResponseEntity.ok(new DtoCollectionResponse<>(List.of(
+                ProductDto.builder().productId(10).productTitle("asus").build()))))
+                .when(restTemplate).exchange(startsWith(AppConstant.DiscoveredDomainsApi.PRODUCT_SERVICE_API_URL),
+                        eq(HttpMethod.GET), isNull(), any(ParameterizedTypeReference.class));
+
+        // When
+        final long start = System.nanoTime();
+        final List<FavouriteDto> result = favouriteService.findAll();
+
+        // Then - the product is returned without waiting for the slow user lookup
+        assertTrue(Duration.ofNanos(System.nanoTime() - start).toMillis() < 1000);
+        assertEquals("asus", result.get(0).getProductDto().getProductTitle());
+        assertEquals(Set.of("user"), result.get(0).getUnresolved());
+    }
+
+    private static DependencyGuard dependencyGuard() {
+        return new DependencyGuard(CircuitBreakerRegistry.ofDefaults(), BulkheadRegistry.ofDefaults(),
+                TimeLimiterRegistry.ofDefaults(), Executors.newSingleThreadScheduledExecutor(),
+                Caffeine.newBuilder().build(), new SimpleMeterRegistry());
+    }
+}
@@ -0,0 +1,36 @@
+package com.selimhorri.app.loadtest;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+
+import com.selimhorri.app.config.GeneratorProperties;
+import com.selimhorri.app.loadtest.config.LoadTestProperties;
+
+@SpringBootApplication(exclude = DataSourceAutoConfiguration.class)
+@EnableConfigurationProperties({ LoadTestProperties.class, GeneratorProperties.class })
+public class LoadTestApplication {
+	
+	/**
+	 * Exits explicitly, the booted services may leave non daemon threads behind.
+	 */
+	public static void main(String[] args) {
+		int status = 1;
+		try {
+			status = SpringApplication.exit(SpringApplication.run(LoadTestApplication.class, args));
+		}
+		finally {
+			System.exit(status);
+		}
+	}
+
+
+
+}
+
+
+
+
+
+
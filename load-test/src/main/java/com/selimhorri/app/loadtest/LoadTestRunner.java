@@ -0,0 +1,130 @@
+package com.selimhorri.app.loadtest;
+
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.stereotype.Component;
+import org.springframework.util.SocketUtils;
+
+import com.selimhorri.app.config.GeneratorProperties;
+import com.selimhorri.app.config.GeneratorProperties.Target;
+import com.selimhorri.app.generator.DatasetGenerator;
+import com.selimhorri.app.loadtest.config.LoadTestProperties;
+import com.selimhorri.app.loadtest.driver.Dataset;
+import com.selimhorri.app.loadtest.driver.LatencyRecorder;
+import com.selimhorri.app.loadtest.driver.OpenModelDriver;
+import com.selimhorri.app.loadtest.launcher.DatabaseServer;
+import com.selimhorri.app.loadtest.launcher.InProcessService;
+import com.selimhorri.app.loadtest.launcher.ServiceLauncher;
+import com.selimhorri.app.loadtest.report.RegressionGate;
+import com.selimhorri.app.loadtest.report.RunResult;
+import com.selimhorri.app.sink.JdbcTableSink;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Boots the services against the harness databases, seeds them with the generated dataset, warms up, offers
+ * the measured load and fails the run when it regresses against the stored baseline.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LoadTestRunner implements ApplicationRunner {
+	
+	private final LoadTestProperties properties;
+	private final GeneratorProperties generatorProperties;
+	private final ServiceLauncher serviceLauncher;
+	private final OpenModelDriver driver;
+	
+	@Override
+	public void run(final ApplicationArguments args) throws Exception {
+		final Iterator<Integer> freePorts = SocketUtils.findAvailableTcpPorts(this.properties.getServices().size() + 1).iterator();
+		final Map<String, Integer> ports = new LinkedHashMap<>();
+		try (final DatabaseServer databaseServer = new DatabaseServer(freePorts.next())) {
+			this.properties.getServices().keySet().forEach(serviceId -> ports.put(serviceId, freePorts.next()));
+			final List<InProcessService> services = this.serviceLauncher.start(ports, databaseServer);
+			try {
+				final Dataset dataset = this.generate(databaseServer);
+				final String baseUrl = "http://localhost:" + ports.get(this.properties.getEntryPoint()) + this.properties.getBasePath();
+				log.info("** Warming up for {}*", this.properties.getWarmup());
+				this.driver.run(baseUrl, dataset, this.properties.getWarmup(), this.generatorProperties.getSeed());
+				log.info("** Offering load for {}*", this.properties.getDuration());
+				this.report(this.driver.run(baseUrl, dataset, this.properties.getDuration(), this.generatorProperties.getSeed() + 1));
+			}
+			finally {
+				ServiceLauncher.stop(services);
+			}
+		}
+	}
+	
+	private Dataset generate(final DatabaseServer databaseServer) {
+		final Map<String, Target> targets = new LinkedHashMap<>();
+		for (final String database : this.properties.getServices().values()) {
+			final Target target = new Target();
+			target.setUrl(databaseServer.localUrl(database));
+			target.setUsername(DatabaseServer.USERNAME);
+			target.setPassword(DatabaseServer.PASSWORD);
+			targets.put(database, target);
+		}
+		try (final JdbcTableSink sink = new JdbcTableSink(targets, this.generatorProperties.getBatchSize())) {
+			log.info("** Generated {}*", new DatasetGenerator(this.generatorProperties).generate(sink));
+		}
+		return new Dataset(
+				this.highestId(targets.get(DatasetGenerator.USER_SERVICE), "SELECT MAX(user_id) FROM users"), 
+				this.highestId(targets.get(DatasetGenerator.PRODUCT_SERVICE), "SELECT MAX(product_id) FROM products"), 
+				this.generatorProperties.getScale().getSkew());
+	}
+	
+	private long highestId(final Target target, final String sql) {
+		return new JdbcTemplate(new DriverManagerDataSource(target.getUrl(), target.getUsername(), target.getPassword()))
+				.queryForObject(sql, Long.class);
+	}
+	
+	private void report(final LatencyRecorder recorder) throws Exception {
+		final RunResult result = recorder.result();
+		final List<String> lines = new ArrayList<>();
+		lines.add(String.format("%-55s %8s %7s %9s %9s %9s %9s", "endpoint", "count", "errors", "req/s", "p50 ms", "p99 ms", "p999 ms"));
+		result.getEndpoints().forEach((endpoint, r) -> lines.add(String.format("%-55s %8d %7d %9.2f %9.2f %9.2f %9.2f", 
+				endpoint, r.getCount(), r.getErrors(), r.getThroughput(), r.getP50(), r.getP99(), r.getP999())));
+		log.info("** Results\n{}*", String.join("\n", lines));
+		
+		result.write(this.properties.getResultsDirectory().resolve("results.json"));
+		recorder.writeDistributions(this.properties.getResultsDirectory());
+		if (this.properties.isUpdateBaseline() || !Files.exists(this.properties.getBaseline())) {
+			result.write(this.properties.getBaseline());
+			log.info("** Baseline written to {}*", this.properties.getBaseline().toAbsolutePath());
+			return;
+		}
+		
+		final List<String> regressions = new RegressionGate(this.properties.getGate())
+				.regressions(RunResult.read(this.properties.getBaseline()), result);
+		if (!regressions.isEmpty()) {
+			regressions.forEach(regression -> log.error("** {}*", regression));
+			throw new IllegalStateException(String.format("%d regressions against %s", 
+					regressions.size(), this.properties.getBaseline().toAbsolutePath()));
+		}
+		log.info("** Within the baseline {}*", this.properties.getBaseline().toAbsolutePath());
+	}
+
+
+
+}
+
+
+
+
+
+
+
+
+
+
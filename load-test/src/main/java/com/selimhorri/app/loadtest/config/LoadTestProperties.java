@@ -0,0 +1,62 @@
+package com.selimhorri.app.loadtest.config;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+/**
+ * Services to boot, load to offer and regression gates of a run, bound from the loadtest.* properties.
+ */
+@Data
+@ConfigurationProperties(prefix = "loadtest")
+public class LoadTestProperties {
+
+	private Path servicesDirectory = Paths.get("target", "services");
+	private Map<String, String> services = new LinkedHashMap<>();
+	private List<String> serviceArgs = new ArrayList<>();
+	private String entryPoint = "PROXY-CLIENT";
+	private String basePath = "/app";
+	private Duration startupTimeout = Duration.ofMinutes(5);
+	private Duration warmup = Duration.ofSeconds(30);
+	private Duration duration = Duration.ofMinutes(1);
+	private Duration requestTimeout = Duration.ofSeconds(10);
+	private int maxConcurrency = 200;
+	private Map<String, Double> scenarios = new LinkedHashMap<>();
+	private Path baseline = Paths.get("baseline.json");
+	private Path resultsDirectory = Paths.get("target", "loadtest");
+	private boolean updateBaseline;
+	private Gate gate = new Gate();
+
+	@Data
+	public static class Gate {
+
+		private double latencyTolerance = 0.25;
+		private double tailTolerance = 0.5;
+		private int tailSamples = 10;
+		private Duration latencySlack = Duration.ofMillis(2);
+		private double throughputTolerance = 0.1;
+		private double maxErrorRate = 0.01;
+
+	}
+
+
+
+}
+
+
+
+
+
+
+
+
+
+
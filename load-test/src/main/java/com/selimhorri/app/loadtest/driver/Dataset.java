@@ -0,0 +1,40 @@
+package com.selimhorri.app.loadtest.driver;
+
+import java.util.SplittableRandom;
+
+import lombok.Value;
+
+/**
+ * Id ranges of the generated dataset the scenarios pick from, ids run from 1 to the highest one.
+ */
+@Value
+public class Dataset {
+
+	long users;
+	long products;
+	double skew;
+
+	public long user(final SplittableRandom random) {
+		return 1 + random.nextLong(this.users);
+	}
+
+	/**
+	 * Skewed like the generated order items, the lower ids are the popular products.
+	 */
+	public long product(final SplittableRandom random) {
+		return 1 + Math.min(this.products - 1, (long) (this.products * Math.pow(random.nextDouble(), this.skew)));
+	}
+
+
+
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,89 @@
+package com.selimhorri.app.loadtest.driver;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import com.selimhorri.app.loadtest.report.EndpointResult;
+import com.selimhorri.app.loadtest.report.RunResult;
+
+/**
+ * One HdrHistogram of latencies, in microseconds, and one error count per endpoint.
+ */
+public final class LatencyRecorder {
+
+	private static final long HIGHEST_MICROS = TimeUnit.MINUTES.toMicros(5);
+
+	private final Map<String, Endpoint> endpoints = new ConcurrentHashMap<>();
+	private volatile Duration elapsed = Duration.ZERO;
+
+	public void record(final String endpoint, final long micros, final boolean success) {
+		final Endpoint recorded = this.endpoints.computeIfAbsent(endpoint, k -> new Endpoint());
+		recorded.histogram.recordValue(Math.max(1, Math.min(micros, HIGHEST_MICROS)));
+		if (!success)
+			recorded.errors.increment();
+	}
+
+	void setElapsed(final Duration elapsed) {
+		this.elapsed = elapsed;
+	}
+
+	/**
+	 * Throughput is counted over the offered duration plus the time the last arrivals took to complete.
+	 */
+	public RunResult result() {
+		final double seconds = this.elapsed.toNanos() / 1e9;
+		final RunResult result = new RunResult();
+		this.endpoints.forEach((endpoint, recorded) -> result.getEndpoints().put(endpoint, EndpointResult.builder()
+				.count(recorded.histogram.getTotalCount())
+				.errors(recorded.errors.sum())
+				.throughput(recorded.histogram.getTotalCount() / seconds)
+				.p50(recorded.histogram.getValueAtPercentile(50) / 1e3)
+				.p99(recorded.histogram.getValueAtPercentile(99) / 1e3)
+				.p999(recorded.histogram.getValueAtPercentile(99.9) / 1e3)
+				.build()));
+		return result;
+	}
+
+	/**
+	 * Writes the percentile distribution of every endpoint, in milliseconds, as .hgrm files for the HdrHistogram plotter.
+	 */
+	public void writeDistributions(final Path directory) throws IOException {
+		Files.createDirectories(directory);
+		for (final Map.Entry<String, Endpoint> entry : this.endpoints.entrySet()) {
+			final Path file = directory.resolve(entry.getKey().replaceAll("[^A-Za-z0-9]+", "-") + ".hgrm");
+			try (final PrintStream out = new PrintStream(Files.newOutputStream(file))) {
+				entry.getValue().histogram.outputPercentileDistribution(out, 1000.0);
+			}
+		}
+	}
+
+	private static final class Endpoint {
+
+		private final Histogram histogram = new ConcurrentHistogram(HIGHEST_MICROS, 3);
+		private final LongAdder errors = new LongAdder();
+
+	}
+
+
+
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,129 @@
+package com.selimhorri.app.loadtest.driver;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.selimhorri.app.loadtest.config.LoadTestProperties;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Open workload model: every scenario arrives as a Poisson process at its configured rate, whether or not the
+ * previous arrivals have completed. Arrivals beyond maxConcurrency wait for a worker, their latency included.
+ */
+@Slf4j
+@Component
+public class OpenModelDriver {
+
+	private final LoadTestProperties properties;
+	private final List<Scenario> scenarios = new ArrayList<>();
+	private final double[] rates;
+	private final ObjectMapper mapper = new ObjectMapper();
+	private final HttpClient client;
+	private final Set<String> failing = ConcurrentHashMap.newKeySet();
+
+	public OpenModelDriver(final LoadTestProperties properties, final List<Scenario> scenarios) {
+		this.properties = properties;
+		final Map<String, Double> rates = properties.getScenarios();
+		this.rates = new double[rates.size()];
+		rates.forEach((name, rate) -> {
+			this.rates[this.scenarios.size()] = rate;
+			this.scenarios.add(scenarios.stream()
+					.filter(scenario -> scenario.name().equals(name))
+					.findFirst()
+					.orElseThrow(() -> new IllegalArgumentException("Unknown scenario " + name)));
+		});
+		this.client = HttpClient.newBuilder()
+				.version(HttpClient.Version.HTTP_1_1)
+				.connectTimeout(properties.getRequestTimeout())
+				.build();
+	}
+
+	/**
+	 * Offers the load for the given duration, then waits for the arrivals still in flight.
+	 */
+	public LatencyRecorder run(final String baseUrl, final Dataset dataset, final Duration duration, final long seed)
+			throws InterruptedException {
+		final LatencyRecorder recorder = new LatencyRecorder();
+		final ExecutorService workers = Executors.newFixedThreadPool(this.properties.getMaxConcurrency());
+		final SplittableRandom arrivals = new SplittableRandom(seed);
+
+		final long start = System.nanoTime();
+		final long end = start + duration.toNanos();
+		final long[] next = new long[this.rates.length];
+		for (int i = 0; i < next.length; i++)
+			next[i] = start + interarrival(arrivals, this.rates[i]);
+
+		while (true) {
+			int i = 0;
+			for (int j = 1; j < next.length; j++)
+				if (next[j] < next[i])
+					i = j;
+			final long arrival = next[i];
+			if (arrival >= end)
+				break;
+			final long wait = arrival - System.nanoTime();
+			if (wait > 0)
+				LockSupport.parkNanos(wait);
+			final Scenario scenario = this.scenarios.get(i);
+			final Session session = new Session(this.client, this.mapper, baseUrl, this.properties.getRequestTimeout(),
+					recorder, dataset, arrivals.split(), arrival);
+			workers.execute(() -> this.run(scenario, session, recorder, arrival));
+			next[i] += interarrival(arrivals, this.rates[i]);
+		}
+
+		workers.shutdown();
+		if (!workers.awaitTermination(this.properties.getRequestTimeout().toNanos() * 10, TimeUnit.NANOSECONDS)) {
+			log.warn("** Arrivals still in flight after the run, abandoning them*");
+			workers.shutdownNow();
+		}
+		recorder.setElapsed(Duration.ofNanos(System.nanoTime() - start));
+		return recorder;
+	}
+
+	private void run(final Scenario scenario, final Session session, final LatencyRecorder recorder, final long arrival) {
+		boolean success = false;
+		try {
+			scenario.run(session);
+			success = true;
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		catch (Exception e) {
+			if (this.failing.add(scenario.name()))
+				log.warn("** {} failed, further failures are only counted: {}*", scenario.name(), e.getMessage());
+		}
+		recorder.record("scenario " + scenario.name(), (System.nanoTime() - arrival) / 1000, success);
+	}
+
+	private static long interarrival(final SplittableRandom random, final double rate) {
+		return (long) (-Math.log(1 - random.nextDouble()) / rate * 1e9);
+	}
+
+
+
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,22 @@
+package com.selimhorri.app.loadtest.driver;
+
+/**
+ * A user journey over the entry point, run once per arrival. Any failed request ends it.
+ */
+public interface Scenario {
+
+	String name();
+
+	void run(final Session session) throws Exception;
+
+}
+
+
+
+
+
+
+
+
+
+
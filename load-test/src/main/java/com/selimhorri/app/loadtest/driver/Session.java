@@ -0,0 +1,105 @@
+package com.selimhorri.app.loadtest.driver;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.SplittableRandom;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.MissingNode;
+
+import lombok.Getter;
+
+/**
+ * One run of a scenario. The first request is timed from the scheduled arrival rather than from when a worker
+ * picked it up, so queueing in front of a saturated system shows in the latencies (no coordinated omission).
+ */
+public final class Session {
+
+	private final HttpClient client;
+	private final ObjectMapper mapper;
+	private final String baseUrl;
+	private final Duration timeout;
+	private final LatencyRecorder recorder;
+	@Getter
+	private final Dataset dataset;
+	@Getter
+	private final SplittableRandom random;
+	private final long arrival;
+	private boolean first = true;
+
+	Session(final HttpClient client, final ObjectMapper mapper, final String baseUrl, final Duration timeout,
+			final LatencyRecorder recorder, final Dataset dataset, final SplittableRandom random, final long arrival) {
+		this.client = client;
+		this.mapper = mapper;
+		this.baseUrl = baseUrl;
+		this.timeout = timeout;
+		this.recorder = recorder;
+		this.dataset = dataset;
+		this.random = random;
+		this.arrival = arrival;
+	}
+
+	/**
+	 * @param endpoint the name the latencies are recorded under, e.g. "GET /api/products/{productId}"
+	 */
+	public JsonNode get(final String endpoint, final String path) throws IOException, InterruptedException {
+		return this.send(endpoint, this.request(path).GET().build());
+	}
+
+	public JsonNode post(final String endpoint, final String path, final Object body) throws IOException, InterruptedException {
+		return this.send(endpoint, this.request(path)
+				.header("Content-Type", "application/json")
+				.POST(HttpRequest.BodyPublishers.ofByteArray(this.mapper.writeValueAsBytes(body)))
+				.build());
+	}
+
+	/**
+	 * Random element of a JSON array, missing when it is empty.
+	 */
+	public JsonNode pick(final JsonNode array) {
+		return (array.size() == 0) ? MissingNode.getInstance() : array.get(this.random.nextInt(array.size()));
+	}
+
+	private HttpRequest.Builder request(final String path) {
+		return HttpRequest.newBuilder(URI.create(this.baseUrl + path))
+				.timeout(this.timeout)
+				.header("Accept", "application/json");
+	}
+
+	private JsonNode send(final String endpoint, final HttpRequest request) throws IOException, InterruptedException {
+		final long start = this.first ? this.arrival : System.nanoTime();
+		this.first = false;
+		final HttpResponse<byte[]> response;
+		try {
+			response = this.client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+		}
+		catch (IOException e) {
+			this.recorder.record(endpoint, (System.nanoTime() - start) / 1000, false);
+			throw e;
+		}
+		final boolean success = response.statusCode() / 100 == 2;
+		this.recorder.record(endpoint, (System.nanoTime() - start) / 1000, success);
+		if (!success)
+			throw new IllegalStateException(String.format("%s answered %d: %s", endpoint, response.statusCode(),
+					new String(response.body())));
+		return (response.body().length == 0) ? MissingNode.getInstance() : this.mapper.readTree(response.body());
+	}
+
+
+
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,48 @@
+package com.selimhorri.app.loadtest.launcher;
+
+import java.io.Closeable;
+import java.sql.SQLException;
+
+import org.h2.tools.Server;
+
+/**
+ * H2 TCP server holding one in-memory database per service. The services reach it over TCP from their own
+ * class loaders, the harness opens the very same databases in-process to generate the dataset.
+ */
+public final class DatabaseServer implements Closeable {
+	
+	public static final String USERNAME = "sa";
+	public static final String PASSWORD = "";
+	
+	private final Server server;
+	
+	public DatabaseServer(final int port) throws SQLException {
+		this.server = Server.createTcpServer("-tcpPort", String.valueOf(port), "-ifNotExists", "-tcpDaemon").start();
+	}
+	
+	public String remoteUrl(final String database) {
+		return String.format("jdbc:h2:tcp://localhost:%d/mem:%s;DB_CLOSE_DELAY=-1", this.server.getPort(), database);
+	}
+	
+	public String localUrl(final String database) {
+		return "jdbc:h2:mem:" + database;
+	}
+	
+	@Override
+	public void close() {
+		this.server.stop();
+	}
+
+
+
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,104 @@
+package com.selimhorri.app.loadtest.launcher;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.loader.LaunchedURLClassLoader;
+import org.springframework.boot.loader.archive.Archive;
+import org.springframework.boot.loader.archive.JarFileArchive;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * A repackaged service jar booted inside this JVM, in a class loader of its own under the platform one,
+ * so the services keep their own dependencies and same-named classes.
+ */
+@Slf4j
+@Getter
+public final class InProcessService implements Closeable {
+	
+	private static final String BOOT_CLASSES = "BOOT-INF/classes/";
+	private static final String BOOT_LIB = "BOOT-INF/lib/";
+	
+	private final String serviceId;
+	private final int port;
+	private final Closeable context;
+	private final URLClassLoader classLoader;
+	
+	private InProcessService(final String serviceId, final int port, final Closeable context, final URLClassLoader classLoader) {
+		this.serviceId = serviceId;
+		this.port = port;
+		this.context = context;
+		this.classLoader = classLoader;
+	}
+	
+	/**
+	 * Runs the Start-Class of the jar with the given arguments and returns once its web server is up.
+	 */
+	public static InProcessService start(final String serviceId, final Path jar, final int port, final List<String> args)
+			throws Exception {
+		final JarFileArchive archive = new JarFileArchive(jar.toFile());
+		final List<URL> urls = new ArrayList<>();
+		final var nested = archive.getNestedArchives(entry -> entry.isDirectory() ?
+				entry.getName().equals(BOOT_CLASSES) : entry.getName().startsWith(BOOT_LIB), null);
+		while (nested.hasNext()) {
+			final Archive entry = nested.next();
+			urls.add(entry.getUrl());
+		}
+		final URLClassLoader classLoader = new LaunchedURLClassLoader(false, archive, urls.toArray(new URL[0]), 
+				ClassLoader.getPlatformClassLoader());
+		final String startClass = archive.getManifest().getMainAttributes().getValue("Start-Class");
+		
+		final Thread thread = Thread.currentThread();
+		final ClassLoader previous = thread.getContextClassLoader();
+		thread.setContextClassLoader(classLoader);
+		try {
+			// every embedded Tomcat would otherwise install its own JVM wide URLStreamHandlerFactory, the second one fails
+			classLoader.loadClass("org.apache.catalina.webresources.TomcatURLStreamHandlerFactory")
+					.getMethod("disable")
+					.invoke(null);
+			final Object context = classLoader.loadClass("org.springframework.boot.SpringApplication")
+					.getMethod("run", Class.class, String[].class)
+					.invoke(null, classLoader.loadClass(startClass), args.toArray(new String[0]));
+			log.info("** {} started on port {}*", serviceId, port);
+			return new InProcessService(serviceId, port, (Closeable) context, classLoader);
+		}
+		catch (InvocationTargetException e) {
+			classLoader.close();
+			throw (e.getCause() instanceof Exception) ? (Exception) e.getCause() : e;
+		}
+		finally {
+			thread.setContextClassLoader(previous);
+		}
+	}
+	
+	@Override
+	public void close() throws IOException {
+		try {
+			this.context.close();
+		}
+		finally {
+			this.classLoader.close();
+		}
+	}
+
+
+
+}
+
+
+
+
+
+
+
+
+
+
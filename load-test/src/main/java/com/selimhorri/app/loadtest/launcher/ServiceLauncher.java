@@ -0,0 +1,98 @@
+package com.selimhorri.app.loadtest.launcher;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.springframework.boot.loader.jar.JarFile;
+import org.springframework.stereotype.Component;
+
+import com.selimhorri.app.loadtest.config.LoadTestProperties;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Boots every configured service in parallel. Ports are picked up front so that each service can be handed
+ * the whole topology as simple discovery instances, the local stand-in for Eureka.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ServiceLauncher {
+	
+	private final LoadTestProperties properties;
+	
+	/**
+	 * @param ports port of each service id
+	 */
+	public List<InProcessService> start(final Map<String, Integer> ports, final DatabaseServer databaseServer) throws Exception {
+		JarFile.registerUrlProtocolHandler();
+		
+		final List<String> discovery = new ArrayList<>();
+		ports.forEach((serviceId, port) -> discovery.add(String.format(
+				"--spring.cloud.discovery.client.simple.instances.%s[0].uri=http://localhost:%d", serviceId, port)));
+		
+		final ExecutorService executor = Executors.newFixedThreadPool(this.properties.getServices().size());
+		final Map<String, Future<InProcessService>> futures = new LinkedHashMap<>();
+		this.properties.getServices().forEach((serviceId, artifactId) -> {
+			final Path jar = this.properties.getServicesDirectory().resolve(artifactId + ".jar");
+			if (!Files.isRegularFile(jar))
+				throw new IllegalStateException("No " + jar.toAbsolutePath() + ", run with -Ploadtest to copy the service jars");
+			final List<String> args = new ArrayList<>(this.properties.getServiceArgs());
+			args.add("--server.port=" + ports.get(serviceId));
+			args.add("--spring.datasource.url=" + databaseServer.remoteUrl(artifactId));
+			args.add("--spring.datasource.username=" + DatabaseServer.USERNAME);
+			args.add("--spring.datasource.password=" + DatabaseServer.PASSWORD);
+			args.addAll(discovery);
+			futures.put(serviceId, executor.submit(() -> InProcessService.start(serviceId, jar, ports.get(serviceId), args)));
+		});
+		executor.shutdown();
+		
+		final long deadline = System.nanoTime() + this.properties.getStartupTimeout().toNanos();
+		final List<InProcessService> services = new ArrayList<>();
+		try {
+			for (final Future<InProcessService> future : futures.values())
+				services.add(future.get(deadline - System.nanoTime(), TimeUnit.NANOSECONDS));
+			return services;
+		}
+		catch (ExecutionException | TimeoutException | InterruptedException e) {
+			executor.shutdownNow();
+			stop(services);
+			throw (e instanceof ExecutionException && e.getCause() instanceof Exception) ? (Exception) e.getCause() : e;
+		}
+	}
+	
+	public static void stop(final List<InProcessService> services) {
+		for (final InProcessService service : services) {
+			try {
+				service.close();
+			}
+			catch (Exception e) {
+				log.warn("** Stopping {} failed: {}*", service.getServiceId(), e.getMessage());
+			}
+		}
+	}
+
+
+
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,40 @@
+package com.selimhorri.app.loadtest.report;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Outcome of one endpoint (or one whole scenario) over a run, latencies in milliseconds.
+ */
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+@Builder
+public class EndpointResult {
+
+	private long count;
+	private long errors;
+	private double throughput;
+	private double p50;
+	private double p99;
+	private double p999;
+
+	public double errorRate() {
+		return (this.count == 0) ? 0 : (double) this.errors / this.count;
+	}
+
+
+
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,73 @@
+package com.selimhorri.app.loadtest.report;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import com.selimhorri.app.loadtest.config.LoadTestProperties.Gate;
+
+/**
+ * Compares a run with the stored baseline. Latencies may grow by a relative tolerance plus an absolute slack,
+ * so that sub-millisecond percentiles do not flap, throughput may drop by its own tolerance, and the error
+ * rate is bounded regardless of the baseline. A percentile is only compared once enough requests of both runs
+ * lie beyond it, below that it is little more than the slowest request.
+ */
+public final class RegressionGate {
+
+	private final Gate gate;
+
+	public RegressionGate(final Gate gate) {
+		this.gate = gate;
+	}
+
+	/**
+	 * @return one line per regression, empty when the run is within the gates
+	 */
+	public List<String> regressions(final RunResult baseline, final RunResult current) {
+		final List<String> regressions = new ArrayList<>();
+		for (final Map.Entry<String, EndpointResult> entry : baseline.getEndpoints().entrySet()) {
+			final String endpoint = entry.getKey();
+			final EndpointResult expected = entry.getValue();
+			final EndpointResult actual = current.getEndpoints().get(endpoint);
+			if (actual == null || actual.getCount() == 0) {
+				regressions.add(endpoint + ": no requests completed");
+				continue;
+			}
+			final long samples = Math.min(expected.getCount(), actual.getCount());
+			this.latency(regressions, endpoint, "p50", 0.5, samples, expected.getP50(), actual.getP50(), this.gate.getLatencyTolerance());
+			this.latency(regressions, endpoint, "p99", 0.99, samples, expected.getP99(), actual.getP99(), this.gate.getLatencyTolerance());
+			this.latency(regressions, endpoint, "p999", 0.999, samples, expected.getP999(), actual.getP999(), this.gate.getTailTolerance());
+			if (actual.getThroughput() < expected.getThroughput() * (1 - this.gate.getThroughputTolerance()))
+				regressions.add(String.format("%s: throughput %.2f req/s below the %.2f req/s baseline",
+						endpoint, actual.getThroughput(), expected.getThroughput()));
+		}
+		current.getEndpoints().forEach((endpoint, actual) -> {
+			if (actual.errorRate() > this.gate.getMaxErrorRate())
+				regressions.add(String.format("%s: %d errors out of %d requests", endpoint, actual.getErrors(), actual.getCount()));
+		});
+		return regressions;
+	}
+
+	private void latency(final List<String> regressions, final String endpoint, final String percentile, final double quantile,
+			final long samples, final double expected, final double actual, final double tolerance) {
+		if (samples * (1 - quantile) < this.gate.getTailSamples())
+			return;
+		final double limit = expected * (1 + tolerance) + this.gate.getLatencySlack().toNanos() / 1e6;
+		if (actual > limit)
+			regressions.add(String.format("%s: %s %.2f ms above the %.2f ms limit (%.2f ms baseline)",
+					endpoint, percentile, actual, limit, expected));
+	}
+
+
+
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,46 @@
+package com.selimhorri.app.loadtest.report;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.TreeMap;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import lombok.Data;
+
+/**
+ * Results of a run by endpoint, also the format of the stored baseline.
+ */
+@Data
+public class RunResult {
+
+	private static final ObjectMapper MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+	private Map<String, EndpointResult> endpoints = new TreeMap<>();
+
+	public static RunResult read(final Path file) throws IOException {
+		return MAPPER.readValue(file.toFile(), RunResult.class);
+	}
+
+	public void write(final Path file) throws IOException {
+		if (file.toAbsolutePath().getParent() != null)
+			Files.createDirectories(file.toAbsolutePath().getParent());
+		MAPPER.writeValue(file.toFile(), this);
+	}
+
+
+
+}
+
+
+
+
+
+
+
+
+
+
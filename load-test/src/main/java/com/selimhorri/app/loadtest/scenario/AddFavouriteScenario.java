@@ -0,0 +1,48 @@
+package com.selimhorri.app.loadtest.scenario;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
+
+import org.springframework.stereotype.Component;
+
+import com.selimhorri.app.loadtest.driver.Scenario;
+import com.selimhorri.app.loadtest.driver.Session;
+
+/**
+ * A user likes a product, then reads the favourite back, which joins the user and the product in.
+ */
+@Component
+public class AddFavouriteScenario implements Scenario {
+
+	private static final DateTimeFormatter LIKE_DATE = DateTimeFormatter.ofPattern("dd-MM-yyyy__HH:mm:ss:SSSSSS");
+
+	@Override
+	public String name() {
+		return "add-favourite";
+	}
+
+	@Override
+	public void run(final Session session) throws Exception {
+		final long userId = session.getDataset().user(session.getRandom());
+		final long productId = session.getDataset().product(session.getRandom());
+		final String likeDate = LIKE_DATE.format(LocalDateTime.now());
+		session.post("POST /api/favourites", "/api/favourites",
+				Map.of("userId", userId, "productId", productId, "likeDate", likeDate));
+		session.get("GET /api/favourites/{userId}/{productId}/{likeDate}",
+				String.format("/api/favourites/%d/%d/%s", userId, productId, likeDate));
+	}
+
+
+
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,48 @@
+package com.selimhorri.app.loadtest.scenario;
+
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.selimhorri.app.loadtest.driver.Scenario;
+import com.selimhorri.app.loadtest.driver.Session;
+
+/**
+ * Lists the categories, opens the products of one of them and looks at two of those products.
+ */
+@Component
+public class BrowseCatalogScenario implements Scenario {
+
+	@Override
+	public String name() {
+		return "browse-catalog";
+	}
+
+	@Override
+	public void run(final Session session) throws Exception {
+		final JsonNode category = session.pick(session.get("GET /api/categories", "/api/categories?size=20")
+				.path("collection"));
+		if (category.isMissingNode())
+			return;
+		final JsonNode products = session.get("GET /api/categories/{categoryId}/products",
+				"/api/categories/" + category.path("categoryId").asInt() + "/products?size=20")
+				.path("collection");
+		for (int i = 0; i < 2; i++) {
+			final JsonNode product = session.pick(products);
+			if (!product.isMissingNode())
+				session.get("GET /api/products/{productId}", "/api/products/" + product.path("productId").asInt());
+		}
+	}
+
+
+
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,62 @@
+package com.selimhorri.app.loadtest.scenario;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.stereotype.Component;
+
+import com.selimhorri.app.loadtest.driver.Scenario;
+import com.selimhorri.app.loadtest.driver.Session;
+
+/**
+ * Opens a cart, places an order with one to three products shipped, and starts its payment.
+ */
+@Component
+public class CheckoutScenario implements Scenario {
+
+	@Override
+	public String name() {
+		return "checkout";
+	}
+
+	@Override
+	public void run(final Session session) throws Exception {
+		final long userId = session.getDataset().user(session.getRandom());
+		final int cartId = session.post("POST /api/carts", "/api/carts", Map.of("userId", userId))
+				.path("cartId").asInt();
+		final int orderId = session.post("POST /api/orders", "/api/orders", Map.of(
+				"orderDesc", "checkout",
+				"orderFee", 1 + session.getRandom().nextInt(50_000) / 100.0,
+				"cart", Map.of("cartId", cartId)))
+				.path("orderId").asInt();
+
+		final int items = 1 + session.getRandom().nextInt(3);
+		final Set<Long> productIds = new HashSet<>();
+		while (productIds.size() < Math.min(items, session.getDataset().getProducts()))
+			productIds.add(session.getDataset().product(session.getRandom()));
+		for (final long productId : productIds)
+			session.post("POST /api/shippings", "/api/shippings", Map.of(
+					"productId", productId,
+					"orderId", orderId,
+					"orderedQuantity", 1 + session.getRandom().nextInt(5)));
+
+		session.post("POST /api/payments", "/api/payments", Map.of(
+				"isPayed", false,
+				"paymentStatus", "NOT_STARTED",
+				"order", Map.of("orderId", orderId)));
+	}
+
+
+
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,108 @@
+package com.selimhorri.app.loadtest.report;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.selimhorri.app.loadtest.config.LoadTestProperties.Gate;
+
+class RegressionGateTest {
+
+    private static final String ENDPOINT = "GET /api/products/{productId}";
+
+    private RegressionGate gate;
+
+    private RunResult baseline;
+
+    @BeforeEach
+    void setUp() {
+        this.gate = new RegressionGate(new Gate());
+        this.baseline = run(EndpointResult.builder()
+                .count(20000).errors(0).throughput(10).p50(4).p99(20).p999(40)
+                .build());
+    }
+
+    @Test
+    void regressions_withinTolerances_shouldBeEmpty() {
+        // Given
+        final RunResult current = run(EndpointResult.builder()
+                .count(19600).errors(100).throughput(9.5).p50(6.5).p99(26).p999(60)
+                .build());
+
+        // When
+        final List<String> regressions = this.gate.regressions(this.baseline, current);
+
+        // Then
+        assertTrue(regressions.isEmpty(), regressions::toString);
+    }
+
+    @Test
+    void regressions_slowerTailAndLowerThroughput_shouldBeReported() {
+        // Given
+        final RunResult current = run(EndpointResult.builder()
+                .count(16000).errors(0).throughput(8).p50(4).p99(20).p999(70)
+                .build());
+
+        // When
+        final List<String> regressions = this.gate.regressions(this.baseline, current);
+
+        // Then
+        assertEquals(2, regressions.size(), regressions::toString);
+        assertTrue(regressions.get(0).contains("p999"));
+        assertTrue(regressions.get(1).contains("throughput"));
+    }
+
+    @Test
+    void regressions_tooFewRequestsBeyondTail_shouldOnlyCompareMedian() {
+        // Given
+        final RunResult current = run(EndpointResult.builder()
+                .count(500).errors(0).throughput(10).p50(4).p99(200).p999(400)
+                .build());
+
+        // When
+        final List<String> regressions = this.gate.regressions(this.baseline, current);
+
+        // Then
+        assertTrue(regressions.isEmpty(), regressions::toString);
+    }
+
+    @Test
+    void regressions_missingEndpointAndErrors_shouldBeReported() {
+        // Given
+        final RunResult current = new RunResult();
+        current.getEndpoints().put("POST /api/orders", EndpointResult.builder()
+                .count(100).errors(2).throughput(1).p50(5).p99(10).p999(10)
+                .build());
+
+        // When
+        final List<String> regressions = this.gate.regressions(this.baseline, current);
+
+        // Then
+        assertEquals(List.of(ENDPOINT + ": no requests completed", "POST /api/orders: 2 errors out of 100 requests"), regressions);
+    }
+
+    @Test
+    void write_thenRead_shouldRoundTrip(@TempDir final Path directory) throws Exception {
+        // Given
+        final Path file = directory.resolve("nested").resolve("baseline.json");
+
+        // When
+        this.baseline.write(file);
+
+        // Then
+        assertEquals(this.baseline, RunResult.read(file));
+    }
+
+    private static RunResult run(final EndpointResult result) {
+        final RunResult run = new RunResult();
+        run.getEndpoints().put(ENDPOINT, result);
+        return run;
+    }
+
+}
@@ -0,0 +1,43 @@
+package com.selimhorri.app.config.deadline;
+
+import java.io.IOException;
+import java.util.OptionalLong;
+
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+import com.selimhorri.app.exception.wrapper.DeadlineExceededException;
+
+/**
+ * Forwards what is left of the request {@link Deadline} on RestTemplate calls, 
+ * and refuses to make a call the caller will no longer wait for.
+ */
+public class DeadlineClientInterceptor implements ClientHttpRequestInterceptor {
+	
+	@Override
+	public ClientHttpResponse intercept(final HttpRequest request, final byte[] body, 
+			final ClientHttpRequestExecution execution) throws IOException {
+		final OptionalLong remainingMillis = Deadline.remainingMillis();
+		if (remainingMillis.isPresent()) {
+			if (remainingMillis.getAsLong() <= 0)
+				throw new DeadlineExceededException(String.format("Deadline exceeded before calling %s", request.getURI()));
+			request.getHeaders().set(Deadline.HEADER, Long.toString(remainingMillis.getAsLong()));
+		}
+		return execution.execute(request, body);
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,93 @@
+package com.selimhorri.app.config.enrichment;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import com.selimhorri.app.config.deadline.Deadline;
+import com.selimhorri.app.config.resilience.DependencyGuard;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Runs the remote lookups used to enrich DTOs concurrently on a bounded pool. 
+ * Callers take a deadline once per request, never past the request {@link Deadline}, 
+ * submit every lookup, then await them against that same deadline: a lookup that has not completed in time (or failed) 
+ * is reported as absent so the caller can return a partially enriched DTO. 
+ * Lookups submitted for a named dependency also run behind its {@link DependencyGuard}.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class EnrichmentExecutor {
+	
+	private final Executor executor;
+	private final Duration deadline;
+	private final DependencyGuard dependencyGuard;
+	
+	public long deadline() {
+		return Deadline.cap(this.deadline);
+	}
+	
+	public <T> CompletableFuture<T> submit(final String dependency, final Object key, final Supplier<T> lookup) {
+		return this.dependencyGuard.submit(dependency, key, lookup, this.executor);
+	}
+	
+	public <K, V> Map<K, CompletableFuture<V>> submitAll(final String dependency, final Collection<K> keys, final Function<K, V> lookup) {
+		final Map<K, CompletableFuture<V>> futures = new LinkedHashMap<>();
+		keys.stream()
+			.filter(Objects::nonNull)
+			.forEach(key -> futures.computeIfAbsent(key, k -> this.submit(dependency, k, () -> lookup.apply(k))));
+		return futures;
+	}
+	
+	public <T> Optional<T> await(final CompletableFuture<T> future, final long deadline) {
+		try {
+			return Optional.ofNullable(future.get(Math.max(deadline - System.nanoTime(), 0L), TimeUnit.NANOSECONDS));
+		}
+		catch (TimeoutException e) {
+			future.cancel(false);
+			log.warn("*** Enrichment lookup exceeded its deadline, left unresolved *");
+			return Optional.empty();
+		}
+		catch (ExecutionException e) {
+			log.warn("*** Enrichment lookup failed, left unresolved: {} *", e.getCause().getMessage());
+			return Optional.empty();
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return Optional.empty();
+		}
+	}
+	
+	public <K, V> Map<K, V> awaitAll(final Map<K, CompletableFuture<V>> futures, final long deadline) {
+		final Map<K, V> resolved = new HashMap<>(futures.size());
+		futures.forEach((key, future) -> this.await(future, deadline)
+				.ifPresent(value -> resolved.put(key, value)));
+		return resolved;
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
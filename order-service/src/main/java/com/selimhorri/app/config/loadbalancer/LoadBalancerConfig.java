@@ -0,0 +1,20 @@
+package com.selimhorri.app.config.loadbalancer;
+
+import org.springframework.cloud.loadbalancer.annotation.LoadBalancerClients;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@LoadBalancerClients(defaultConfiguration = LoadAwareLoadBalancerConfiguration.class)
+public class LoadBalancerConfig {
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,162 @@
+package com.selimhorri.app.config.metrics;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.util.Locale;
+import java.util.Map;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInitializer;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.web.util.UriComponentsBuilder;
+import org.springframework.web.util.UriTemplateHandler;
+
+import com.selimhorri.app.config.timing.ServerTiming;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Records RestTemplate calls in the {@link ClientMetrics}. It has to be the first interceptor, so calls 
+ * refused by a later one are counted too, and the host is still the target service name. The uri tag is 
+ * the template the call was made with, with any literal id stripped: {@link #uriTemplateHandler(UriTemplateHandler)} 
+ * captures it while the URI is expanded and {@link #uriTemplateInitializer()} moves it onto the request it 
+ * was expanded for, so nothing is left behind on the thread. 
+ * The upstream Server-Timing entries are merged into the request {@link ServerTiming}.
+ */
+@RequiredArgsConstructor
+public class ClientMetricsInterceptor implements ClientHttpRequestInterceptor {
+	
+	private static final String URI_TEMPLATE_HEADER = "X-Client-Metrics-Uri-Template";
+	private static final ThreadLocal<ExpandedUri> EXPANDED_URI = new ThreadLocal<>();
+	
+	private final ClientMetrics clientMetrics;
+	
+	/**
+	 * Wraps the RestTemplate {@link UriTemplateHandler} to remember the template of the URI last expanded on this thread.
+	 */
+	public static UriTemplateHandler uriTemplateHandler(final UriTemplateHandler delegate) {
+		return new UriTemplateHandler() {
+			
+			@Override
+			public URI expand(final String uriTemplate, final Map<String, ?> uriVariables) {
+				return remember(uriTemplate, delegate.expand(uriTemplate, uriVariables));
+			}
+			
+			@Override
+			public URI expand(final String uriTemplate, final Object... uriVariables) {
+				return remember(uriTemplate, delegate.expand(uriTemplate, uriVariables));
+			}
+		
+		};
+	}
+	
+	/**
+	 * Moves the template remembered by {@link #uriTemplateHandler(UriTemplateHandler)} onto the request 
+	 * RestTemplate creates right after expanding it, when the request is for that very URI.
+	 */
+	public static ClientHttpRequestInitializer uriTemplateInitializer() {
+		return request -> {
+			final ExpandedUri expandedUri = EXPANDED_URI.get();
+			EXPANDED_URI.remove();
+			if (expandedUri != null && expandedUri.uri.equals(request.getURI()))
+				request.getHeaders().set(URI_TEMPLATE_HEADER, expandedUri.uriTemplate);
+		};
+	}
+	
+	private static URI remember(final String uriTemplate, final URI uri) {
+		EXPANDED_URI.set(new ExpandedUri(uriTemplate, uri));
+		return uri;
+	}
+	
+	@Override
+	public ClientHttpResponse intercept(final HttpRequest request, final byte[] body, 
+			final ClientHttpRequestExecution execution) throws IOException {
+		
+		final ClientMetrics.Call call = this.clientMetrics.start(request.getURI().getHost(), 
+				request.getMethodValue(), uriOf(request), body.length);
+		final ClientHttpResponse response;
+		try {
+			response = execution.execute(request, body);
+		}
+		catch (IOException | RuntimeException e) {
+			call.failure(e);
+			throw e;
+		}
+		call.success(response.getRawStatusCode());
+		ServerTiming.recordUpstream(request.getURI().getHost().toLowerCase(Locale.ROOT), 
+				response.getHeaders().getFirst(ServerTiming.HEADER));
+		return new CountingClientHttpResponse(response, call);
+	}
+	
+	private static String uriOf(final HttpRequest request) {
+		final String uriTemplate = request.getHeaders().getFirst(URI_TEMPLATE_HEADER);
+		request.getHeaders().remove(URI_TEMPLATE_HEADER);
+		return ClientMetrics.uriOf((uriTemplate != null) ? 
+				UriComponentsBuilder.fromUriString(uriTemplate).build().getPath() : request.getURI().getPath());
+	}
+	
+	@RequiredArgsConstructor
+	private static final class ExpandedUri {
+		
+		private final String uriTemplate;
+		private final URI uri;
+	
+	}
+	
+	@RequiredArgsConstructor
+	private static final class CountingClientHttpResponse implements ClientHttpResponse {
+		
+		private final ClientHttpResponse delegate;
+		private final ClientMetrics.Call call;
+		private InputStream body;
+		
+		@Override
+		public InputStream getBody() throws IOException {
+			if (this.body == null)
+				this.body = this.call.countResponse(this.delegate.getBody());
+			return this.body;
+		}
+		
+		@Override
+		public HttpHeaders getHeaders() {
+			return this.delegate.getHeaders();
+		}
+		
+		@Override
+		public HttpStatus getStatusCode() throws IOException {
+			return this.delegate.getStatusCode();
+		}
+		
+		@Override
+		public int getRawStatusCode() throws IOException {
+			return this.delegate.getRawStatusCode();
+		}
+		
+		@Override
+		public String getStatusText() throws IOException {
+			return this.delegate.getStatusText();
+		}
+		
+		@Override
+		public void close() {
+			if (this.body != null) {
+				try {
+					this.body.close();
+				}
+				catch (IOException e) {
+					// closing the delegate below releases the connection either way
+				}
+			}
+			this.delegate.close();
+		}
+	
+	}
+
+
+
+}
@@ -0,0 +1,31 @@
+package com.selimhorri.app.config.repository;
+
+import java.time.Instant;
+import java.util.List;
+
+import lombok.Value;
+
+/**
+ * A repository invocation kept by the {@link SlowQueryLog}, with the distinct SQL it issued.
+ */
+@Value
+public class SlowQuery {
+	
+	Instant timestamp;
+	String method;
+	long durationMillis;
+	int statements;
+	int entitiesLoaded;
+	List<String> sql;
+
+}
+
+
+
+
+
+
+
+
+
+
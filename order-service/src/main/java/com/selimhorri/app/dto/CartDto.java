@@ -30,6 +30,9 @@ public class CartDto implements Serializable {
 	@JsonInclude(Include.NON_NULL)
 	private UserDto userDto;
 	
+	@JsonInclude(Include.NON_EMPTY)
+	private Set<String> unresolved;
+	
 }
 
 
@@ -1,11 +1,53 @@
 package com.selimhorri.app.repository;
 
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.QueryHints.HINT_READONLY;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import javax.persistence.QueryHint;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
+import com.selimhorri.app.constant.AppConstant;
 import com.selimhorri.app.domain.Order;
 
 public interface OrderRepository extends JpaRepository<Order, Integer> {
 	
+	@Override
+	@EntityGraph(attributePaths = {"cart"})
+	List<Order> findAll();
+	
+	@Override
+	@EntityGraph(attributePaths = {"cart"})
+	Page<Order> findAll(final Pageable pageable);
+	
+	@Override
+	@EntityGraph(attributePaths = {"cart"})
+	Optional<Order> findById(final Integer orderId);
+	
+	@EntityGraph(attributePaths = {"cart"})
+	Slice<Order> findAllBy(final Pageable pageable);
+	
+	@EntityGraph(attributePaths = {"cart"})
+	Slice<Order> findByOrderIdGreaterThan(final Integer orderId, final Pageable pageable);
+	
+	@EntityGraph(attributePaths = {"cart"})
+	List<Order> findAllByCartUserIdOrderByOrderId(final Integer userId);
 	
+	@QueryHints({
+		@QueryHint(name = HINT_FETCH_SIZE, value = "" + AppConstant.EXPORT_FETCH_SIZE),
+		@QueryHint(name = HINT_READONLY, value = "true")
+	})
+	@Query("SELECT o FROM Order o LEFT JOIN FETCH o.cart ORDER BY o.orderId")
+	Stream<Order> streamAllBy();
 	
 }
@@ -4,6 +4,7 @@ import javax.validation.Valid;
 import javax.validation.constraints.NotBlank;
 import javax.validation.constraints.NotNull;
 
+import org.springframework.data.domain.Sort;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -12,10 +13,12 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.selimhorri.app.dto.CartDto;
 import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
+import com.selimhorri.app.helper.PageRequestHelper;
 import com.selimhorri.app.service.CartService;
 
 import lombok.RequiredArgsConstructor;
@@ -30,11 +33,33 @@ public class CartResource {
 	private final CartService cartService;
 	
 	@GetMapping
-	public ResponseEntity<DtoCollectionResponse<CartDto>> findAll() {
+	public ResponseEntity<DtoCollectionResponse<CartDto>> findAll(
+			@RequestParam(name = "page", required = false) final Integer page, 
+			@RequestParam(name = "size", required = false) final Integer size, 
+			@RequestParam(name = "cursor", required = false) final String cursor, 
+			final Sort sort) {
 		log.info("*** CartDto List, controller; fetch all categories *");
+		if (cursor != null) {
+			final var cartId = PageRequestHelper.decodeCursor(cursor, parts -> Integer.parseInt(parts[0]));
+			return ResponseEntity.ok(DtoCollectionResponse.of(
+					this.cartService.findAllAfter(cartId, PageRequestHelper.size(size)), 
+					c -> PageRequestHelper.encodeCursor(c.getCartId())));
+		}
+		if (page != null || size != null || sort.isSorted())
+			return ResponseEntity.ok(DtoCollectionResponse.of(
+					this.cartService.findAll(PageRequestHelper.of(page, size, sort))));
 		return ResponseEntity.ok(new DtoCollectionResponse<>(this.cartService.findAll()));
 	}
 	
+	@GetMapping("/users/{userId}")
+	public ResponseEntity<DtoCollectionResponse<CartDto>> findAllByUserId(
+			@PathVariable("userId") 
+			@NotBlank(message = "Input must not be blank") 
+			@Valid final String userId) {
+		log.info("*** CartDto List, resource; fetch all carts of user *");
+		return ResponseEntity.ok(new DtoCollectionResponse<>(this.cartService.findAllByUserId(Integer.parseInt(userId))));
+	}
+	
 	@GetMapping("/{cartId}")
 	public ResponseEntity<CartDto> findById(
 			@PathVariable("cartId") 
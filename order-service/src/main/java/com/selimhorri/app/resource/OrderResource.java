@@ -1,9 +1,14 @@
 package com.selimhorri.app.resource;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
 import javax.validation.Valid;
 import javax.validation.constraints.NotBlank;
 import javax.validation.constraints.NotNull;
 
+import org.springframework.data.domain.Sort;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -12,10 +17,17 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import com.selimhorri.app.dto.OrderDto;
 import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
+import com.selimhorri.app.helper.PageRequestHelper;
 import com.selimhorri.app.service.OrderService;
 
 import lombok.RequiredArgsConstructor;
@@ -28,13 +40,60 @@ import lombok.extern.slf4j.Slf4j;
 public class OrderResource {
 	
 	private final OrderService orderService;
+	private final ObjectMapper objectMapper;
 	
 	@GetMapping
-	public ResponseEntity<DtoCollectionResponse<OrderDto>> findAll() {
+	public ResponseEntity<DtoCollectionResponse<OrderDto>> findAll(
+			@RequestParam(name = "page", required = false) final Integer page, 
+			@RequestParam(name = "size", required = false) final Integer size, 
+			@RequestParam(name = "cursor", required = false) final String cursor, 
+			final Sort sort) {
 		log.info("*** OrderDto List, controller; fetch all orders *");
+		if (cursor != null) {
+			final var orderId = PageRequestHelper.decodeCursor(cursor, parts -> Integer.parseInt(parts[0]));
+			return ResponseEntity.ok(DtoCollectionResponse.of(
+					this.orderService.findAllAfter(orderId, PageRequestHelper.size(size)), 
+					o -> PageRequestHelper.encodeCursor(o.getOrderId())));
+		}
+		if (page != null || size != null || sort.isSorted())
+			return ResponseEntity.ok(DtoCollectionResponse.of(
+					this.orderService.findAll(PageRequestHelper.of(page, size, sort))));
 		return ResponseEntity.ok(new DtoCollectionResponse<>(this.orderService.findAll()));
 	}
 	
+	@GetMapping("/export")
+	public ResponseEntity<StreamingResponseBody> exportAll() {
+		log.info("*** OrderDto Stream, controller; export all orders as ndjson *");
+		final ObjectWriter objectWriter = this.objectMapper.writer()
+				.without(SerializationFeature.INDENT_OUTPUT)
+				.without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+				.withRootValueSeparator("");
+		return ResponseEntity.ok()
+				.contentType(MediaType.APPLICATION_NDJSON)
+				.body(outputStream -> {
+					try (final JsonGenerator jsonGenerator = objectWriter.createGenerator(outputStream)) {
+						this.orderService.exportAll(orderDto -> {
+							try {
+								objectWriter.writeValue(jsonGenerator, orderDto);
+								jsonGenerator.writeRaw('\n');
+							}
+							catch (IOException e) {
+								throw new UncheckedIOException(e);
+							}
+						});
+					}
+				});
+	}
+	
+	@GetMapping("/users/{userId}")
+	public ResponseEntity<DtoCollectionResponse<OrderDto>> findAllByUserId(
+			@PathVariable("userId") 
+			@NotBlank(message = "Input must not be blank") 
+			@Valid final String userId) {
+		log.info("*** OrderDto List, resource; fetch all orders of user *");
+		return ResponseEntity.ok(new DtoCollectionResponse<>(this.orderService.findAllByUserId(Integer.parseInt(userId))));
+	}
+	
 	@GetMapping("/{orderId}")
 	public ResponseEntity<OrderDto> findById(
 			@PathVariable("orderId") 
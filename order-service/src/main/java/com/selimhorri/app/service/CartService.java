@@ -2,11 +2,18 @@ package com.selimhorri.app.service;
 
 import java.util.List;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
 import com.selimhorri.app.dto.CartDto;
 
 public interface CartService {
 	
 	List<CartDto> findAll();
+	Page<CartDto> findAll(final Pageable pageable);
+	Slice<CartDto> findAllAfter(final Integer cartId, final int size);
+	List<CartDto> findAllByUserId(final Integer userId);
 	CartDto findById(final Integer cartId);
 	CartDto save(final CartDto cartDto);
 	CartDto update(final CartDto cartDto);
@@ -1,12 +1,21 @@
 package com.selimhorri.app.service;
 
 import java.util.List;
+import java.util.function.Consumer;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 import com.selimhorri.app.dto.OrderDto;
 
 public interface OrderService {
 	
 	List<OrderDto> findAll();
+	Page<OrderDto> findAll(final Pageable pageable);
+	Slice<OrderDto> findAllAfter(final Integer orderId, final int size);
+	List<OrderDto> findAllByUserId(final Integer userId);
+	void exportAll(final Consumer<OrderDto> orderDtoConsumer);
 	OrderDto findById(final Integer orderId);
 	OrderDto save(final OrderDto orderDto);
 	OrderDto update(final OrderDto orderDto);
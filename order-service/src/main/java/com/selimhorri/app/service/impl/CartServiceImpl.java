@@ -1,13 +1,21 @@
 package com.selimhorri.app.service.impl;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import javax.transaction.Transactional;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
 
+import com.selimhorri.app.config.enrichment.EnrichmentExecutor;
 import com.selimhorri.app.constant.AppConstant;
 import com.selimhorri.app.dto.CartDto;
 import com.selimhorri.app.dto.UserDto;
@@ -27,20 +35,46 @@ public class CartServiceImpl implements CartService {
 	
 	private final CartRepository cartRepository;
 	private final RestTemplate restTemplate;
+	private final EnrichmentExecutor enrichmentExecutor;
 	
 	@Override
 	public List<CartDto> findAll() {
 		log.info("*** CartDto List, service; fetch all carts *");
-		return this.cartRepository.findAll()
+		return this.enrich(this.cartRepository.findAll()
 				.stream()
 					.map(CartMappingHelper::map)
-					.map(c -> {
-						c.setUserDto(this.restTemplate.getForObject(AppConstant.DiscoveredDomainsApi
-								.USER_SERVICE_API_URL + "/" + c.getUserDto().getUserId(), UserDto.class));
-						return c;
-					})
 					.distinct()
-					.collect(Collectors.toUnmodifiableList());
+					.collect(Collectors.toUnmodifiableList()));
+	}
+	
+	@Override
+	public Page<CartDto> findAll(final Pageable pageable) {
+		log.info("*** CartDto Page, service; fetch carts page *");
+		final Page<CartDto> cartDtos = this.cartRepository.findAll(pageable)
+				.map(CartMappingHelper::map);
+		this.enrich(cartDtos.getContent());
+		return cartDtos;
+	}
+	
+	@Override
+	public Slice<CartDto> findAllAfter(final Integer cartId, final int size) {
+		log.info("*** CartDto Slice, service; fetch carts after cursor *");
+		final var pageable = PageRequest.of(0, size, Sort.by("cartId"));
+		final Slice<CartDto> cartDtos = ((cartId == null) ? 
+					this.cartRepository.findAllBy(pageable) : 
+					this.cartRepository.findByCartIdGreaterThan(cartId, pageable))
+				.map(CartMappingHelper::map);
+		this.enrich(cartDtos.getContent());
+		return cartDtos;
+	}
+	
+	@Override
+	public List<CartDto> findAllByUserId(final Integer userId) {
+		log.info("*** CartDto List, service; fetch all carts of user *");
+		return this.enrich(this.cartRepository.findAllByUserIdOrderByCartId(userId)
+				.stream()
+					.map(CartMappingHelper::map)
+					.collect(Collectors.toUnmodifiableList()));
 	}
 	
 	@Override
@@ -48,11 +82,7 @@ public class CartServiceImpl implements CartService {
 		log.info("*** CartDto, service; fetch cart by id *");
 		return this.cartRepository.findById(cartId)
 				.map(CartMappingHelper::map)
-				.map(c -> {
-					c.setUserDto(this.restTemplate.getForObject(AppConstant.DiscoveredDomainsApi
-							.USER_SERVICE_API_URL + "/" + c.getUserDto().getUserId(), UserDto.class));
-					return c;
-				})
+				.map(c -> this.enrich(List.of(c)).get(0))
 				.orElseThrow(() -> new CartNotFoundException(String
 						.format("Cart with id: %d not found", cartId)));
 	}
@@ -84,6 +114,27 @@ public class CartServiceImpl implements CartService {
 		this.cartRepository.deleteById(cartId);
 	}
 	
+	private List<CartDto> enrich(final List<CartDto> cartDtos) {
+		
+		final long deadline = this.enrichmentExecutor.deadline();
+		final Map<Integer, UserDto> userDtos = this.enrichmentExecutor.awaitAll(this.enrichmentExecutor.submitAll(AppConstant.DiscoveredDomainsApi.USER_SERVICE_NAME, 
+				cartDtos.stream()
+					.map(c -> c.getUserDto().getUserId())
+					.collect(Collectors.toList()), 
+				userId -> this.restTemplate.getForObject(AppConstant.DiscoveredDomainsApi
+						.USER_SERVICE_API_URL + "/{userId}", UserDto.class, userId)), deadline);
+		
+		cartDtos.forEach(c -> {
+			final var userDto = userDtos.get(c.getUserDto().getUserId());
+			if (userDto != null)
+				c.setUserDto(userDto);
+			else
+				c.setUnresolved(Set.of("user"));
+		});
+		
+		return cartDtos;
+	}
+	
 	
 	
 }
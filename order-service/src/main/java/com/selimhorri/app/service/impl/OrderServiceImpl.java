@@ -1,12 +1,22 @@
 package com.selimhorri.app.service.impl;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+import javax.persistence.EntityManager;
 import javax.transaction.Transactional;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 
+import com.selimhorri.app.domain.Order;
 import com.selimhorri.app.dto.OrderDto;
 import com.selimhorri.app.exception.wrapper.OrderNotFoundException;
 import com.selimhorri.app.helper.OrderMappingHelper;
@@ -23,6 +33,7 @@ import lombok.extern.slf4j.Slf4j;
 public class OrderServiceImpl implements OrderService {
 	
 	private final OrderRepository orderRepository;
+	private final EntityManager entityManager;
 	
 	@Override
 	public List<OrderDto> findAll() {
@@ -34,6 +45,49 @@ public class OrderServiceImpl implements OrderService {
 					.collect(Collectors.toUnmodifiableList());
 	}
 	
+	@Override
+	public Page<OrderDto> findAll(final Pageable pageable) {
+		log.info("*** OrderDto Page, service; fetch orders page *");
+		return this.orderRepository.findAll(pageable)
+				.map(OrderMappingHelper::map);
+	}
+	
+	@Override
+	public Slice<OrderDto> findAllAfter(final Integer orderId, final int size) {
+		log.info("*** OrderDto Slice, service; fetch orders after cursor *");
+		final var pageable = PageRequest.of(0, size, Sort.by("orderId"));
+		return ((orderId == null) ? 
+					this.orderRepository.findAllBy(pageable) : 
+					this.orderRepository.findByOrderIdGreaterThan(orderId, pageable))
+				.map(OrderMappingHelper::map);
+	}
+	
+	@Override
+	public List<OrderDto> findAllByUserId(final Integer userId) {
+		log.info("*** OrderDto List, service; fetch all orders of user *");
+		return this.orderRepository.findAllByCartUserIdOrderByOrderId(userId)
+				.stream()
+					.map(OrderMappingHelper::map)
+					.collect(Collectors.toUnmodifiableList());
+	}
+	
+	/**
+	 * Maps rows one at a time off a JDBC cursor, detaching each entity once mapped, 
+	 * so that the persistence context does not grow with the table.
+	 */
+	@Override
+	public void exportAll(final Consumer<OrderDto> orderDtoConsumer) {
+		log.info("*** OrderDto Stream, service; export all orders *");
+		try (final Stream<Order> orders = this.orderRepository.streamAllBy()) {
+			orders.forEach(order -> {
+				final var orderDto = OrderMappingHelper.map(order);
+				this.entityManager.detach(order);
+				Optional.ofNullable(order.getCart()).ifPresent(this.entityManager::detach);
+				orderDtoConsumer.accept(orderDto);
+			});
+		}
+	}
+	
 	@Override
 	public OrderDto findById(final Integer orderId) {
 		log.info("*** OrderDto, service; fetch order by id *");
@@ -55,4 +55,16 @@ class OrderServiceApplicationTests {
         ResponseEntity<String> response = restTemplate.exchange("/api/orders/1", HttpMethod.DELETE, null, String.class);
         assertTrue(response.getStatusCode().is2xxSuccessful() || response.getStatusCode().is4xxClientError());
     }
+
+    @Test
+    void testExportOrders_ShouldStreamOneCompactJsonObjectPerLine() {
+        ResponseEntity<String> response = restTemplate.getForEntity("/api/orders/export", String.class);
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertTrue(MediaType.APPLICATION_NDJSON.isCompatibleWith(response.getHeaders().getContentType()));
+        assertNotNull(response.getBody());
+        assertTrue(response.getBody().endsWith("\n"));
+        for (String line : response.getBody().split("\n")) {
+            assertTrue(line.startsWith("{\"orderId\":") && line.endsWith("}"), line);
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,58 @@
+package com.selimhorri.app.config.deadline;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLTimeoutException;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+class DeadlineDataSourceTest {
+
+    private final DeadlineDataSource dataSource = new DeadlineDataSource(
+            new DriverManagerDataSource("jdbc:h2:mem:deadline;DB_CLOSE_DELAY=-1"));
+
+    @AfterEach
+    void tearDown() {
+        Deadline.clear();
+    }
+
+    @Test
+    void statementsGetTheRemainingBudgetAsQueryTimeout() throws Exception {
+        // Given
+        Deadline.start(4_200);
+
+        // When
+        try (Connection connection = dataSource.getConnection();
+                PreparedStatement statement = connection.prepareStatement("SELECT 1")) {
+
+            // Then - rounded up to whole seconds
+            assertEquals(5, statement.getQueryTimeout());
+        }
+    }
+
+    @Test
+    void statementsAreUnboundedWithoutDeadline() throws Exception {
+        // When
+        try (Connection connection = dataSource.getConnection();
+                PreparedStatement statement = connection.prepareStatement("SELECT 1")) {
+
+            // Then
+            assertEquals(0, statement.getQueryTimeout());
+        }
+    }
+
+    @Test
+    void noConnectionIsBorrowedOnceTheDeadlineHasPassed() {
+        // Given
+        Deadline.start(-1);
+
+        // When / Then
+        assertThrows(SQLTimeoutException.class, dataSource::getConnection);
+    }
+
+}
@@ -0,0 +1,51 @@
+package com.selimhorri.app.config.deadline;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.OptionalLong;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class DeadlineFilterTest {
+
+    private final DeadlineFilter deadlineFilter = new DeadlineFilter();
+
+    @Test
+    void budgetIsVisibleWhileTheRequestIsHandledAndClearedAfterwards() throws Exception {
+        // Given
+        final MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/orders");
+        request.addHeader(Deadline.HEADER, "3000");
+        final AtomicReference<OptionalLong> seen = new AtomicReference<>();
+
+        // When
+        deadlineFilter.doFilter(request, new MockHttpServletResponse(),
+                (req, res) -> seen.set(Deadline.remainingMillis()));
+
+        // Then
+        assertTrue(seen.get().getAsLong() > 2_000 && seen.get().getAsLong() <= 3_000);
+        assertTrue(Deadline.remainingMillis().isEmpty());
+    }
+
+    @Test
+    void spentBudgetIsRefusedWithoutHandlingTheRequest() throws Exception {
+        // Given
+        final MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/orders");
+        request.addHeader(Deadline.HEADER, "0");
+        final MockHttpServletResponse response = new MockHttpServletResponse();
+        final AtomicBoolean handled = new AtomicBoolean();
+
+        // When
+        deadlineFilter.doFilter(request, response, (req, res) -> handled.set(true));
+
+        // Then
+        assertEquals(504, response.getStatus());
+        assertFalse(handled.get());
+    }
+
+}
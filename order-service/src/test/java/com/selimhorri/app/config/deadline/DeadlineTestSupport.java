@@ -0,0 +1,19 @@
+package com.selimhorri.app.config.deadline;
+
+/**
+ * Opens the package-private {@link Deadline} lifecycle to tests in other packages.
+ */
+public final class DeadlineTestSupport {
+
+    private DeadlineTestSupport() {
+    }
+
+    public static void start(final long remainingMillis) {
+        Deadline.start(remainingMillis);
+    }
+
+    public static void clear() {
+        Deadline.clear();
+    }
+
+}
@@ -0,0 +1,96 @@
+package com.selimhorri.app.config.jfr;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import com.selimhorri.app.config.metrics.ClientMetrics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+class FlightRecordingTest {
+
+    @TempDir
+    Path dumpDirectory;
+
+    private FlightRecording flightRecording;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        flightRecording = new FlightRecording("ORDER-SERVICE", "default", Duration.ofMinutes(5), 
+                DataSize.ofMegabytes(50), Duration.ZERO, dumpDirectory, 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        flightRecording.destroy();
+    }
+
+    @Test
+    void testDump_ShouldWriteTheRemoteCallsToAFile() throws Exception {
+        // Given
+        ClientMetrics clientMetrics = new ClientMetrics(new SimpleMeterRegistry(), "ORDER-SERVICE", 
+                new Duration[] { Duration.ofMillis(100) });
+        clientMetrics.start("USER-SERVICE", "GET", "/user-service/api/users/{id}", -1).success(200);
+
+        // When
+        Path file = flightRecording.dump(Duration.ofMinutes(1));
+
+        // Then
+        assertTrue(file.startsWith(dumpDirectory));
+        assertTrue(file.getFileName().toString().startsWith("order-service-"));
+        List<RecordedEvent> remoteCalls = RecordingFile.readAllEvents(file).stream()
+                .filter(event -> event.getEventType().getName().equals("com.selimhorri.app.RemoteCall"))
+                .collect(Collectors.toList());
+        assertEquals(1, remoteCalls.size());
+        assertEquals("user-service", remoteCalls.get(0).getString("target"));
+        assertEquals("/user-service/api/users/{id}", remoteCalls.get(0).getString("uri"));
+        assertEquals(200, remoteCalls.get(0).getInt("status"));
+        assertEquals("SUCCESS", remoteCalls.get(0).getString("outcome"));
+    }
+
+    @Test
+    void testDump_ShouldDeleteTheOldestDumpsBeyondMaxDumps() throws Exception {
+        // Given - two earlier dumps and one from another application
+        Path oldest = Files.createFile(dumpDirectory.resolve("order-service-20250101-000000.jfr"));
+        Path older = Files.createFile(dumpDirectory.resolve("order-service-20250102-000000.jfr"));
+        Path other = Files.createFile(dumpDirectory.resolve("user-service-20250101-000000.jfr"));
+
+        // When
+        Path file = flightRecording.dump(Duration.ofMinutes(1));
+
+        // Then
+        assertTrue(Files.exists(file));
+        assertTrue(Files.exists(older));
+        assertFalse(Files.exists(oldest));
+        assertTrue(Files.exists(other));
+    }
+
+    @Test
+    void testEndpointDump_ShouldClampMinutesToMaxAge() throws Exception {
+        // Given
+        FlightRecordingEndpoint flightRecordingEndpoint = new FlightRecordingEndpoint(flightRecording);
+
+        // When
+        Map<String, Object> result = flightRecordingEndpoint.dump(600);
+
+        // Then
+        assertEquals(5, result.get("minutes"));
+    }
+
+}
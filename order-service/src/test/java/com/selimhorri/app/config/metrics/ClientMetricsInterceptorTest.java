@@ -0,0 +1,114 @@
+package com.selimhorri.app.config.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.headerDoesNotExist;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withServerError;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.RestTemplate;
+
+import com.selimhorri.app.config.deadline.DeadlineClientInterceptor;
+import com.selimhorri.app.config.deadline.DeadlineTestSupport;
+import com.selimhorri.app.constant.AppConstant;
+import com.selimhorri.app.exception.wrapper.DeadlineExceededException;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class ClientMetricsInterceptorTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private RestTemplate restTemplate;
+    private MockRestServiceServer server;
+
+    @BeforeEach
+    void setUp() {
+        this.restTemplate = new RestTemplate();
+        this.restTemplate.setUriTemplateHandler(ClientMetricsInterceptor.uriTemplateHandler(this.restTemplate.getUriTemplateHandler()));
+        this.restTemplate.getClientHttpRequestInitializers().add(ClientMetricsInterceptor.uriTemplateInitializer());
+        this.restTemplate.getInterceptors().add(new ClientMetricsInterceptor(
+                new ClientMetrics(this.meterRegistry, "ORDER-SERVICE", new Duration[] { Duration.ofMillis(100) })));
+        this.restTemplate.getInterceptors().add(new DeadlineClientInterceptor());
+        this.server = MockRestServiceServer.bindTo(this.restTemplate).build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        DeadlineTestSupport.clear();
+    }
+
+    @Test
+    void templatedCallIsTaggedWithItsTemplate() {
+        // Given
+        this.server.expect(requestTo(AppConstant.DiscoveredDomainsApi.USER_SERVICE_API_URL + "/1"))
+                .andExpect(headerDoesNotExist("X-Client-Metrics-Uri-Template"))
+                .andRespond(withSuccess("{\"userId\":1}", MediaType.APPLICATION_JSON));
+
+        // When
+        this.restTemplate.getForObject(AppConstant.DiscoveredDomainsApi.USER_SERVICE_API_URL + "/{userId}", String.class, 1);
+
+        // Then
+        final Timer timer = this.meterRegistry.get(ClientMetrics.REQUESTS)
+                .tags("caller", "order-service", "target", "user-service", "method", "GET", 
+                        "uri", "/user-service/api/users/{userId}", "outcome", "SUCCESS")
+                .timer();
+        assertEquals(1, timer.count());
+        assertEquals(12, this.meterRegistry.get(ClientMetrics.RESPONSE_SIZE).summary().totalAmount());
+        assertEquals(0, this.meterRegistry.get(ClientMetrics.IN_FLIGHT).tag("target", "user-service").gauge().value());
+    }
+
+    @Test
+    void plainCallHasItsIdsStrippedAndServerErrorsCounted() {
+        // Given
+        this.server.expect(requestTo(AppConstant.DiscoveredDomainsApi.USER_SERVICE_API_URL + "/42"))
+                .andRespond(withServerError());
+
+        // When
+        assertThrows(HttpServerErrorException.class, () -> this.restTemplate
+                .getForObject(AppConstant.DiscoveredDomainsApi.USER_SERVICE_API_URL + "/42", String.class));
+
+        // Then
+        assertEquals(1, this.meterRegistry.get(ClientMetrics.REQUESTS)
+                .tags("uri", "/user-service/api/users/{id}", "outcome", "SERVER_ERROR")
+                .timer()
+                .count());
+    }
+
+    @Test
+    void callRefusedByTheDeadlineIsCountedAndDoesNotTagTheNextCall() {
+        // Given - a call refused before it leaves, then a plain call on the same thread
+        DeadlineTestSupport.start(-5);
+        assertThrows(DeadlineExceededException.class, () -> this.restTemplate
+                .getForObject(AppConstant.DiscoveredDomainsApi.USER_SERVICE_API_URL + "/{userId}", String.class, 1));
+        DeadlineTestSupport.clear();
+        this.server.expect(requestTo(AppConstant.DiscoveredDomainsApi.PRODUCT_SERVICE_API_URL + "/7"))
+                .andRespond(withSuccess("{}", MediaType.APPLICATION_JSON));
+
+        // When
+        this.restTemplate.getForObject(AppConstant.DiscoveredDomainsApi.PRODUCT_SERVICE_API_URL + "/7", String.class);
+
+        // Then
+        assertEquals(1, this.meterRegistry.get(ClientMetrics.REQUESTS)
+                .tags("uri", "/user-service/api/users/{userId}", "outcome", "IO_ERROR", 
+                        "exception", "DeadlineExceededException")
+                .timer()
+                .count());
+        assertEquals(1, this.meterRegistry.get(ClientMetrics.REQUESTS)
+                .tags("target", "product-service", "uri", "/product-service/api/products/{id}")
+                .timer()
+                .count());
+    }
+
+}
@@ -0,0 +1,119 @@
+package com.selimhorri.app.config.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import com.selimhorri.app.domain.Cart;
+import com.selimhorri.app.domain.Order;
+import com.selimhorri.app.repository.CartRepository;
+import com.selimhorri.app.repository.OrderRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DataJpaTest(properties = {
+        "app.repository.statistics.slow-threshold=1h",
+        "app.repository.statistics.statement-threshold=3"
+})
+@Import({ RepositoryStatisticsConfig.class, RepositoryStatistics.class, SlowQueryLog.class, SimpleMeterRegistry.class })
+class RepositoryStatisticsTest {
+
+    private static final int CARTS = 5;
+
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private CartRepository cartRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private SlowQueryLog slowQueryLog;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < CARTS; i++) {
+            Cart cart = testEntityManager.persist(Cart.builder()
+                    .userId(100 + i)
+                    .build());
+            testEntityManager.persist(Order.builder()
+                    .orderDate(LocalDateTime.now())
+                    .orderDesc("order-" + i)
+                    .orderFee(1.0)
+                    .cart(cart)
+                    .build());
+        }
+        testEntityManager.flush();
+        testEntityManager.clear();
+        slowQueryLog.clear();
+    }
+
+    @Test
+    void testRepositoryMethod_ShouldRecordStatementsAndEntitiesLoaded() {
+        // When
+        List<Order> orders = orderRepository.findAll();
+
+        // Then
+        assertEquals(1.0, meterRegistry.get(RepositoryStatistics.STATEMENTS)
+                .tags("repository", "OrderRepository", "method", "findAll")
+                .summary()
+                .max());
+        assertTrue(meterRegistry.get(RepositoryStatistics.ENTITIES_LOADED)
+                .tags("repository", "OrderRepository", "method", "findAll")
+                .summary()
+                .max() >= 2 * CARTS);
+        assertEquals(1, meterRegistry.get(RepositoryStatistics.INVOCATIONS)
+                .tags("repository", "OrderRepository", "method", "findAll", "exception", "None")
+                .timer()
+                .count());
+        assertTrue(orders.size() >= CARTS);
+        assertTrue(slowQueryLog.entries().isEmpty());
+    }
+
+    @Test
+    void testLazyLoadsOutsideRepository_ShouldCountAsUnattributed() {
+        // Given
+        List<Cart> carts = cartRepository.findAll();
+        double before = meterRegistry.get(RepositoryStatistics.UNATTRIBUTED).functionCounter().count();
+
+        // When
+        carts.forEach(cart -> cart.getOrders().size());
+
+        // Then
+        assertEquals(carts.size(), meterRegistry.get(RepositoryStatistics.UNATTRIBUTED).functionCounter().count() - before);
+    }
+
+    @Test
+    void testInvocationAboveStatementThreshold_ShouldBeKeptInSlowQueryLog() {
+        // When
+        orderRepository.saveAll(List.of(
+                Order.builder().orderDesc("a").build(),
+                Order.builder().orderDesc("b").build(),
+                Order.builder().orderDesc("c").build(),
+                Order.builder().orderDesc("d").build()));
+
+        // Then
+        List<SlowQuery> entries = slowQueryLog.entries();
+        assertEquals(1, entries.size());
+        assertEquals("OrderRepository.saveAll", entries.get(0).getMethod());
+        assertEquals(4, entries.get(0).getStatements());
+        assertEquals(1, entries.get(0).getSql().size());
+        assertTrue(entries.get(0).getSql().get(0).contains("insert into orders"));
+    }
+
+}
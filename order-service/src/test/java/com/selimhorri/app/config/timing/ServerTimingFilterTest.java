@@ -0,0 +1,47 @@
+package com.selimhorri.app.config.timing;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class ServerTimingFilterTest {
+
+    private final ServerTimingFilter serverTimingFilter = new ServerTimingFilter();
+
+    @Test
+    void headerIsWrittenBeforeTheBodyWithEveryRecordedMetric() throws Exception {
+        // Given
+        final MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        serverTimingFilter.doFilter(new MockHttpServletRequest("GET", "/api/carts"), response, (req, res) -> {
+            ServerTiming.record(ServerTiming.DB, TimeUnit.MILLISECONDS.toNanos(4));
+            ServerTiming.record(ServerTiming.DB, TimeUnit.MILLISECONDS.toNanos(2));
+            ServerTiming.propagate(() -> ServerTiming.record("user-service", TimeUnit.MILLISECONDS.toNanos(30))).run();
+            ServerTiming.recordUpstream("user-service", "db;dur=12.5, total;dur=20.0");
+            res.getOutputStream().write("[]".getBytes(StandardCharsets.UTF_8));
+            res.flushBuffer();
+        });
+
+        // Then
+        final String header = response.getHeader(ServerTiming.HEADER);
+        assertTrue(header.startsWith("db;dur=6.0;desc=\"2 calls\", user-service;dur=30.0, user-service.db;dur=12.5, total;dur="));
+        assertFalse(ServerTiming.isActive());
+    }
+
+    @Test
+    void recordingOutsideOfARequestIsIgnored() {
+        // When
+        ServerTiming.record(ServerTiming.DB, 1_000);
+
+        // Then
+        assertFalse(ServerTiming.isActive());
+    }
+
+}
@@ -0,0 +1,105 @@
+package com.selimhorri.app.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+
+import com.selimhorri.app.domain.Cart;
+import com.selimhorri.app.domain.Order;
+import com.selimhorri.app.helper.OrderMappingHelper;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class OrderRepositoryTest {
+
+    private static final int EXTRA_CARTS = 10;
+
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        // One order per distinct cart, so an N+1 would grow with the row count
+        for (int i = 0; i < EXTRA_CARTS; i++) {
+            Cart cart = testEntityManager.persist(Cart.builder()
+                    .userId(i)
+                    .build());
+            testEntityManager.persist(Order.builder()
+                    .orderDate(LocalDateTime.now())
+                    .orderDesc("order-" + i)
+                    .orderFee(1.0)
+                    .cart(cart)
+                    .build());
+        }
+        testEntityManager.flush();
+        testEntityManager.clear();
+
+        statistics = testEntityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void testFindAllOrders_ShouldIssueSingleStatement() {
+        // When
+        List<Order> orders = orderRepository.findAll();
+        orders.forEach(OrderMappingHelper::map);
+
+        // Then
+        assertTrue(orders.size() >= EXTRA_CARTS);
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void testFindAllOrdersPage_ShouldIssueSelectAndCountOnly() {
+        // When
+        Page<Order> orders = orderRepository.findAll(PageRequest.of(0, 5));
+        orders.forEach(OrderMappingHelper::map);
+
+        // Then
+        assertEquals(5, orders.getNumberOfElements());
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void testFindAllOrdersSlice_ShouldIssueSingleStatement() {
+        // When
+        Slice<Order> orders = orderRepository.findByOrderIdGreaterThan(0, PageRequest.of(0, 5));
+        orders.forEach(OrderMappingHelper::map);
+
+        // Then
+        assertEquals(5, orders.getNumberOfElements());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void testFindAllOrdersOfUser_ShouldIssueSingleStatement() {
+        // When
+        List<Order> orders = orderRepository.findAllByCartUserIdOrderByOrderId(3);
+        orders.forEach(OrderMappingHelper::map);
+
+        // Then
+        assertTrue(orders.stream().anyMatch(order -> "order-3".equals(order.getOrderDesc())));
+        assertTrue(orders.stream().allMatch(order -> order.getCart().getUserId() == 3));
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+}
@@ -0,0 +1,65 @@
+package com.selimhorri.app.resource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.web.embedded.tomcat.TomcatServletWebServerFactory;
+import org.springframework.boot.web.server.WebServerFactoryCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import com.selimhorri.app.dto.OrderDto;
+import com.selimhorri.app.service.OrderService;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class OrderResourceExportTest {
+
+    private static final int ORDERS = 5;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @MockBean
+    private OrderService orderService;
+
+    @Test
+    void exportAll_slowerThanTheContainerAsyncTimeout_shouldStreamEveryOrder() {
+        // Given - an export that takes about 2s against a 200ms container default
+        doAnswer(invocation -> {
+            final Consumer<OrderDto> consumer = invocation.getArgument(0);
+            for (int orderId = 1; orderId <= ORDERS; orderId++) {
+                Thread.sleep(400);
+                consumer.accept(OrderDto.builder().orderId(orderId).build());
+            }
+            return null;
+        }).when(orderService).exportAll(any());
+
+        // When
+        final ResponseEntity<String> response = restTemplate.getForEntity("/api/orders/export", String.class);
+
+        // Then
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(ORDERS, response.getBody().split("\n").length);
+    }
+
+    @TestConfiguration
+    static class ShortAsyncTimeout {
+
+        @Bean
+        WebServerFactoryCustomizer<TomcatServletWebServerFactory> shortAsyncTimeout() {
+            return factory -> factory.addConnectorCustomizers(connector -> connector.setAsyncTimeout(200));
+        }
+
+    }
+
+}
@@ -0,0 +1,37 @@
+package com.selimhorri.app.config.deadline;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class DeadlineConfig {
+	
+	@Bean
+	public static BeanPostProcessor deadlineDataSourcePostProcessor() {
+		return new BeanPostProcessor() {
+			
+			@Override
+			public Object postProcessAfterInitialization(final Object bean, final String beanName) {
+				return (bean instanceof DataSource && !(bean instanceof DeadlineDataSource)) ? 
+						new DeadlineDataSource((DataSource) bean) : bean;
+			}
+			
+		};
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,46 @@
+package com.selimhorri.app.config.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+import lombok.Setter;
+
+/**
+ * A Spring Data repository method, with the statements and entities it accounted for.
+ */
+@Name("com.selimhorri.app.RepositoryInvocation")
+@Label("Repository Invocation")
+@Category({ "E-commerce", "Database" })
+@Description("Spring Data repository method invocation")
+@Setter
+public class RepositoryInvocationEvent extends Event {
+	
+	@Label("Repository")
+	private String repository;
+	
+	@Label("Method")
+	private String method;
+	
+	@Label("Statements")
+	private int statements;
+	
+	@Label("Entities Loaded")
+	private int entitiesLoaded;
+	
+	@Label("Exception")
+	private String exception;
+
+}
+
+
+
+
+
+
+
+
+
+
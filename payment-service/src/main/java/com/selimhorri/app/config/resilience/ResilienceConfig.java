@@ -0,0 +1,64 @@
+package com.selimhorri.app.config.resilience;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.timelimiter.TimeLimiterRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Registries come from the resilience4j starter (instances under resilience4j.*, exported as 
+ * resilience4j.circuitbreaker.*, resilience4j.bulkhead.* and resilience4j.timelimiter.* meters), 
+ * last known good values are kept for app.resilience.fallback.ttl.
+ */
+@Configuration
+public class ResilienceConfig {
+	
+	@Bean(destroyMethod = "shutdownNow")
+	public ScheduledExecutorService resilienceTimeoutScheduler() {
+		final var threadFactory = new CustomizableThreadFactory("resilience-timeout-");
+		threadFactory.setDaemon(true);
+		return Executors.newSingleThreadScheduledExecutor(threadFactory);
+	}
+	
+	@Bean
+	public DependencyGuard dependencyGuard(
+			final CircuitBreakerRegistry circuitBreakerRegistry, 
+			final BulkheadRegistry bulkheadRegistry, 
+			final TimeLimiterRegistry timeLimiterRegistry, 
+			final ScheduledExecutorService resilienceTimeoutScheduler, 
+			final MeterRegistry meterRegistry, 
+			@Value("${app.resilience.fallback.maximum-size:10000}") final long maximumSize, 
+			@Value("${app.resilience.fallback.ttl:10m}") final Duration ttl) {
+		return new DependencyGuard(circuitBreakerRegistry, bulkheadRegistry, timeLimiterRegistry, resilienceTimeoutScheduler, 
+				Caffeine.newBuilder()
+					.maximumSize(maximumSize)
+					.expireAfterWrite(ttl)
+					.<List<Object>, Object>build(), 
+				meterRegistry);
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
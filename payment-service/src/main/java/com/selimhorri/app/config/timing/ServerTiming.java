@@ -0,0 +1,129 @@
+package com.selimhorri.app.config.timing;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per request accumulator of the time spent in DB statements, outbound calls and JSON serialisation, 
+ * rendered as the {@value #HEADER} response header, e.g. 
+ * {@code db;dur=12.4;desc="7 calls", user-service;dur=40.2, user-service.db;dur=8.1, json;dur=1.3, total;dur=61.0}. 
+ * Entries reported by an upstream service are merged under its name, its own total left out. 
+ * Recording is a no-op on threads without a request, tasks handed to a pool keep it through 
+ * {@link #propagate(Runnable)}.
+ */
+public final class ServerTiming {
+	
+	public static final String HEADER = "Server-Timing";
+	public static final String DB = "db";
+	public static final String JSON = "json";
+	public static final String TOTAL = "total";
+	
+	private static final ThreadLocal<ServerTiming> CURRENT = new ThreadLocal<>();
+	
+	private final Map<String, Metric> metrics = new ConcurrentSkipListMap<>();
+	private final long startTime = System.nanoTime();
+	
+	private ServerTiming() {
+	
+	}
+	
+	public static boolean isActive() {
+		return CURRENT.get() != null;
+	}
+	
+	public static void record(final String metric, final long nanos) {
+		final ServerTiming serverTiming = CURRENT.get();
+		if (serverTiming != null)
+			serverTiming.add(metric, nanos);
+	}
+	
+	/**
+	 * Merges the {@value #HEADER} header of an upstream response as {@code <target>.<metric>} entries.
+	 */
+	public static void recordUpstream(final String target, final String header) {
+		final ServerTiming serverTiming = CURRENT.get();
+		if (serverTiming == null || header == null || header.isBlank())
+			return;
+		for (final String entry : header.split(",")) {
+			final String[] params = entry.split(";");
+			final String name = params[0].strip();
+			if (name.isEmpty() || TOTAL.equals(name))
+				continue;
+			for (int i = 1; i < params.length; i++) {
+				final String param = params[i].strip();
+				if (param.startsWith("dur=")) {
+					try {
+						serverTiming.add(target + "." + name, (long) (Double.parseDouble(param.substring(4)) * 1_000_000));
+					}
+					catch (NumberFormatException e) {
+						// an unreadable entry is left out, the rest of the header still counts
+					}
+				}
+			}
+		}
+	}
+	
+	public static Runnable propagate(final Runnable task) {
+		final ServerTiming serverTiming = CURRENT.get();
+		if (serverTiming == null)
+			return task;
+		return () -> {
+			final ServerTiming previous = CURRENT.get();
+			CURRENT.set(serverTiming);
+			try {
+				task.run();
+			}
+			finally {
+				if (previous == null)
+					CURRENT.remove();
+				else
+					CURRENT.set(previous);
+			}
+		};
+	}
+	
+	static ServerTiming start() {
+		final ServerTiming serverTiming = new ServerTiming();
+		CURRENT.set(serverTiming);
+		return serverTiming;
+	}
+	
+	static void clear() {
+		CURRENT.remove();
+	}
+	
+	String toHeaderValue() {
+		final StringBuilder header = new StringBuilder();
+		this.metrics.forEach((name, metric) -> {
+			header.append(name).append(";dur=").append(millis(metric.nanos.sum()));
+			final long count = metric.count.sum();
+			if (count > 1)
+				header.append(";desc=\"").append(count).append(" calls\"");
+			header.append(", ");
+		});
+		return header.append(TOTAL).append(";dur=").append(millis(System.nanoTime() - this.startTime)).toString();
+	}
+	
+	private void add(final String metric, final long nanos) {
+		final Metric accumulated = this.metrics.computeIfAbsent(metric, k -> new Metric());
+		accumulated.nanos.add(nanos);
+		accumulated.count.increment();
+	}
+	
+	private static String millis(final long nanos) {
+		return String.format(Locale.ROOT, "%.1f", nanos / (double) TimeUnit.MILLISECONDS.toNanos(1));
+	}
+	
+	private static final class Metric {
+		
+		private final LongAdder nanos = new LongAdder();
+		private final LongAdder count = new LongAdder();
+	
+	}
+
+
+
+}
@@ -1,9 +1,12 @@
 package com.selimhorri.app.resource;
 
+import java.util.List;
+
 import javax.validation.Valid;
 import javax.validation.constraints.NotBlank;
 import javax.validation.constraints.NotNull;
 
+import org.springframework.data.domain.Sort;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -12,10 +15,12 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.selimhorri.app.dto.PaymentDto;
 import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
+import com.selimhorri.app.helper.PageRequestHelper;
 import com.selimhorri.app.service.PaymentService;
 
 import lombok.RequiredArgsConstructor;
@@ -30,11 +35,31 @@ public class PaymentResource {
 	private final PaymentService paymentService;
 	
 	@GetMapping
-	public ResponseEntity<DtoCollectionResponse<PaymentDto>> findAll() {
+	public ResponseEntity<DtoCollectionResponse<PaymentDto>> findAll(
+			@RequestParam(name = "page", required = false) final Integer page, 
+			@RequestParam(name = "size", required = false) final Integer size, 
+			@RequestParam(name = "cursor", required = false) final String cursor, 
+			final Sort sort) {
 		log.info("*** PaymentDto List, controller; fetch all payments *");
+		if (cursor != null) {
+			final var paymentId = PageRequestHelper.decodeCursor(cursor, parts -> Integer.parseInt(parts[0]));
+			return ResponseEntity.ok(DtoCollectionResponse.of(
+					this.paymentService.findAllAfter(paymentId, PageRequestHelper.size(size)), 
+					p -> PageRequestHelper.encodeCursor(p.getPaymentId())));
+		}
+		if (page != null || size != null || sort.isSorted())
+			return ResponseEntity.ok(DtoCollectionResponse.of(
+					this.paymentService.findAll(PageRequestHelper.of(page, size, sort))));
 		return ResponseEntity.ok(new DtoCollectionResponse<>(this.paymentService.findAll()));
 	}
 	
+	@GetMapping("/orders")
+	public ResponseEntity<DtoCollectionResponse<PaymentDto>> findAllByOrderIds(
+			@RequestParam(name = "orderIds") final List<Integer> orderIds) {
+		log.info("*** PaymentDto List, resource; fetch all payments of orders *");
+		return ResponseEntity.ok(new DtoCollectionResponse<>(this.paymentService.findAllByOrderIds(orderIds)));
+	}
+	
 	@GetMapping("/{paymentId}")
 	public ResponseEntity<PaymentDto> findById(
 			@PathVariable("paymentId") 
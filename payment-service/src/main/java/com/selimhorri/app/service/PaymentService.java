@@ -2,11 +2,18 @@ package com.selimhorri.app.service;
 
 import java.util.List;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
 import com.selimhorri.app.dto.PaymentDto;
 
 public interface PaymentService {
 	
 	List<PaymentDto> findAll();
+	Page<PaymentDto> findAll(final Pageable pageable);
+	Slice<PaymentDto> findAllAfter(final Integer paymentId, final int size);
+	List<PaymentDto> findAllByOrderIds(final List<Integer> orderIds);
 	PaymentDto findById(final Integer paymentId);
 	PaymentDto save(final PaymentDto paymentDto);
 	PaymentDto update(final PaymentDto paymentDto);
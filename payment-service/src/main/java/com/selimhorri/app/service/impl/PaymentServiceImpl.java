@@ -1,13 +1,21 @@
 package com.selimhorri.app.service.impl;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import javax.transaction.Transactional;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
 
+import com.selimhorri.app.config.enrichment.EnrichmentExecutor;
 import com.selimhorri.app.constant.AppConstant;
 import com.selimhorri.app.dto.OrderDto;
 import com.selimhorri.app.dto.PaymentDto;
@@ -27,20 +35,48 @@ public class PaymentServiceImpl implements PaymentService {
 	
 	private final PaymentRepository paymentRepository;
 	private final RestTemplate restTemplate;
+	private final EnrichmentExecutor enrichmentExecutor;
 	
 	@Override
 	public List<PaymentDto> findAll() {
 		log.info("*** PaymentDto List, service; fetch all payments *");
-		return this.paymentRepository.findAll()
+		return this.enrich(this.paymentRepository.findAll()
 				.stream()
 					.map(PaymentMappingHelper::map)
-					.map(p -> {
-						p.setOrderDto(this.restTemplate.getForObject(AppConstant.DiscoveredDomainsApi
-								.ORDER_SERVICE_API_URL + "/" + p.getOrderDto().getOrderId(), OrderDto.class));
-						return p;
-					})
 					.distinct()
-					.collect(Collectors.toUnmodifiableList());
+					.collect(Collectors.toUnmodifiableList()));
+	}
+	
+	@Override
+	public Page<PaymentDto> findAll(final Pageable pageable) {
+		log.info("*** PaymentDto Page, service; fetch payments page *");
+		final Page<PaymentDto> paymentDtos = this.paymentRepository.findAll(pageable)
+				.map(PaymentMappingHelper::map);
+		this.enrich(paymentDtos.getContent());
+		return paymentDtos;
+	}
+	
+	@Override
+	public Slice<PaymentDto> findAllAfter(final Integer paymentId, final int size) {
+		log.info("*** PaymentDto Slice, service; fetch payments after cursor *");
+		final var pageable = PageRequest.of(0, size, Sort.by("paymentId"));
+		final Slice<PaymentDto> paymentDtos = ((paymentId == null) ? 
+					this.paymentRepository.findAllBy(pageable) : 
+					this.paymentRepository.findByPaymentIdGreaterThan(paymentId, pageable))
+				.map(PaymentMappingHelper::map);
+		this.enrich(paymentDtos.getContent());
+		return paymentDtos;
+	}
+	
+	@Override
+	public List<PaymentDto> findAllByOrderIds(final List<Integer> orderIds) {
+		log.info("*** PaymentDto List, service; fetch all payments of orders *");
+		if (orderIds.isEmpty())
+			return List.of();
+		return this.enrich(this.paymentRepository.findAllByOrderIdInOrderByPaymentId(orderIds)
+				.stream()
+					.map(PaymentMappingHelper::map)
+					.collect(Collectors.toUnmodifiableList()));
 	}
 	
 	@Override
@@ -48,11 +84,7 @@ public class PaymentServiceImpl implements PaymentService {
 		log.info("*** PaymentDto, service; fetch payment by id *");
 		return this.paymentRepository.findById(paymentId)
 				.map(PaymentMappingHelper::map)
-				.map(p -> {
-					p.setOrderDto(this.restTemplate.getForObject(AppConstant.DiscoveredDomainsApi
-							.ORDER_SERVICE_API_URL + "/" + p.getOrderDto().getOrderId(), OrderDto.class));
-					return p;
-				})
+				.map(p -> this.enrich(List.of(p)).get(0))
 				.orElseThrow(() -> new PaymentNotFoundException(String.format("Payment with id: %d not found", paymentId)));
 	}
 	
@@ -76,6 +108,27 @@ public class PaymentServiceImpl implements PaymentService {
 		this.paymentRepository.deleteById(paymentId);
 	}
 	
+	private List<PaymentDto> enrich(final List<PaymentDto> paymentDtos) {
+		
+		final long deadline = this.enrichmentExecutor.deadline();
+		final Map<Integer, OrderDto> orderDtos = this.enrichmentExecutor.awaitAll(this.enrichmentExecutor.submitAll(AppConstant.DiscoveredDomainsApi.ORDER_SERVICE_NAME, 
+				paymentDtos.stream()
+					.map(p -> p.getOrderDto().getOrderId())
+					.collect(Collectors.toList()), 
+				orderId -> this.restTemplate.getForObject(AppConstant.DiscoveredDomainsApi
+						.ORDER_SERVICE_API_URL + "/{orderId}", OrderDto.class, orderId)), deadline);
+		
+		paymentDtos.forEach(p -> {
+			final var orderDto = orderDtos.get(p.getOrderDto().getOrderId());
+			if (orderDto != null)
+				p.setOrderDto(orderDto);
+			else
+				p.setUnresolved(Set.of("order"));
+		});
+		
+		return paymentDtos;
+	}
+	
 	
 	
 }
@@ -0,0 +1,151 @@
+package com.selimhorri.app.config.resilience;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.timelimiter.TimeLimiterConfig;
+import io.github.resilience4j.timelimiter.TimeLimiterRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class DependencyGuardTest {
+
+    private static final String DEPENDENCY = "order-service";
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+    private MeterRegistry meterRegistry;
+    private DependencyGuard dependencyGuard;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        dependencyGuard = new DependencyGuard(
+                CircuitBreakerRegistry.of(CircuitBreakerConfig.custom()
+                        .slidingWindowSize(2)
+                        .minimumNumberOfCalls(2)
+                        .ignoreExceptions(HttpClientErrorException.class)
+                        .build()),
+                BulkheadRegistry.of(BulkheadConfig.custom()
+                        .maxConcurrentCalls(1)
+                        .maxWaitDuration(Duration.ZERO)
+                        .build()),
+                TimeLimiterRegistry.of(TimeLimiterConfig.custom()
+                        .timeoutDuration(Duration.ofMillis(200))
+                        .build()),
+                scheduler, Caffeine.newBuilder().build(), meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+        scheduler.shutdownNow();
+    }
+
+    @Test
+    void failedLookupFallsBackToLastKnownGoodValue() throws Exception {
+        // Given
+        assertEquals("order-1", dependencyGuard.submit(DEPENDENCY, 1, () -> "order-1", executor).get());
+
+        // When
+        final String fallback = dependencyGuard.<String>submit(DEPENDENCY, 1, () -> {
+            throw new ResourceAccessException("connection refused");
+        }, executor).get();
+
+        // Then
+        assertEquals("order-1", fallback);
+        assertEquals(1, meterRegistry.get("resilience.fallbacks")
+                .tag("reason", "error")
+                .tag("fallback", "cached")
+                .counter().count());
+    }
+
+    @Test
+    void openCircuitFailsFastWithoutCallingTheDependency() {
+        // Given
+        for (int i = 0; i < 2; i++)
+            assertThrows(ExecutionException.class, () -> dependencyGuard.<String>submit(DEPENDENCY, 2, () -> {
+                throw new ResourceAccessException("connection refused");
+            }, executor).get());
+        final AtomicInteger calls = new AtomicInteger();
+
+        // When
+        final ExecutionException e = assertThrows(ExecutionException.class,
+                () -> dependencyGuard.submit(DEPENDENCY, 2, calls::incrementAndGet, executor).get());
+
+        // Then
+        assertTrue(e.getCause() instanceof CallNotPermittedException);
+        assertEquals(0, calls.get());
+        assertEquals(1, meterRegistry.get("resilience.fallbacks")
+                .tag("reason", "circuit_open")
+                .tag("fallback", "unresolved")
+                .counter().count());
+    }
+
+    @Test
+    void slowDependencyIsTimedOutAndCannotTakeMoreThanItsBulkhead() throws Exception {
+        // Given - the only permit is held by a call that outlives the time limiter
+        final CountDownLatch release = new CountDownLatch(1);
+        final CompletableFuture<String> slow = dependencyGuard.submit(DEPENDENCY, 3, () -> {
+            try {
+                release.await();
+            }
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "late";
+        }, executor);
+
+        // When
+        final ExecutionException timedOut = assertThrows(ExecutionException.class, slow::get);
+        final ExecutionException rejected = assertThrows(ExecutionException.class,
+                () -> dependencyGuard.submit(DEPENDENCY, 4, () -> "order-4", executor).get());
+        release.countDown();
+
+        // Then
+        assertTrue(timedOut.getCause() instanceof TimeoutException);
+        assertTrue(rejected.getCause() instanceof BulkheadFullException);
+        assertTrue(meterRegistry.get("resilience.fallbacks").tag("reason", "bulkhead_full").counter().count() >= 1);
+    }
+
+    @Test
+    void clientErrorsAreNotMaskedByTheFallback() throws Exception {
+        // Given
+        dependencyGuard.submit(DEPENDENCY, 5, () -> "order-5", executor).get();
+
+        // When
+        final ExecutionException e = assertThrows(ExecutionException.class, () -> dependencyGuard.<String>submit(DEPENDENCY, 5, () -> {
+            throw new HttpClientErrorException(HttpStatus.NOT_FOUND);
+        }, executor).get());
+
+        // Then
+        assertTrue(e.getCause() instanceof HttpClientErrorException);
+    }
+
+}
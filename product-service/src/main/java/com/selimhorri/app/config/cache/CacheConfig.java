@@ -0,0 +1,51 @@
+package com.selimhorri.app.config.cache;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.selimhorri.app.constant.AppConstant;
+
+/**
+ * Caffeine backed product caches, with app.cache.enabled=false the cache annotations are left inert.
+ * Puts and evictions are deferred until the surrounding transaction commits.
+ */
+@Configuration
+@EnableCaching
+@ConditionalOnProperty(name = "app.cache.enabled", havingValue = "true", matchIfMissing = true)
+public class CacheConfig {
+	
+	@Bean
+	public CacheManager cacheManager(
+			@Value("${app.cache.product.maximum-size:10000}") final long maximumSize, 
+			@Value("${app.cache.product.ttl:5m}") final Duration ttl) {
+		final var caffeineCacheManager = new CaffeineCacheManager(
+				AppConstant.PRODUCT_CACHE_NAME, AppConstant.PRODUCTS_CACHE_NAME);
+		caffeineCacheManager.setCaffeine(Caffeine.newBuilder()
+				.maximumSize(maximumSize)
+				.expireAfterWrite(ttl)
+				.recordStats());
+		return new TransactionAwareCacheManagerProxy(caffeineCacheManager);
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,91 @@
+package com.selimhorri.app.config.deadline;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.sql.Statement;
+import java.util.OptionalLong;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * Bounds JDBC work by the request {@link Deadline}: no connection is borrowed once it has passed, 
+ * and every statement gets the time left as its query timeout (rounded up to the next second, 
+ * the JDBC granularity) so the driver cancels a query nobody is waiting for any more.
+ */
+public class DeadlineDataSource extends DelegatingDataSource {
+	
+	public DeadlineDataSource(final DataSource targetDataSource) {
+		super(targetDataSource);
+	}
+	
+	@Override
+	public Connection getConnection() throws SQLException {
+		checkDeadline();
+		return this.bounded(super.getConnection());
+	}
+	
+	@Override
+	public Connection getConnection(final String username, final String password) throws SQLException {
+		checkDeadline();
+		return this.bounded(super.getConnection(username, password));
+	}
+	
+	private Connection bounded(final Connection connection) {
+		return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[] { Connection.class }, 
+				(proxy, method, args) -> {
+					switch (method.getName()) {
+						case "equals":
+							return proxy == args[0];
+						case "hashCode":
+							return System.identityHashCode(proxy);
+						default:
+							break;
+					}
+					final Object result;
+					try {
+						result = method.invoke(connection, args);
+					}
+					catch (InvocationTargetException e) {
+						throw e.getTargetException();
+					}
+					if (result instanceof Statement)
+						applyTimeout((Statement) result);
+					return result;
+				});
+	}
+	
+	private static void applyTimeout(final Statement statement) throws SQLException {
+		final OptionalLong remainingMillis = Deadline.remainingMillis();
+		if (remainingMillis.isEmpty())
+			return;
+		if (remainingMillis.getAsLong() <= 0) {
+			statement.close();
+			throw new SQLTimeoutException("Request deadline exceeded before the statement ran");
+		}
+		statement.setQueryTimeout((int) Math.min(Integer.MAX_VALUE, (remainingMillis.getAsLong() + 999) / 1000));
+	}
+	
+	private static void checkDeadline() throws SQLTimeoutException {
+		final OptionalLong remainingMillis = Deadline.remainingMillis();
+		if (remainingMillis.isPresent() && remainingMillis.getAsLong() <= 0)
+			throw new SQLTimeoutException("Request deadline exceeded before a connection was borrowed");
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,184 @@
+package com.selimhorri.app.config.repository;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.selimhorri.app.config.jfr.RepositoryInvocationEvent;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Per repository method statistics, tagged by repository and method:
+ * <ul>
+ * <li>{@value #INVOCATIONS} timer, with the exception thrown if any</li>
+ * <li>{@value #STATEMENTS} and {@value #ENTITIES_LOADED} summaries of what each invocation did,
+ * a count growing with the data is the mark of an N+1</li>
+ * <li>{@value #UNATTRIBUTED} counter of the statements issued outside of any repository method,
+ * lazy loads while mapping mostly</li>
+ * </ul>
+ * Invocations slower than app.repository.statistics.slow-threshold, or issuing more statements than
+ * app.repository.statistics.statement-threshold, are kept with their SQL in the {@link SlowQueryLog}.
+ * Each invocation is also a {@link RepositoryInvocationEvent} for the flight recorder.
+ */
+@Component
+public class RepositoryStatistics {
+	
+	public static final String INVOCATIONS = "repository.invocations";
+	public static final String STATEMENTS = "repository.statements";
+	public static final String ENTITIES_LOADED = "repository.entities.loaded";
+	public static final String UNATTRIBUTED = "repository.statements.unattributed";
+	
+	private static final int MAX_SQL = 10;
+	private static final ThreadLocal<Invocation> CURRENT = new ThreadLocal<>();
+	private static final LongAdder UNATTRIBUTED_STATEMENTS = new LongAdder();
+	
+	private final MeterRegistry meterRegistry;
+	private final SlowQueryLog slowQueryLog;
+	private final long slowThresholdNanos;
+	private final int statementThreshold;
+	
+	public RepositoryStatistics(final MeterRegistry meterRegistry, 
+			final SlowQueryLog slowQueryLog, 
+			@Value("${app.repository.statistics.slow-threshold:200ms}") final Duration slowThreshold, 
+			@Value("${app.repository.statistics.statement-threshold:20}") final int statementThreshold) {
+		this.meterRegistry = meterRegistry;
+		this.slowQueryLog = slowQueryLog;
+		this.slowThresholdNanos = slowThreshold.toNanos();
+		this.statementThreshold = statementThreshold;
+		FunctionCounter.builder(UNATTRIBUTED, UNATTRIBUTED_STATEMENTS, LongAdder::doubleValue)
+				.description("SQL statements issued outside of a repository method")
+				.register(meterRegistry);
+	}
+	
+	/**
+	 * Called by Hibernate for every statement it prepares.
+	 */
+	static void statementPrepared(final String sql) {
+		final Invocation invocation = CURRENT.get();
+		if (invocation == null)
+			UNATTRIBUTED_STATEMENTS.increment();
+		else
+			invocation.statement(sql);
+	}
+	
+	/**
+	 * Called by Hibernate for every entity it loads.
+	 */
+	static void entityLoaded() {
+		final Invocation invocation = CURRENT.get();
+		if (invocation != null)
+			invocation.entities++;
+	}
+	
+	/**
+	 * Runs a repository method, a nested invocation is counted in its own method and in the outer one.
+	 */
+	Object invoke(final String repository, final MethodInvocation methodInvocation) throws Throwable {
+		final Invocation invocation = new Invocation(CURRENT.get());
+		CURRENT.set(invocation);
+		final RepositoryInvocationEvent event = new RepositoryInvocationEvent();
+		event.begin();
+		final long start = System.nanoTime();
+		String exception = "None";
+		try {
+			return methodInvocation.proceed();
+		}
+		catch (final Throwable throwable) {
+			exception = throwable.getClass().getSimpleName();
+			throw throwable;
+		}
+		finally {
+			final long elapsed = System.nanoTime() - start;
+			if (invocation.parent == null)
+				CURRENT.remove();
+			else {
+				CURRENT.set(invocation.parent);
+				invocation.parent.add(invocation);
+			}
+			if (event.shouldCommit()) {
+				event.setRepository(repository);
+				event.setMethod(methodInvocation.getMethod().getName());
+				event.setStatements(invocation.statements);
+				event.setEntitiesLoaded(invocation.entities);
+				event.setException(exception);
+				event.commit();
+			}
+			this.record(repository + "." + methodInvocation.getMethod().getName(), 
+					Tags.of("repository", repository, "method", methodInvocation.getMethod().getName()), 
+					invocation, elapsed, exception);
+		}
+	}
+	
+	private void record(final String name, final Tags tags, final Invocation invocation, final long elapsed, 
+			final String exception) {
+		Timer.builder(INVOCATIONS)
+				.tags(tags.and("exception", exception))
+				.register(this.meterRegistry)
+				.record(elapsed, TimeUnit.NANOSECONDS);
+		DistributionSummary.builder(STATEMENTS)
+				.tags(tags)
+				.register(this.meterRegistry)
+				.record(invocation.statements);
+		DistributionSummary.builder(ENTITIES_LOADED)
+				.tags(tags)
+				.register(this.meterRegistry)
+				.record(invocation.entities);
+		if (elapsed >= this.slowThresholdNanos || invocation.statements > this.statementThreshold)
+			this.slowQueryLog.add(new SlowQuery(Instant.now(), name, 
+					TimeUnit.NANOSECONDS.toMillis(elapsed), invocation.statements, invocation.entities, 
+					new ArrayList<>(invocation.sql)));
+	}
+	
+	private static final class Invocation {
+		
+		private final Invocation parent;
+		private final Set<String> sql = new LinkedHashSet<>();
+		private int statements;
+		private int entities;
+		
+		private Invocation(final Invocation parent) {
+			this.parent = parent;
+		}
+		
+		private void statement(final String sql) {
+			this.statements++;
+			if (this.sql.size() < MAX_SQL)
+				this.sql.add(sql);
+		}
+		
+		private void add(final Invocation nested) {
+			this.statements += nested.statements;
+			this.entities += nested.entities;
+			nested.sql.stream()
+					.limit(Math.max(0, MAX_SQL - this.sql.size()))
+					.forEach(this.sql::add);
+		}
+	
+	}
+
+
+
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,63 @@
+package com.selimhorri.app.config.repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Ring buffer of the last app.repository.statistics.slow-log-size slow queries,
+ * the oldest entry is overwritten once it is full.
+ */
+@Component
+public class SlowQueryLog {
+	
+	private final AtomicReferenceArray<SlowQuery> entries;
+	private final AtomicLong next = new AtomicLong();
+	
+	public SlowQueryLog(@Value("${app.repository.statistics.slow-log-size:100}") final int capacity) {
+		this.entries = new AtomicReferenceArray<>(capacity);
+	}
+	
+	public void add(final SlowQuery slowQuery) {
+		this.entries.set((int) (this.next.getAndIncrement() % this.entries.length()), slowQuery);
+	}
+	
+	/**
+	 * Newest first.
+	 */
+	public List<SlowQuery> entries() {
+		final long last = this.next.get();
+		final List<SlowQuery> entries = new ArrayList<>();
+		for (long i = last - 1; i >= Math.max(0, last - this.entries.length()); i--) {
+			final SlowQuery slowQuery = this.entries.get((int) (i % this.entries.length()));
+			if (slowQuery != null)
+				entries.add(slowQuery);
+		}
+		return entries;
+	}
+	
+	public int clear() {
+		int cleared = 0;
+		for (int i = 0; i < this.entries.length(); i++)
+			if (this.entries.getAndSet(i, null) != null)
+				cleared++;
+		return cleared;
+	}
+
+
+
+}
+
+
+
+
+
+
+
+
+
+
@@ -1,6 +1,13 @@
 package com.selimhorri.app.dto.response.collection;
 
 import java.util.Collection;
+import java.util.function.Function;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
 
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -15,6 +22,36 @@ public class DtoCollectionResponse<T> {
 	
 	private Collection<T> collection;
 	
+	@JsonInclude(Include.NON_NULL)
+	private String nextCursor;
+	
+	@JsonInclude(Include.NON_NULL)
+	private Long totalCount;
+	
+	public DtoCollectionResponse(final Collection<T> collection) {
+		this.collection = collection;
+	}
+	
+	public static <T> DtoCollectionResponse<T> of(final Page<T> page) {
+		return DtoCollectionResponse.<T>builder()
+				.collection(page.getContent())
+				.totalCount(page.getTotalElements())
+				.build();
+	}
+	
+	/**
+	 * Keyset page, nextCursor is derived from the last element and only set when more rows follow.
+	 */
+	public static <T> DtoCollectionResponse<T> of(final Slice<T> slice, final Function<T, String> cursorMapper) {
+		return DtoCollectionResponse.<T>builder()
+				.collection(slice.getContent())
+				.nextCursor((slice.hasNext() && slice.hasContent()) ? 
+						cursorMapper.apply(slice.getContent().get(slice.getNumberOfElements() - 1)) : null)
+				.build();
+	}
+	
+	
+	
 }
 
 
@@ -1,11 +1,38 @@
 package com.selimhorri.app.repository;
 
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 import com.selimhorri.app.domain.Category;
 
 public interface CategoryRepository extends JpaRepository<Category, Integer> {
 	
+	@Override
+	@EntityGraph(attributePaths = {"parentCategory"})
+	List<Category> findAll();
+	
+	@Override
+	@EntityGraph(attributePaths = {"parentCategory"})
+	Page<Category> findAll(final Pageable pageable);
+	
+	@Override
+	@EntityGraph(attributePaths = {"parentCategory"})
+	Optional<Category> findById(final Integer categoryId);
+	
+	@EntityGraph(attributePaths = {"parentCategory"})
+	Slice<Category> findAllBy(final Pageable pageable);
+	
+	@EntityGraph(attributePaths = {"parentCategory"})
+	Slice<Category> findByCategoryIdGreaterThan(final Integer categoryId, final Pageable pageable);
 	
+	@Query("SELECT c FROM Category c LEFT JOIN FETCH c.parentCategory")
+	List<Category> findAllWithParentCategory();
 	
 }
@@ -1,11 +1,48 @@
 package com.selimhorri.app.repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.selimhorri.app.domain.Product;
 
 public interface ProductRepository extends JpaRepository<Product, Integer> {
 	
+	@Override
+	@EntityGraph(attributePaths = {"category"})
+	List<Product> findAll();
+	
+	@Override
+	@EntityGraph(attributePaths = {"category"})
+	Page<Product> findAll(final Pageable pageable);
+	
+	@Override
+	@EntityGraph(attributePaths = {"category"})
+	List<Product> findAllById(final Iterable<Integer> productIds);
+	
+	@Override
+	@EntityGraph(attributePaths = {"category"})
+	Optional<Product> findById(final Integer productId);
+	
+	@EntityGraph(attributePaths = {"category"})
+	Slice<Product> findAllBy(final Pageable pageable);
+	
+	@EntityGraph(attributePaths = {"category"})
+	Slice<Product> findByProductIdGreaterThan(final Integer productId, final Pageable pageable);
+	
+	@Query("SELECT p FROM Product p JOIN FETCH p.category c WHERE c.categoryId IN :categoryIds")
+	List<Product> findAllByCategoryIds(@Param("categoryIds") final Collection<Integer> categoryIds);
 	
+	@Query(value = "SELECT p FROM Product p JOIN FETCH p.category c WHERE c.categoryId IN :categoryIds", 
+			countQuery = "SELECT COUNT(p) FROM Product p WHERE p.category.categoryId IN :categoryIds")
+	Page<Product> findAllByCategoryIds(@Param("categoryIds") final Collection<Integer> categoryIds, final Pageable pageable);
 	
 }
@@ -4,6 +4,7 @@ import javax.validation.Valid;
 import javax.validation.constraints.NotBlank;
 import javax.validation.constraints.NotNull;
 
+import org.springframework.data.domain.Sort;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -12,11 +13,16 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.selimhorri.app.dto.CategoryDto;
+import com.selimhorri.app.dto.ProductDto;
 import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
+import com.selimhorri.app.helper.PageRequestHelper;
 import com.selimhorri.app.service.CategoryService;
+import com.selimhorri.app.service.CategoryTreeService;
+import com.selimhorri.app.service.ProductService;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -28,10 +34,25 @@ import lombok.extern.slf4j.Slf4j;
 public class CategoryResource {
 	
 	private final CategoryService categoryService;
+	private final CategoryTreeService categoryTreeService;
+	private final ProductService productService;
 	
 	@GetMapping
-	public ResponseEntity<DtoCollectionResponse<CategoryDto>> findAll() {
+	public ResponseEntity<DtoCollectionResponse<CategoryDto>> findAll(
+			@RequestParam(name = "page", required = false) final Integer page, 
+			@RequestParam(name = "size", required = false) final Integer size, 
+			@RequestParam(name = "cursor", required = false) final String cursor, 
+			final Sort sort) {
 		log.info("*** CategoryDto List, controller; fetch all categories *");
+		if (cursor != null) {
+			final var categoryId = PageRequestHelper.decodeCursor(cursor, parts -> Integer.parseInt(parts[0]));
+			return ResponseEntity.ok(DtoCollectionResponse.of(
+					this.categoryService.findAllAfter(categoryId, PageRequestHelper.size(size)), 
+					c -> PageRequestHelper.encodeCursor(c.getCategoryId())));
+		}
+		if (page != null || size != null || sort.isSorted())
+			return ResponseEntity.ok(DtoCollectionResponse.of(
+					this.categoryService.findAll(PageRequestHelper.of(page, size, sort))));
 		return ResponseEntity.ok(new DtoCollectionResponse<>(this.categoryService.findAll()));
 	}
 	
@@ -44,6 +65,31 @@ public class CategoryResource {
 		return ResponseEntity.ok(this.categoryService.findById(Integer.parseInt(categoryId)));
 	}
 	
+	@GetMapping("/{categoryId}/subtree")
+	public ResponseEntity<CategoryDto> findSubtree(
+			@PathVariable("categoryId") 
+			@NotBlank(message = "Input must not be blank") 
+			@Valid final String categoryId) {
+		log.info("*** CategoryDto, resource; fetch category subtree by id *");
+		return ResponseEntity.ok(this.categoryTreeService.findSubtree(Integer.parseInt(categoryId)));
+	}
+	
+	@GetMapping("/{categoryId}/products")
+	public ResponseEntity<DtoCollectionResponse<ProductDto>> findSubtreeProducts(
+			@PathVariable("categoryId") 
+			@NotBlank(message = "Input must not be blank") 
+			@Valid final String categoryId, 
+			@RequestParam(name = "page", required = false) final Integer page, 
+			@RequestParam(name = "size", required = false) final Integer size, 
+			final Sort sort) {
+		log.info("*** ProductDto List, resource; fetch products under category subtree *");
+		final var categoryIds = this.categoryTreeService.findSubtreeIds(Integer.parseInt(categoryId));
+		if (page != null || size != null || sort.isSorted())
+			return ResponseEntity.ok(DtoCollectionResponse.of(
+					this.productService.findAllByCategoryIds(categoryIds, PageRequestHelper.of(page, size, sort))));
+		return ResponseEntity.ok(new DtoCollectionResponse<>(this.productService.findAllByCategoryIds(categoryIds)));
+	}
+	
 	@PostMapping
 	public ResponseEntity<CategoryDto> save(
 			@RequestBody 
@@ -2,11 +2,17 @@ package com.selimhorri.app.service;
 
 import java.util.List;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
 import com.selimhorri.app.dto.CategoryDto;
 
 public interface CategoryService {
 	
 	List<CategoryDto> findAll();
+	Page<CategoryDto> findAll(final Pageable pageable);
+	Slice<CategoryDto> findAllAfter(final Integer categoryId, final int size);
 	CategoryDto findById(final Integer categoryId);
 	CategoryDto save(final CategoryDto categoryDto);
 	CategoryDto update(final CategoryDto categoryDto);
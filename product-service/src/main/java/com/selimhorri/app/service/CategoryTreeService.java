@@ -0,0 +1,14 @@
+package com.selimhorri.app.service;
+
+import java.util.Set;
+
+import com.selimhorri.app.dto.CategoryDto;
+
+public interface CategoryTreeService {
+	
+	CategoryDto findSubtree(final Integer categoryId);
+	Set<Integer> findSubtreeIds(final Integer categoryId);
+	void invalidate();
+	
+}
+
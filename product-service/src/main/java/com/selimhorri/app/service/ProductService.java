@@ -1,12 +1,22 @@
 package com.selimhorri.app.service;
 
+import java.util.Collection;
 import java.util.List;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
 import com.selimhorri.app.dto.ProductDto;
 
 public interface ProductService {
 	
 	List<ProductDto> findAll();
+	Page<ProductDto> findAll(final Pageable pageable);
+	Slice<ProductDto> findAllAfter(final Integer productId, final int size);
+	List<ProductDto> findAllByIds(final Collection<Integer> productIds);
+	List<ProductDto> findAllByCategoryIds(final Collection<Integer> categoryIds);
+	Page<ProductDto> findAllByCategoryIds(final Collection<Integer> categoryIds, final Pageable pageable);
 	ProductDto findById(final Integer productId);
 	ProductDto save(final ProductDto productDto);
 	ProductDto update(final ProductDto productDto);
@@ -5,13 +5,21 @@ import java.util.stream.Collectors;
 
 import javax.transaction.Transactional;
 
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 
+import com.selimhorri.app.constant.AppConstant;
 import com.selimhorri.app.dto.CategoryDto;
 import com.selimhorri.app.exception.wrapper.CategoryNotFoundException;
 import com.selimhorri.app.helper.CategoryMappingHelper;
 import com.selimhorri.app.repository.CategoryRepository;
 import com.selimhorri.app.service.CategoryService;
+import com.selimhorri.app.service.CategoryTreeService;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -23,6 +31,7 @@ import lombok.extern.slf4j.Slf4j;
 public class CategoryServiceImpl implements CategoryService {
 	
 	private final CategoryRepository categoryRepository;
+	private final CategoryTreeService categoryTreeService;
 	
 	@Override
 	public List<CategoryDto> findAll() {
@@ -34,6 +43,23 @@ public class CategoryServiceImpl implements CategoryService {
 					.collect(Collectors.toUnmodifiableList());
 	}
 	
+	@Override
+	public Page<CategoryDto> findAll(final Pageable pageable) {
+		log.info("*** CategoryDto Page, service; fetch categories page *");
+		return this.categoryRepository.findAll(pageable)
+				.map(CategoryMappingHelper::map);
+	}
+	
+	@Override
+	public Slice<CategoryDto> findAllAfter(final Integer categoryId, final int size) {
+		log.info("*** CategoryDto Slice, service; fetch categories after cursor *");
+		final var pageable = PageRequest.of(0, size, Sort.by("categoryId"));
+		return ((categoryId == null) ? 
+					this.categoryRepository.findAllBy(pageable) : 
+					this.categoryRepository.findByCategoryIdGreaterThan(categoryId, pageable))
+				.map(CategoryMappingHelper::map);
+	}
+	
 	@Override
 	public CategoryDto findById(final Integer categoryId) {
 		log.info("*** CategoryDto, service; fetch category by id *");
@@ -42,30 +68,38 @@ public class CategoryServiceImpl implements CategoryService {
 				.orElseThrow(() -> new CategoryNotFoundException(String.format("Category with id: %d not found", categoryId)));
 	}
 	
+	@CacheEvict(cacheNames = {AppConstant.PRODUCT_CACHE_NAME, AppConstant.PRODUCTS_CACHE_NAME}, allEntries = true)
 	@Override
 	public CategoryDto save(final CategoryDto categoryDto) {
 		log.info("*** CategoryDto, service; save category *");
+		this.categoryTreeService.invalidate();
 		return CategoryMappingHelper.map(this.categoryRepository
 				.save(CategoryMappingHelper.map(categoryDto)));
 	}
 	
+	@CacheEvict(cacheNames = {AppConstant.PRODUCT_CACHE_NAME, AppConstant.PRODUCTS_CACHE_NAME}, allEntries = true)
 	@Override
 	public CategoryDto update(final CategoryDto categoryDto) {
 		log.info("*** CategoryDto, service; update category *");
+		this.categoryTreeService.invalidate();
 		return CategoryMappingHelper.map(this.categoryRepository
 				.save(CategoryMappingHelper.map(categoryDto)));
 	}
 	
+	@CacheEvict(cacheNames = {AppConstant.PRODUCT_CACHE_NAME, AppConstant.PRODUCTS_CACHE_NAME}, allEntries = true)
 	@Override
 	public CategoryDto update(final Integer categoryId, final CategoryDto categoryDto) {
 		log.info("*** CategoryDto, service; update category with categoryId *");
+		this.categoryTreeService.invalidate();
 		return CategoryMappingHelper.map(this.categoryRepository
 				.save(CategoryMappingHelper.map(this.findById(categoryId))));
 	}
 	
+	@CacheEvict(cacheNames = {AppConstant.PRODUCT_CACHE_NAME, AppConstant.PRODUCTS_CACHE_NAME}, allEntries = true)
 	@Override
 	public void deleteById(final Integer categoryId) {
 		log.info("*** Void, service; delete category by id *");
+		this.categoryTreeService.invalidate();
 		this.categoryRepository.deleteById(categoryId);
 	}
 	
@@ -0,0 +1,154 @@
+package com.selimhorri.app.service.impl;
+
+import java.util.ArrayDeque;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import javax.transaction.Transactional;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.selimhorri.app.domain.Category;
+import com.selimhorri.app.dto.CategoryDto;
+import com.selimhorri.app.exception.wrapper.CategoryNotFoundException;
+import com.selimhorri.app.repository.CategoryRepository;
+import com.selimhorri.app.service.CategoryTreeService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Serves category subtrees from an immutable in-memory snapshot of the whole tree, 
+ * loaded with a single query on first use and dropped once a category write commits.
+ */
+@Service
+@Transactional
+@Slf4j
+@RequiredArgsConstructor
+public class CategoryTreeServiceImpl implements CategoryTreeService {
+	
+	private final CategoryRepository categoryRepository;
+	private volatile Map<Integer, CategoryNode> snapshot;
+	
+	@Override
+	public CategoryDto findSubtree(final Integer categoryId) {
+		log.info("*** CategoryDto, service; fetch category subtree *");
+		final var nodes = this.snapshot();
+		return this.map(nodes, this.findNode(nodes, categoryId), new LinkedHashSet<>());
+	}
+	
+	@Override
+	public Set<Integer> findSubtreeIds(final Integer categoryId) {
+		log.info("*** Set<Integer>, service; fetch category subtree ids *");
+		
+		final var nodes = this.snapshot();
+		final Set<Integer> categoryIds = new LinkedHashSet<>();
+		final var pending = new ArrayDeque<CategoryNode>(List.of(this.findNode(nodes, categoryId)));
+		
+		while (!pending.isEmpty()) {
+			final var node = pending.poll();
+			if (categoryIds.add(node.getCategoryId()))
+				node.getSubCategoryIds().forEach(id -> pending.add(nodes.get(id)));
+		}
+		
+		return Set.copyOf(categoryIds);
+	}
+	
+	@Override
+	public void invalidate() {
+		if (TransactionSynchronizationManager.isSynchronizationActive())
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					clear();
+				}
+			});
+		else
+			this.clear();
+	}
+	
+	/**
+	 * Builds and publishes under the same lock as {@link #clear()}, so that a snapshot 
+	 * loaded concurrently with a category write is dropped rather than kept.
+	 */
+	private Map<Integer, CategoryNode> snapshot() {
+		
+		final var current = this.snapshot;
+		if (current != null)
+			return current;
+		
+		synchronized (this) {
+			if (this.snapshot == null)
+				this.snapshot = this.load();
+			return this.snapshot;
+		}
+	}
+	
+	private synchronized void clear() {
+		log.info("*** Void, service; drop category tree snapshot *");
+		this.snapshot = null;
+	}
+	
+	private Map<Integer, CategoryNode> load() {
+		
+		final List<Category> categories = this.categoryRepository.findAllWithParentCategory();
+		final Map<Integer, List<Integer>> subCategoryIds = categories.stream()
+				.filter(c -> c.getParentCategory() != null)
+				.sorted(Comparator.comparing(Category::getCategoryId))
+				.collect(Collectors.groupingBy(c -> c.getParentCategory().getCategoryId(), 
+						Collectors.mapping(Category::getCategoryId, Collectors.toUnmodifiableList())));
+		
+		final Map<Integer, CategoryNode> nodes = new HashMap<>();
+		categories.forEach(c -> nodes.put(c.getCategoryId(), new CategoryNode(
+				c.getCategoryId(), 
+				c.getCategoryTitle(), 
+				c.getImageUrl(), 
+				subCategoryIds.getOrDefault(c.getCategoryId(), List.of()))));
+		
+		log.info("*** Void, service; built category tree snapshot of {} categories *", nodes.size());
+		return Map.copyOf(nodes);
+	}
+	
+	private CategoryNode findNode(final Map<Integer, CategoryNode> nodes, final Integer categoryId) {
+		return Optional.ofNullable(nodes.get(categoryId))
+				.orElseThrow(() -> new CategoryNotFoundException(String.format("Category with id: %d not found", categoryId)));
+	}
+	
+	private CategoryDto map(final Map<Integer, CategoryNode> nodes, final CategoryNode node, final Set<Integer> visited) {
+		
+		visited.add(node.getCategoryId());
+		
+		return CategoryDto.builder()
+				.categoryId(node.getCategoryId())
+				.categoryTitle(node.getCategoryTitle())
+				.imageUrl(node.getImageUrl())
+				.subCategoriesDtos(node.getSubCategoryIds().stream()
+						.filter(id -> !visited.contains(id))
+						.map(id -> this.map(nodes, nodes.get(id), visited))
+						.collect(Collectors.toCollection(LinkedHashSet::new)))
+				.build();
+	}
+	
+	@Value
+	private static class CategoryNode {
+		
+		Integer categoryId;
+		String categoryTitle;
+		String imageUrl;
+		List<Integer> subCategoryIds;
+		
+	}
+	
+	
+	
+}
+
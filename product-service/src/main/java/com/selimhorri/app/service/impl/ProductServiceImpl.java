@@ -1,12 +1,23 @@
 package com.selimhorri.app.service.impl;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 import javax.transaction.Transactional;
 
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 
+import com.selimhorri.app.constant.AppConstant;
 import com.selimhorri.app.dto.ProductDto;
 import com.selimhorri.app.exception.wrapper.ProductNotFoundException;
 import com.selimhorri.app.helper.ProductMappingHelper;
@@ -24,6 +35,7 @@ public class ProductServiceImpl implements ProductService {
 	
 	private final ProductRepository productRepository;
 	
+	@Cacheable(cacheNames = AppConstant.PRODUCTS_CACHE_NAME)
 	@Override
 	public List<ProductDto> findAll() {
 		log.info("*** ProductDto List, service; fetch all products *");
@@ -34,6 +46,53 @@ public class ProductServiceImpl implements ProductService {
 					.collect(Collectors.toUnmodifiableList());
 	}
 	
+	@Override
+	public Page<ProductDto> findAll(final Pageable pageable) {
+		log.info("*** ProductDto Page, service; fetch products page *");
+		return this.productRepository.findAll(pageable)
+				.map(ProductMappingHelper::map);
+	}
+	
+	@Override
+	public Slice<ProductDto> findAllAfter(final Integer productId, final int size) {
+		log.info("*** ProductDto Slice, service; fetch products after cursor *");
+		final var pageable = PageRequest.of(0, size, Sort.by("productId"));
+		return ((productId == null) ? 
+					this.productRepository.findAllBy(pageable) : 
+					this.productRepository.findByProductIdGreaterThan(productId, pageable))
+				.map(ProductMappingHelper::map);
+	}
+	
+	@Override
+	public List<ProductDto> findAllByIds(final Collection<Integer> productIds) {
+		log.info("*** ProductDto List, service; fetch products by ids *");
+		return this.productRepository.findAllById(productIds.stream()
+					.filter(Objects::nonNull)
+					.collect(Collectors.toUnmodifiableSet()))
+				.stream()
+					.map(ProductMappingHelper::map)
+					.distinct()
+					.collect(Collectors.toUnmodifiableList());
+	}
+	
+	@Override
+	public List<ProductDto> findAllByCategoryIds(final Collection<Integer> categoryIds) {
+		log.info("*** ProductDto List, service; fetch products by category ids *");
+		return this.productRepository.findAllByCategoryIds(categoryIds)
+				.stream()
+					.map(ProductMappingHelper::map)
+					.distinct()
+					.collect(Collectors.toUnmodifiableList());
+	}
+	
+	@Override
+	public Page<ProductDto> findAllByCategoryIds(final Collection<Integer> categoryIds, final Pageable pageable) {
+		log.info("*** ProductDto Page, service; fetch products page by category ids *");
+		return this.productRepository.findAllByCategoryIds(categoryIds, pageable)
+				.map(ProductMappingHelper::map);
+	}
+	
+	@Cacheable(cacheNames = AppConstant.PRODUCT_CACHE_NAME)
 	@Override
 	public ProductDto findById(final Integer productId) {
 		log.info("*** ProductDto, service; fetch product by id *");
@@ -42,6 +101,7 @@ public class ProductServiceImpl implements ProductService {
 				.orElseThrow(() -> new ProductNotFoundException(String.format("Product with id: %d not found", productId)));
 	}
 	
+	@CacheEvict(cacheNames = AppConstant.PRODUCTS_CACHE_NAME, allEntries = true)
 	@Override
 	public ProductDto save(final ProductDto productDto) {
 		log.info("*** ProductDto, service; save product *");
@@ -49,6 +109,10 @@ public class ProductServiceImpl implements ProductService {
 				.save(ProductMappingHelper.map(productDto)));
 	}
 	
+	@Caching(evict = {
+		@CacheEvict(cacheNames = AppConstant.PRODUCT_CACHE_NAME, key = "#productDto.productId"),
+		@CacheEvict(cacheNames = AppConstant.PRODUCTS_CACHE_NAME, allEntries = true)
+	})
 	@Override
 	public ProductDto update(final ProductDto productDto) {
 		log.info("*** ProductDto, service; update product *");
@@ -56,6 +120,10 @@ public class ProductServiceImpl implements ProductService {
 				.save(ProductMappingHelper.map(productDto)));
 	}
 	
+	@Caching(evict = {
+		@CacheEvict(cacheNames = AppConstant.PRODUCT_CACHE_NAME, key = "#productId"),
+		@CacheEvict(cacheNames = AppConstant.PRODUCTS_CACHE_NAME, allEntries = true)
+	})
 	@Override
 	public ProductDto update(final Integer productId, final ProductDto productDto) {
 		log.info("*** ProductDto, service; update product with productId *");
@@ -63,6 +131,10 @@ public class ProductServiceImpl implements ProductService {
 				.save(ProductMappingHelper.map(this.findById(productId))));
 	}
 	
+	@Caching(evict = {
+		@CacheEvict(cacheNames = AppConstant.PRODUCT_CACHE_NAME, key = "#productId"),
+		@CacheEvict(cacheNames = AppConstant.PRODUCTS_CACHE_NAME, allEntries = true)
+	})
 	@Override
 	public void deleteById(final Integer productId) {
 		log.info("*** Void, service; delete product by id *");
@@ -0,0 +1,112 @@
+package com.selimhorri.app.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+
+import com.selimhorri.app.domain.Category;
+import com.selimhorri.app.domain.Product;
+import com.selimhorri.app.helper.CategoryMappingHelper;
+import com.selimhorri.app.helper.ProductMappingHelper;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class ProductRepositoryTest {
+
+    private static final int EXTRA_CATEGORIES = 10;
+
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        // One product per distinct category/parent pair, so an N+1 would grow with the row count
+        for (int i = 0; i < EXTRA_CATEGORIES; i++) {
+            Category parentCategory = testEntityManager.persist(Category.builder()
+                    .categoryTitle("parent-" + i)
+                    .build());
+            Category category = testEntityManager.persist(Category.builder()
+                    .categoryTitle("category-" + i)
+                    .parentCategory(parentCategory)
+                    .build());
+            testEntityManager.persist(Product.builder()
+                    .productTitle("product-" + i)
+                    .sku("sku-statement-count-" + i)
+                    .priceUnit(1.0)
+                    .quantity(1)
+                    .category(category)
+                    .build());
+        }
+        testEntityManager.flush();
+        testEntityManager.clear();
+
+        statistics = testEntityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void testFindAllProducts_ShouldIssueSingleStatement() {
+        // When
+        List<Product> products = productRepository.findAll();
+        products.forEach(ProductMappingHelper::map);
+
+        // Then
+        assertTrue(products.size() >= EXTRA_CATEGORIES);
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void testFindAllProductsPage_ShouldIssueSelectAndCountOnly() {
+        // When
+        Page<Product> products = productRepository.findAll(PageRequest.of(0, 5));
+        products.forEach(ProductMappingHelper::map);
+
+        // Then
+        assertEquals(5, products.getNumberOfElements());
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void testFindAllProductsSlice_ShouldIssueSingleStatement() {
+        // When
+        Slice<Product> products = productRepository.findByProductIdGreaterThan(0, PageRequest.of(0, 5));
+        products.forEach(ProductMappingHelper::map);
+
+        // Then
+        assertEquals(5, products.getNumberOfElements());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void testFindAllCategories_ShouldIssueSingleStatement() {
+        // When
+        List<Category> categories = categoryRepository.findAll();
+        categories.forEach(CategoryMappingHelper::map);
+
+        // Then
+        assertTrue(categories.size() >= 2 * EXTRA_CATEGORIES);
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+}
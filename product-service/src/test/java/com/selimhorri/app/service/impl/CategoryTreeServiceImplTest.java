@@ -0,0 +1,91 @@
+package com.selimhorri.app.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.selimhorri.app.domain.Category;
+import com.selimhorri.app.dto.CategoryDto;
+import com.selimhorri.app.exception.wrapper.CategoryNotFoundException;
+import com.selimhorri.app.repository.CategoryRepository;
+
+@ExtendWith(MockitoExtension.class)
+class CategoryTreeServiceImplTest {
+
+    @Mock
+    private CategoryRepository categoryRepository;
+
+    @InjectMocks
+    private CategoryTreeServiceImpl categoryTreeService;
+
+    @BeforeEach
+    void setUp() {
+        // Given - computers -> laptops -> gaming laptops, plus an unrelated root
+        final Category computers = Category.builder().categoryId(1).categoryTitle("Computers").build();
+        final Category laptops = Category.builder().categoryId(2).categoryTitle("Laptops").parentCategory(computers).build();
+        final Category gaming = Category.builder().categoryId(3).categoryTitle("Gaming").parentCategory(laptops).build();
+        final Category desktops = Category.builder().categoryId(4).categoryTitle("Desktops").parentCategory(computers).build();
+        final Category books = Category.builder().categoryId(5).categoryTitle("Books").build();
+        when(categoryRepository.findAllWithParentCategory())
+                .thenReturn(List.of(gaming, books, desktops, laptops, computers));
+    }
+
+    @Test
+    void testFindSubtreeIds_ShouldCollectEveryDescendantFromOneQuery() {
+        // When
+        final Set<Integer> computersIds = categoryTreeService.findSubtreeIds(1);
+        final Set<Integer> laptopsIds = categoryTreeService.findSubtreeIds(2);
+
+        // Then
+        assertEquals(Set.of(1, 2, 3, 4), computersIds);
+        assertEquals(Set.of(2, 3), laptopsIds);
+        verify(categoryRepository, times(1)).findAllWithParentCategory();
+    }
+
+    @Test
+    void testFindSubtree_ShouldNestSubCategoriesOrderedById() {
+        // When
+        final CategoryDto result = categoryTreeService.findSubtree(1);
+
+        // Then
+        assertEquals("Computers", result.getCategoryTitle());
+        assertEquals(List.of(2, 4), result.getSubCategoriesDtos().stream()
+                .map(CategoryDto::getCategoryId)
+                .collect(Collectors.toList()));
+        final CategoryDto laptops = result.getSubCategoriesDtos().iterator().next();
+        assertEquals("Gaming", laptops.getSubCategoriesDtos().iterator().next().getCategoryTitle());
+        assertTrue(laptops.getSubCategoriesDtos().iterator().next().getSubCategoriesDtos().isEmpty());
+    }
+
+    @Test
+    void testInvalidate_ShouldRebuildTheSnapshotOnNextRead() {
+        // Given
+        categoryTreeService.findSubtreeIds(1);
+
+        // When - no surrounding transaction, so the snapshot is dropped right away
+        categoryTreeService.invalidate();
+        categoryTreeService.findSubtreeIds(1);
+
+        // Then
+        verify(categoryRepository, times(2)).findAllWithParentCategory();
+    }
+
+    @Test
+    void testFindSubtree_ShouldThrowWhenCategoryIsUnknown() {
+        assertThrows(CategoryNotFoundException.class, () -> categoryTreeService.findSubtree(99));
+    }
+}
@@ -0,0 +1,120 @@
+package com.selimhorri.app.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.convert.ApplicationConversionService;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import com.selimhorri.app.config.cache.CacheConfig;
+import com.selimhorri.app.constant.AppConstant;
+import com.selimhorri.app.domain.Category;
+import com.selimhorri.app.domain.Product;
+import com.selimhorri.app.dto.CategoryDto;
+import com.selimhorri.app.dto.ProductDto;
+import com.selimhorri.app.repository.ProductRepository;
+import com.selimhorri.app.service.ProductService;
+
+@SpringJUnitConfig(classes = {CacheConfig.class, ProductServiceImpl.class, ProductServiceImplCacheTest.ConversionConfig.class})
+class ProductServiceImplCacheTest {
+
+    // Binds the "5m" style durations of CacheConfig the way Spring Boot does
+    @Configuration
+    static class ConversionConfig {
+
+        @Bean
+        static ConversionService conversionService() {
+            return ApplicationConversionService.getSharedInstance();
+        }
+    }
+
+    @MockBean
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    private final Product product = Product.builder()
+            .productId(1)
+            .productTitle("Laptop")
+            .category(Category.builder().categoryId(1).build())
+            .build();
+
+    @BeforeEach
+    void setUp() {
+        cacheManager.getCache(AppConstant.PRODUCT_CACHE_NAME).clear();
+        cacheManager.getCache(AppConstant.PRODUCTS_CACHE_NAME).clear();
+    }
+
+    @Test
+    void testFindById_ShouldHitTheRepositoryOnlyOnceForRepeatedReads() {
+        // Given
+        when(productRepository.findById(1)).thenReturn(Optional.of(product));
+
+        // When
+        productService.findById(1);
+        final ProductDto result = productService.findById(1);
+
+        // Then
+        assertEquals("Laptop", result.getProductTitle());
+        verify(productRepository, times(1)).findById(1);
+    }
+
+    @Test
+    void testUpdate_ShouldEvictTheProductAndTheProductList() {
+        // Given
+        when(productRepository.findById(1)).thenReturn(Optional.of(product));
+        when(productRepository.findAll()).thenReturn(List.of(product));
+        when(productRepository.save(any(Product.class))).thenReturn(product);
+        productService.findById(1);
+        productService.findAll();
+
+        // When
+        productService.update(ProductDto.builder()
+                .productId(1)
+                .productTitle("Laptop")
+                .categoryDto(CategoryDto.builder().categoryId(1).build())
+                .build());
+        productService.findById(1);
+        productService.findAll();
+
+        // Then
+        verify(productRepository, times(2)).findById(1);
+        verify(productRepository, times(2)).findAll();
+    }
+
+    @Test
+    void testSave_ShouldOnlyEvictTheProductList() {
+        // Given
+        when(productRepository.findById(1)).thenReturn(Optional.of(product));
+        when(productRepository.save(any(Product.class))).thenReturn(product);
+        productService.findById(1);
+
+        // When
+        productService.save(ProductDto.builder()
+                .productTitle("Phone")
+                .categoryDto(CategoryDto.builder().categoryId(1).build())
+                .build());
+
+        // Then
+        assertNotNull(cacheManager.getCache(AppConstant.PRODUCT_CACHE_NAME).get(1));
+    }
+}
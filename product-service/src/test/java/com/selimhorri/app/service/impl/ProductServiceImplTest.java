@@ -4,6 +4,7 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
+import java.util.List;
 import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
@@ -11,6 +12,10 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
 
 import com.selimhorri.app.domain.Category;
 import com.selimhorri.app.domain.Product;
@@ -92,4 +97,36 @@ class ProductServiceImplTest {
         // Verificar que el repository fue llamado una vez
         verify(productRepository, times(1)).findById(nonExistentProductId);
     }
+
+    @Test
+    void testFindAllAfter_ShouldSeekPastTheCursorKeyOrderedByProductId() {
+        // Given - one row past the requested size means another page follows
+        final Category category = Category.builder().categoryId(1).build();
+        final PageRequest pageable = PageRequest.of(0, 2, Sort.by("productId"));
+        when(productRepository.findByProductIdGreaterThan(5, pageable)).thenReturn(new SliceImpl<>(List.of(
+                Product.builder().productId(6).category(category).build(),
+                Product.builder().productId(7).category(category).build()), pageable, true));
+
+        // When
+        final Slice<ProductDto> result = productService.findAllAfter(5, 2);
+
+        // Then
+        assertEquals(List.of(6, 7), result.map(ProductDto::getProductId).getContent());
+        assertTrue(result.hasNext());
+        verify(productRepository, never()).findAllBy(any());
+    }
+
+    @Test
+    void testFindAllAfter_ShouldStartFromTheFirstRowWithoutCursor() {
+        // Given
+        final PageRequest pageable = PageRequest.of(0, 20, Sort.by("productId"));
+        when(productRepository.findAllBy(pageable)).thenReturn(new SliceImpl<>(List.of(), pageable, false));
+
+        // When
+        final Slice<ProductDto> result = productService.findAllAfter(null, 20);
+
+        // Then
+        assertFalse(result.hasNext());
+        verify(productRepository, never()).findByProductIdGreaterThan(any(), any());
+    }
 }
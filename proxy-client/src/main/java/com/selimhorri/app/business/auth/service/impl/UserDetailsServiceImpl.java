@@ -1,5 +1,6 @@
 package com.selimhorri.app.business.auth.service.impl;
 
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
@@ -22,9 +23,10 @@ public class UserDetailsServiceImpl implements UserDetailsService {
 	private final RestTemplate restTemplate;
 	
 	@Override
+	@Cacheable(cacheNames = AppConstant.USER_DETAILS_CACHE_NAME)
 	public UserDetails loadUserByUsername(final String username) throws UsernameNotFoundException {
 		log.info("**UserDetails, load user by username*\n");
-		return new UserDetailsImpl(this.restTemplate.getForObject(API_URL + "/username/" + username, CredentialDto.class));
+		return new UserDetailsImpl(this.restTemplate.getForObject(API_URL + "/username/{username}", CredentialDto.class, username));
 	}
 	
 	
@@ -0,0 +1,38 @@
+package com.selimhorri.app.business.dashboard.controller;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.selimhorri.app.business.dashboard.model.UserDashboardDto;
+import com.selimhorri.app.business.dashboard.service.UserDashboardService;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/users")
+@RequiredArgsConstructor
+public class UserDashboardController {
+	
+	private final UserDashboardService userDashboardService;
+	
+	@GetMapping("/{userId}/dashboard")
+	public ResponseEntity<UserDashboardDto> findByUserId(@PathVariable("userId") final String userId) {
+		return ResponseEntity.ok(this.userDashboardService.findByUserId(userId));
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
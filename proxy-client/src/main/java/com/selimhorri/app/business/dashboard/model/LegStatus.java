@@ -0,0 +1,10 @@
+package com.selimhorri.app.business.dashboard.model;
+
+public enum LegStatus {
+	
+	OK,
+	TIMEOUT,
+	FAILED,
+	SKIPPED;
+	
+}
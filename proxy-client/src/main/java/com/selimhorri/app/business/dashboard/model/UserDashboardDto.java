@@ -0,0 +1,61 @@
+package com.selimhorri.app.business.dashboard.model;
+
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.selimhorri.app.business.favourite.model.FavouriteDto;
+import com.selimhorri.app.business.order.model.CartDto;
+import com.selimhorri.app.business.order.model.OrderDto;
+import com.selimhorri.app.business.payment.model.PaymentDto;
+import com.selimhorri.app.business.user.model.UserDto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+@Builder
+public class UserDashboardDto implements Serializable {
+	
+	private static final long serialVersionUID = 1L;
+	
+	@JsonProperty("user")
+	@JsonInclude(Include.NON_NULL)
+	private UserDto userDto;
+	
+	@JsonProperty("carts")
+	@JsonInclude(Include.NON_NULL)
+	private Collection<CartDto> cartDtos;
+	
+	@JsonProperty("orders")
+	@JsonInclude(Include.NON_NULL)
+	private Collection<OrderDto> orderDtos;
+	
+	@JsonProperty("favourites")
+	@JsonInclude(Include.NON_NULL)
+	private Collection<FavouriteDto> favouriteDtos;
+	
+	@JsonProperty("payments")
+	@JsonInclude(Include.NON_NULL)
+	private Collection<PaymentDto> paymentDtos;
+	
+	private Map<String, LegStatus> legs;
+	
+}
+
+
+
+
+
+
+
+
+
+
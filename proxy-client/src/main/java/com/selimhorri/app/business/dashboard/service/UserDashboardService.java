@@ -0,0 +1,9 @@
+package com.selimhorri.app.business.dashboard.service;
+
+import com.selimhorri.app.business.dashboard.model.UserDashboardDto;
+
+public interface UserDashboardService {
+	
+	UserDashboardDto findByUserId(final String userId);
+	
+}
@@ -0,0 +1,150 @@
+package com.selimhorri.app.business.dashboard.service.impl;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.selimhorri.app.business.dashboard.model.LegStatus;
+import com.selimhorri.app.business.dashboard.model.UserDashboardDto;
+import com.selimhorri.app.business.dashboard.service.UserDashboardService;
+import com.selimhorri.app.business.favourite.model.FavouriteDto;
+import com.selimhorri.app.business.favourite.service.FavouriteClientService;
+import com.selimhorri.app.business.order.model.CartDto;
+import com.selimhorri.app.business.order.model.OrderDto;
+import com.selimhorri.app.business.order.service.CartClientService;
+import com.selimhorri.app.business.order.service.OrderClientService;
+import com.selimhorri.app.business.payment.model.PaymentDto;
+import com.selimhorri.app.business.payment.service.PaymentClientService;
+import com.selimhorri.app.business.user.model.UserDto;
+import com.selimhorri.app.business.user.service.UserClientService;
+import com.selimhorri.app.config.deadline.Deadline;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Fans the dashboard legs out concurrently, payments being chained on the orders they belong to. 
+ * Every leg is awaited against one deadline taken when the request starts, never past the request 
+ * {@link Deadline}, a leg that times out or fails is left out of the response and reported in its legs status.
+ */
+@Service
+@Slf4j
+public class UserDashboardServiceImpl implements UserDashboardService {
+	
+	private final UserClientService userClientService;
+	private final CartClientService cartClientService;
+	private final OrderClientService orderClientService;
+	private final FavouriteClientService favouriteClientService;
+	private final PaymentClientService paymentClientService;
+	private final Executor executor;
+	private final Duration legTimeout;
+	
+	public UserDashboardServiceImpl(final UserClientService userClientService, 
+			final CartClientService cartClientService, 
+			final OrderClientService orderClientService, 
+			final FavouriteClientService favouriteClientService, 
+			final PaymentClientService paymentClientService, 
+			@Qualifier("dashboardTaskExecutor") final Executor executor, 
+			@Value("${app.dashboard.leg-timeout:2s}") final Duration legTimeout) {
+		this.userClientService = userClientService;
+		this.cartClientService = cartClientService;
+		this.orderClientService = orderClientService;
+		this.favouriteClientService = favouriteClientService;
+		this.paymentClientService = paymentClientService;
+		this.executor = executor;
+		this.legTimeout = legTimeout;
+	}
+	
+	@Override
+	public UserDashboardDto findByUserId(final String userId) {
+		log.info("**UserDashboard service, fan out dashboard legs of user {}*\n", userId);
+		final long deadline = Deadline.cap(this.legTimeout);
+		
+		final CompletableFuture<UserDto> user = this.submit(() -> this.userClientService.findById(userId).getBody());
+		final CompletableFuture<Collection<CartDto>> carts = this.submit(() -> this.cartClientService
+				.findAllByUserId(userId).getBody().getCollection());
+		final CompletableFuture<Collection<OrderDto>> orders = this.submit(() -> this.orderClientService
+				.findAllByUserId(userId).getBody().getCollection());
+		final CompletableFuture<Collection<FavouriteDto>> favourites = this.submit(() -> this.favouriteClientService
+				.findAllByUserId(userId).getBody().getCollection());
+		final CompletableFuture<Collection<PaymentDto>> payments = orders.thenComposeAsync(orderDtos -> (orderDtos.isEmpty()) ? 
+				CompletableFuture.completedFuture(List.of()) : 
+				this.submit(() -> this.paymentClientService.findAllByOrderIds(orderDtos.stream()
+						.map(OrderDto::getOrderId)
+						.collect(Collectors.toUnmodifiableList())).getBody().getCollection()), this.executor);
+		
+		final Map<String, LegStatus> legs = new LinkedHashMap<>();
+		return UserDashboardDto.builder()
+				.userDto(this.await("user", user, deadline, legs))
+				.cartDtos(this.await("carts", carts, deadline, legs))
+				.orderDtos(this.await("orders", orders, deadline, legs))
+				.favouriteDtos(this.await("favourites", favourites, deadline, legs))
+				.paymentDtos((legs.get("orders") == LegStatus.OK) ? 
+						this.await("payments", payments, deadline, legs) : this.skip("payments", payments, legs))
+				.legs(legs)
+				.build();
+	}
+	
+	private <T> CompletableFuture<T> submit(final Supplier<T> leg) {
+		try {
+			return CompletableFuture.supplyAsync(leg, this.executor);
+		}
+		catch (RejectedExecutionException e) {
+			return CompletableFuture.failedFuture(e);
+		}
+	}
+	
+	private <T> T await(final String leg, final CompletableFuture<T> future, final long deadline, final Map<String, LegStatus> legs) {
+		try {
+			final T value = future.get(Math.max(deadline - System.nanoTime(), 0L), TimeUnit.NANOSECONDS);
+			legs.put(leg, LegStatus.OK);
+			return value;
+		}
+		catch (TimeoutException e) {
+			future.cancel(false);
+			log.warn("**UserDashboard service, {} leg exceeded its timeout*\n", leg);
+			legs.put(leg, LegStatus.TIMEOUT);
+		}
+		catch (ExecutionException e) {
+			log.warn("**UserDashboard service, {} leg failed: {}*\n", leg, e.getCause().getMessage());
+			legs.put(leg, LegStatus.FAILED);
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			legs.put(leg, LegStatus.FAILED);
+		}
+		return null;
+	}
+	
+	private <T> T skip(final String leg, final CompletableFuture<T> future, final Map<String, LegStatus> legs) {
+		future.cancel(false);
+		legs.put(leg, LegStatus.SKIPPED);
+		return null;
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -1,5 +1,10 @@
 package com.selimhorri.app.business.product.controller;
 
+import java.io.IOException;
+import java.util.List;
+
+import javax.servlet.http.HttpServletResponse;
+
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -8,11 +13,12 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.selimhorri.app.business.product.model.CategoryDto;
-import com.selimhorri.app.business.product.model.response.CategoryProductServiceCollectionDtoResponse;
 import com.selimhorri.app.business.product.service.CategoryClientService;
+import com.selimhorri.app.util.ResponsePassThrough;
 
 import lombok.RequiredArgsConstructor;
 
@@ -24,8 +30,13 @@ public class CategoryController {
 	private final CategoryClientService categoryClientService;
 	
 	@GetMapping
-	public ResponseEntity<CategoryProductServiceCollectionDtoResponse> findAll() {
-		return ResponseEntity.ok(this.categoryClientService.findAll().getBody());
+	public void findAll(
+			@RequestParam(name = "page", required = false) final Integer page, 
+			@RequestParam(name = "size", required = false) final Integer size, 
+			@RequestParam(name = "cursor", required = false) final String cursor, 
+			@RequestParam(name = "sort", required = false) final List<String> sort, 
+			final HttpServletResponse response) throws IOException {
+		ResponsePassThrough.relay(this.categoryClientService.streamAll(page, size, cursor, sort), response);
 	}
 	
 	@GetMapping("/{categoryId}")
@@ -33,6 +44,21 @@ public class CategoryController {
 		return ResponseEntity.ok(this.categoryClientService.findById(categoryId).getBody());
 	}
 	
+	@GetMapping("/{categoryId}/subtree")
+	public ResponseEntity<CategoryDto> findSubtree(@PathVariable("categoryId") final String categoryId) {
+		return ResponseEntity.ok(this.categoryClientService.findSubtree(categoryId).getBody());
+	}
+	
+	@GetMapping("/{categoryId}/products")
+	public void findSubtreeProducts(
+			@PathVariable("categoryId") final String categoryId, 
+			@RequestParam(name = "page", required = false) final Integer page, 
+			@RequestParam(name = "size", required = false) final Integer size, 
+			@RequestParam(name = "sort", required = false) final List<String> sort, 
+			final HttpServletResponse response) throws IOException {
+		ResponsePassThrough.relay(this.categoryClientService.streamSubtreeProducts(categoryId, page, size, sort), response);
+	}
+	
 	@PostMapping
 	public ResponseEntity<CategoryDto> save(@RequestBody final CategoryDto categoryDto) {
 		return ResponseEntity.ok(this.categoryClientService.save(categoryDto).getBody());
@@ -1,5 +1,7 @@
 package com.selimhorri.app.business.product.service;
 
+import java.util.List;
+
 import javax.validation.Valid;
 import javax.validation.constraints.NotBlank;
 import javax.validation.constraints.NotNull;
@@ -12,15 +14,30 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
 
 import com.selimhorri.app.business.product.model.CategoryDto;
 import com.selimhorri.app.business.product.model.response.CategoryProductServiceCollectionDtoResponse;
+import com.selimhorri.app.business.product.model.response.ProductProductServiceCollectionDtoResponse;
+
+import feign.Response;
 
 @FeignClient(name = "PRODUCT-SERVICE", contextId = "categoryClientService", path = "/product-service/api/categories")
 public interface CategoryClientService {
 	
 	@GetMapping
-	ResponseEntity<CategoryProductServiceCollectionDtoResponse> findAll();
+	ResponseEntity<CategoryProductServiceCollectionDtoResponse> findAll(
+			@RequestParam(name = "page", required = false) final Integer page, 
+			@RequestParam(name = "size", required = false) final Integer size, 
+			@RequestParam(name = "cursor", required = false) final String cursor, 
+			@RequestParam(name = "sort", required = false) final List<String> sort);
+	
+	@GetMapping
+	Response streamAll(
+			@RequestParam(name = "page", required = false) final Integer page, 
+			@RequestParam(name = "size", required = false) final Integer size, 
+			@RequestParam(name = "cursor", required = false) final String cursor, 
+			@RequestParam(name = "sort", required = false) final List<String> sort);
 	
 	@GetMapping("/{categoryId}")
 	ResponseEntity<CategoryDto> findById(
@@ -28,6 +45,30 @@ public interface CategoryClientService {
 			@NotBlank(message = "Input must not be blank!") 
 			@Valid final String categoryId);
 	
+	@GetMapping("/{categoryId}/subtree")
+	ResponseEntity<CategoryDto> findSubtree(
+			@PathVariable("categoryId") 
+			@NotBlank(message = "Input must not be blank!") 
+			@Valid final String categoryId);
+	
+	@GetMapping("/{categoryId}/products")
+	ResponseEntity<ProductProductServiceCollectionDtoResponse> findSubtreeProducts(
+			@PathVariable("categoryId") 
+			@NotBlank(message = "Input must not be blank!") 
+			@Valid final String categoryId, 
+			@RequestParam(name = "page", required = false) final Integer page, 
+			@RequestParam(name = "size", required = false) final Integer size, 
+			@RequestParam(name = "sort", required = false) final List<String> sort);
+	
+	@GetMapping("/{categoryId}/products")
+	Response streamSubtreeProducts(
+			@PathVariable("categoryId") 
+			@NotBlank(message = "Input must not be blank!") 
+			@Valid final String categoryId, 
+			@RequestParam(name = "page", required = false) final Integer page, 
+			@RequestParam(name = "size", required = false) final Integer size, 
+			@RequestParam(name = "sort", required = false) final List<String> sort);
+	
 	@PostMapping
 	ResponseEntity<CategoryDto> save(
 			@RequestBody 
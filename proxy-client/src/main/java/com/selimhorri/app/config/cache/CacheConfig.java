@@ -0,0 +1,86 @@
+package com.selimhorri.app.config.cache;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.selimhorri.app.constant.AppConstant;
+
+import io.jsonwebtoken.Claims;
+
+/**
+ * Caffeine backed authentication caches, with app.cache.enabled=false every token is parsed 
+ * and every user is loaded from USER-SERVICE again.
+ * Verified token claims live until the token expires, user details only for a short ttl.
+ */
+@Configuration
+@EnableCaching
+@ConditionalOnProperty(name = "app.cache.enabled", havingValue = "true", matchIfMissing = true)
+public class CacheConfig {
+	
+	@Bean
+	public CacheManager cacheManager(
+			@Value("${app.cache.jwt.maximum-size:10000}") final long jwtMaximumSize, 
+			@Value("${app.cache.user-details.maximum-size:10000}") final long userDetailsMaximumSize, 
+			@Value("${app.cache.user-details.ttl:30s}") final Duration userDetailsTtl) {
+		final var caffeineCacheManager = new CaffeineCacheManager(AppConstant.USER_DETAILS_CACHE_NAME);
+		caffeineCacheManager.setCaffeine(Caffeine.newBuilder()
+				.maximumSize(userDetailsMaximumSize)
+				.expireAfterWrite(userDetailsTtl)
+				.recordStats());
+		caffeineCacheManager.registerCustomCache(AppConstant.JWT_CACHE_NAME, Caffeine.newBuilder()
+				.maximumSize(jwtMaximumSize)
+				.expireAfter(new ClaimsExpiry())
+				.recordStats()
+				.build());
+		return caffeineCacheManager;
+	}
+	
+	/**
+	 * Expires cached claims at the exp of the token they were parsed from.
+	 */
+	private static final class ClaimsExpiry implements Expiry<Object, Object> {
+		
+		@Override
+		public long expireAfterCreate(final Object key, final Object value, final long currentTime) {
+			final Date expiration = (value instanceof Claims) ? ((Claims) value).getExpiration() : null;
+			if (expiration == null)
+				return 0L;
+			return TimeUnit.MILLISECONDS.toNanos(Math.max(0L, expiration.getTime() - System.currentTimeMillis()));
+		}
+		
+		@Override
+		public long expireAfterUpdate(final Object key, final Object value, final long currentTime, final long currentDuration) {
+			return this.expireAfterCreate(key, value, currentTime);
+		}
+		
+		@Override
+		public long expireAfterRead(final Object key, final Object value, final long currentTime, final long currentDuration) {
+			return currentDuration;
+		}
+		
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,40 @@
+package com.selimhorri.app.config.coalescing;
+
+import java.io.IOException;
+
+import org.springframework.beans.factory.ObjectProvider;
+
+import feign.Client;
+import feign.Request;
+import feign.Request.Options;
+import feign.Response;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Feign {@link Client} decorator routing every call through the {@link RequestCoalescer}, 
+ * resolved lazily since Feign clients are built before the meter registry is available.
+ */
+@RequiredArgsConstructor
+public class CoalescingClient implements Client {
+	
+	private final Client delegate;
+	private final ObjectProvider<RequestCoalescer> requestCoalescerProvider;
+	
+	@Override
+	public Response execute(final Request request, final Options options) throws IOException {
+		return this.requestCoalescerProvider.getObject().execute(request, options, this.delegate);
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,38 @@
+package com.selimhorri.app.config.coalescing;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import feign.Client;
+
+@Configuration
+public class CoalescingConfig {
+	
+	@Bean
+	public static BeanPostProcessor coalescingClientPostProcessor(final ObjectProvider<RequestCoalescer> requestCoalescerProvider) {
+		return new BeanPostProcessor() {
+			
+			@Override
+			public Object postProcessAfterInitialization(final Object bean, final String beanName) {
+				return (bean instanceof Client && !(bean instanceof CoalescingClient)) ? 
+						new CoalescingClient((Client) bean, requestCoalescerProvider) : bean;
+			}
+			
+		};
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,221 @@
+package com.selimhorri.app.config.coalescing;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.PathMatcher;
+import org.springframework.util.StreamUtils;
+
+import com.selimhorri.app.config.deadline.Deadline;
+import com.selimhorri.app.exception.wrapper.DeadlineExceededException;
+
+import feign.Client;
+import feign.Request;
+import feign.Request.HttpMethod;
+import feign.Request.Options;
+import feign.Response;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Single flight for upstream Feign calls: concurrent identical GETs (same method, path and query) 
+ * on an opted-in route share one upstream call, whose response is buffered and handed to every waiter.
+ * Waiters give up after {@code app.coalescing.max-wait} and call upstream themselves, or at their own 
+ * {@link Deadline} if that comes first. A leader that ran out of its deadline (504 or 
+ * {@link DeadlineExceededException}) says nothing about the waiters' budgets, so waiters with time 
+ * left call upstream themselves instead of sharing that failure.
+ */
+@Component
+@Slf4j
+public class RequestCoalescer {
+	
+	private final Map<String, CompletableFuture<SharedResponse>> inFlight = new ConcurrentHashMap<>();
+	private final PathMatcher pathMatcher = new AntPathMatcher();
+	private final MeterRegistry meterRegistry;
+	private final boolean enabled;
+	private final Duration maxWait;
+	private final List<String> routes;
+	
+	public RequestCoalescer(final MeterRegistry meterRegistry, 
+			@Value("${app.coalescing.enabled:true}") final boolean enabled, 
+			@Value("${app.coalescing.max-wait:2s}") final Duration maxWait, 
+			@Value("${app.coalescing.routes:}") final String[] routes) {
+		this.meterRegistry = meterRegistry;
+		this.enabled = enabled;
+		this.maxWait = maxWait;
+		this.routes = Arrays.stream(routes)
+				.map(String::strip)
+				.filter(route -> !route.isEmpty())
+				.collect(Collectors.toUnmodifiableList());
+	}
+	
+	public Response execute(final Request request, final Options options, final Client delegate) throws IOException {
+		final Optional<String> route = this.route(request);
+		if (route.isEmpty())
+			return delegate.execute(request, options);
+		
+		final String key = request.httpMethod() + " " + request.url();
+		final CompletableFuture<SharedResponse> flight = new CompletableFuture<>();
+		final CompletableFuture<SharedResponse> existing = this.inFlight.putIfAbsent(key, flight);
+		
+		if (existing == null) {
+			this.counter(route.get(), "leader").increment();
+			try {
+				final SharedResponse sharedResponse = SharedResponse.of(delegate.execute(request, options));
+				flight.complete(sharedResponse);
+				return sharedResponse.toResponse(request);
+			}
+			catch (IOException | RuntimeException e) {
+				flight.completeExceptionally(e);
+				throw e;
+			}
+			finally {
+				this.inFlight.remove(key, flight);
+			}
+		}
+		
+		final long waitMillis = this.waitMillis();
+		if (waitMillis <= 0)
+			throw new DeadlineExceededException(String.format("Deadline exceeded before joining coalesced call to %s", key));
+		
+		try {
+			final SharedResponse sharedResponse = existing.get(waitMillis, TimeUnit.MILLISECONDS);
+			if (sharedResponse.status == HttpStatus.GATEWAY_TIMEOUT.value())
+				return this.retry(request, options, delegate, route.get(), key);
+			this.counter(route.get(), "follower").increment();
+			return sharedResponse.toResponse(request);
+		}
+		catch (TimeoutException e) {
+			this.counter(route.get(), "timeout").increment();
+			if (this.deadlinePassed())
+				throw new DeadlineExceededException(String.format("Deadline exceeded waiting for coalesced call to %s", key));
+			log.debug("** Coalesced call to {} not answered within {}ms, calling upstream directly*", key, waitMillis);
+			return delegate.execute(request, options);
+		}
+		catch (ExecutionException e) {
+			if (e.getCause() instanceof DeadlineExceededException)
+				return this.retry(request, options, delegate, route.get(), key);
+			this.counter(route.get(), "follower").increment();
+			if (e.getCause() instanceof IOException)
+				throw (IOException) e.getCause();
+			throw (RuntimeException) e.getCause();
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IOException("Interrupted while waiting for coalesced call to " + key, e);
+		}
+	}
+	
+	/**
+	 * Calls upstream for a waiter whose leader ran out of its own deadline, unless the waiter is out of time too.
+	 */
+	private Response retry(final Request request, final Options options, final Client delegate, 
+			final String route, final String key) throws IOException {
+		if (this.deadlinePassed())
+			throw new DeadlineExceededException(String.format("Deadline exceeded waiting for coalesced call to %s", key));
+		this.counter(route, "deadline_retry").increment();
+		log.debug("** Coalesced call to {} ran out of the leader's deadline, calling upstream directly*", key);
+		return delegate.execute(request, options);
+	}
+	
+	private long waitMillis() {
+		final OptionalLong remainingMillis = Deadline.remainingMillis();
+		return remainingMillis.isPresent() ? 
+				Math.min(this.maxWait.toMillis(), remainingMillis.getAsLong()) : 
+				this.maxWait.toMillis();
+	}
+	
+	private boolean deadlinePassed() {
+		final OptionalLong remainingMillis = Deadline.remainingMillis();
+		return remainingMillis.isPresent() && remainingMillis.getAsLong() <= 0;
+	}
+	
+	private Optional<String> route(final Request request) {
+		if (!this.enabled || request.httpMethod() != HttpMethod.GET || request.body() != null)
+			return Optional.empty();
+		final String path = URI.create(request.url()).getPath();
+		return this.routes.stream()
+				.filter(route -> this.pathMatcher.match(route, path))
+				.findFirst();
+	}
+	
+	private Counter counter(final String route, final String outcome) {
+		return Counter.builder("proxy.coalescing.requests")
+				.description("Upstream GETs on coalescing routes by whether they led, joined, timed out waiting for a shared call or retried after a leader ran out of its deadline")
+				.tag("route", route)
+				.tag("outcome", outcome)
+				.register(this.meterRegistry);
+	}
+	
+	/**
+	 * Fully buffered upstream response that can be replayed for any number of waiters.
+	 */
+	private static final class SharedResponse {
+		
+		private final int status;
+		private final String reason;
+		private final Map<String, Collection<String>> headers;
+		private final byte[] body;
+		
+		private SharedResponse(final int status, final String reason, final Map<String, Collection<String>> headers, final byte[] body) {
+			this.status = status;
+			this.reason = reason;
+			this.headers = headers;
+			this.body = body;
+		}
+		
+		static SharedResponse of(final Response response) throws IOException {
+			try (response) {
+				byte[] body = null;
+				if (response.body() != null)
+					try (final InputStream inputStream = response.body().asInputStream()) {
+						body = StreamUtils.copyToByteArray(inputStream);
+					}
+				return new SharedResponse(response.status(), response.reason(), response.headers(), body);
+			}
+		}
+		
+		Response toResponse(final Request request) {
+			return Response.builder()
+					.status(this.status)
+					.reason(this.reason)
+					.headers(this.headers)
+					.body(this.body)
+					.request(request)
+					.build();
+		}
+		
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,40 @@
+package com.selimhorri.app.config.dashboard;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import com.selimhorri.app.config.deadline.Deadline;
+import com.selimhorri.app.config.timing.ServerTiming;
+
+@Configuration
+public class DashboardConfig {
+	
+	@Bean
+	public ThreadPoolTaskExecutor dashboardTaskExecutor(
+			@Value("${app.dashboard.pool-size:32}") final int poolSize, 
+			@Value("${app.dashboard.queue-capacity:500}") final int queueCapacity) {
+		final var taskExecutor = new ThreadPoolTaskExecutor();
+		taskExecutor.setCorePoolSize(poolSize);
+		taskExecutor.setMaxPoolSize(poolSize);
+		taskExecutor.setQueueCapacity(queueCapacity);
+		taskExecutor.setAllowCoreThreadTimeOut(true);
+		taskExecutor.setThreadNamePrefix("dashboard-");
+		taskExecutor.setTaskDecorator(task -> ServerTiming.propagate(Deadline.propagate(task)));
+		return taskExecutor;
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,43 @@
+package com.selimhorri.app.config.deadline;
+
+import java.util.OptionalLong;
+
+import org.springframework.stereotype.Component;
+
+import com.selimhorri.app.exception.wrapper.DeadlineExceededException;
+
+import feign.RequestInterceptor;
+import feign.RequestTemplate;
+
+/**
+ * Forwards what is left of the request {@link Deadline} on Feign calls, 
+ * and refuses to make a call the caller will no longer wait for.
+ */
+@Component
+public class DeadlineRequestInterceptor implements RequestInterceptor {
+	
+	@Override
+	public void apply(final RequestTemplate requestTemplate) {
+		final OptionalLong remainingMillis = Deadline.remainingMillis();
+		if (remainingMillis.isEmpty())
+			return;
+		if (remainingMillis.getAsLong() <= 0)
+			throw new DeadlineExceededException(String.format("Deadline exceeded before calling %s", 
+					requestTemplate.feignTarget().name()));
+		requestTemplate.header(Deadline.HEADER);
+		requestTemplate.header(Deadline.HEADER, Long.toString(remainingMillis.getAsLong()));
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
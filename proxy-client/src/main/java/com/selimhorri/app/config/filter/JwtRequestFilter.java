@@ -15,8 +15,11 @@ import org.springframework.security.web.authentication.WebAuthenticationDetailsS
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
+import com.selimhorri.app.config.jfr.JwtValidationEvent;
 import com.selimhorri.app.jwt.service.JwtService;
+import com.selimhorri.app.jwt.service.TokenRevocationService;
 
+import io.jsonwebtoken.Claims;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -27,6 +30,7 @@ public class JwtRequestFilter extends OncePerRequestFilter {
 	
 	private final UserDetailsService userDetailsService;
 	private final JwtService jwtService;
+	private final TokenRevocationService tokenRevocationService;
 	
 	@Override
 	protected void doFilterInternal(final HttpServletRequest request, final HttpServletResponse response, final FilterChain filterChain) 
@@ -39,30 +43,53 @@ public class JwtRequestFilter extends OncePerRequestFilter {
 		String username = null;
 		String jwt = null;
 		
-		if ( authorizationHeader != null && authorizationHeader.startsWith("Bearer ") ) {
-			jwt = authorizationHeader.substring(7);
-			username = jwtService.extractUsername(jwt);
-		}
-		
-		if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
+		final JwtValidationEvent validation = new JwtValidationEvent();
+		validation.begin();
+		validation.setOutcome("error");
+		try {
 			
-			final UserDetails userDetails = this.userDetailsService.loadUserByUsername(username);
-			
-			if (this.jwtService.validateToken(jwt, userDetails)) {
-				final UsernamePasswordAuthenticationToken usernamePasswordAuthenticationToken = 
-						new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
-				usernamePasswordAuthenticationToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-				SecurityContextHolder.getContext().setAuthentication(usernamePasswordAuthenticationToken);
+			if ( authorizationHeader != null && authorizationHeader.startsWith("Bearer ") ) {
+				jwt = authorizationHeader.substring(7);
+				username = jwtService.extractUsername(jwt);
+				validation.setOutcome("skipped");
 			}
 			
+			if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
+				
+				final UserDetails embeddedUserDetails = this.jwtService.extractUserDetails(jwt);
+				final UserDetails userDetails = (embeddedUserDetails != null) ? 
+						embeddedUserDetails : this.userDetailsService.loadUserByUsername(username);
+				validation.setEmbeddedAuthorities(embeddedUserDetails != null);
+				
+				if (embeddedUserDetails != null && this.tokenRevocationService
+						.isRevoked(username, this.jwtService.extractClaims(jwt, Claims::getIssuedAt))) {
+					log.info("**Token of revoked credential {} rejected*\n", username);
+					validation.setOutcome("revoked");
+				}
+				else if (this.jwtService.validateToken(jwt, userDetails)) {
+					final UsernamePasswordAuthenticationToken usernamePasswordAuthenticationToken = 
+							new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+					usernamePasswordAuthenticationToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+					SecurityContextHolder.getContext().setAuthentication(usernamePasswordAuthenticationToken);
+					validation.setOutcome("authenticated");
+				}
+				else
+					validation.setOutcome("invalid");
+			
+			}
+		
+		}
+		finally {
+			if (jwt != null)
+				validation.commit();
 		}
 		
 		filterChain.doFilter(request, response);
 		log.info("**Jwt request filtered!*\n");
 	}
-	
-	
-	
+
+
+
 }
 
 
@@ -0,0 +1,39 @@
+package com.selimhorri.app.config.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+import lombok.Setter;
+
+/**
+ * Validation of the bearer token of a request, from parsing to the authentication decision.
+ */
+@Name("com.selimhorri.app.JwtValidation")
+@Label("JWT Validation")
+@Category({ "E-commerce", "Security" })
+@Description("Bearer token validation in the JWT request filter")
+@StackTrace(false)
+@Setter
+public class JwtValidationEvent extends Event {
+	
+	@Label("Outcome")
+	private String outcome;
+	
+	@Label("Embedded Authorities")
+	private boolean embeddedAuthorities;
+
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,73 @@
+package com.selimhorri.app.config.loadbalancer;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.DefaultResponse;
+import org.springframework.cloud.client.loadbalancer.EmptyResponse;
+import org.springframework.cloud.client.loadbalancer.Request;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.cloud.loadbalancer.core.NoopServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.core.ReactorServiceInstanceLoadBalancer;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+/**
+ * Power of two choices: samples two non ejected instances and picks the one with the lower 
+ * in-flight weighted latency score.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class LoadAwareLoadBalancer implements ReactorServiceInstanceLoadBalancer {
+	
+	private final ObjectProvider<ServiceInstanceListSupplier> serviceInstanceListSupplierProvider;
+	private final String serviceId;
+	private final InstanceLoadTracker instanceLoadTracker;
+	
+	@Override
+	@SuppressWarnings("rawtypes")
+	public Mono<Response<ServiceInstance>> choose(final Request request) {
+		final ServiceInstanceListSupplier serviceInstanceListSupplier = this.serviceInstanceListSupplierProvider
+				.getIfAvailable(NoopServiceInstanceListSupplier::new);
+		return serviceInstanceListSupplier.get(request)
+				.next()
+				.map(this::choose);
+	}
+	
+	private Response<ServiceInstance> choose(final List<ServiceInstance> serviceInstances) {
+		if (serviceInstances.isEmpty()) {
+			log.warn("** No servers available for service: {}*", this.serviceId);
+			return new EmptyResponse();
+		}
+		this.instanceLoadTracker.retainDiscovered(serviceInstances);
+		final List<ServiceInstance> candidates = this.instanceLoadTracker.withoutEjected(serviceInstances);
+		if (candidates.size() == 1)
+			return new DefaultResponse(candidates.get(0));
+		
+		final int first = ThreadLocalRandom.current().nextInt(candidates.size());
+		final int second = (first + 1 + ThreadLocalRandom.current().nextInt(candidates.size() - 1)) % candidates.size();
+		final ServiceInstance firstInstance = candidates.get(first);
+		final ServiceInstance secondInstance = candidates.get(second);
+		
+		return new DefaultResponse(this.instanceLoadTracker.getInstanceLoad(firstInstance).getScore() 
+				<= this.instanceLoadTracker.getInstanceLoad(secondInstance).getScore() ? firstInstance : secondInstance);
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,215 @@
+package com.selimhorri.app.config.metrics;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.metrics.http.Outcome;
+import org.springframework.stereotype.Component;
+
+import com.selimhorri.app.config.jfr.RemoteCallEvent;
+import com.selimhorri.app.config.timing.ServerTiming;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Caller to callee metrics of outbound calls, tagged by target service and URI template:
+ * <ul>
+ * <li>{@value #REQUESTS} timer, with the {@code app.metrics.client.slo} buckets, and its outcome and exception</li>
+ * <li>{@value #IN_FLIGHT} gauge of the calls waiting for an answer</li>
+ * <li>{@value #REQUEST_SIZE} and {@value #RESPONSE_SIZE} summaries of the bytes sent and read</li>
+ * </ul>
+ * Latency is measured up to the response headers, the body is counted as it is read. 
+ * The same latency is added to the request {@link ServerTiming} under the target name, and each call
+ * is a {@link RemoteCallEvent} for the flight recorder.
+ */
+@Component
+public class ClientMetrics {
+	
+	public static final String REQUESTS = "dependency.requests";
+	public static final String IN_FLIGHT = "dependency.requests.in.flight";
+	public static final String REQUEST_SIZE = "dependency.request.size";
+	public static final String RESPONSE_SIZE = "dependency.response.size";
+	
+	private static final Pattern ID_SEGMENT = Pattern.compile("/[^/]*\\d[^/]*");
+	
+	private final Map<String, AtomicInteger> inFlight = new ConcurrentHashMap<>();
+	private final MeterRegistry meterRegistry;
+	private final String caller;
+	private final Duration[] serviceLevelObjectives;
+	
+	public ClientMetrics(final MeterRegistry meterRegistry, 
+			@Value("${spring.application.name}") final String applicationName, 
+			@Value("${app.metrics.client.slo:50ms,100ms,250ms,500ms,1s,2s,5s}") final Duration[] serviceLevelObjectives) {
+		this.meterRegistry = meterRegistry;
+		this.caller = applicationName.toLowerCase(Locale.ROOT);
+		this.serviceLevelObjectives = serviceLevelObjectives;
+	}
+	
+	/**
+	 * Path of a call made without a URI template, segments holding a digit are taken as ids
+	 * so that the uri tag stays bounded.
+	 */
+	public static String uriOf(final String path) {
+		return (path == null || path.isEmpty()) ? "/" : ID_SEGMENT.matcher(path).replaceAll("/{id}");
+	}
+	
+	public Call start(final String target, final String method, final String uri, final long requestBytes) {
+		final String name = target.toLowerCase(Locale.ROOT);
+		final Tags tags = Tags.of("caller", this.caller, "target", name);
+		final AtomicInteger inFlight = this.inFlight.computeIfAbsent(name, 
+				k -> this.meterRegistry.gauge(IN_FLIGHT, tags, new AtomicInteger()));
+		final RemoteCallEvent event = new RemoteCallEvent();
+		event.setTarget(name);
+		event.setMethod(method);
+		event.setUri(uri);
+		return new Call(name, tags.and("method", method, "uri", uri), inFlight, requestBytes, event);
+	}
+	
+	/**
+	 * A single outbound call, completed once with {@link #success(int)} or {@link #failure(Throwable)}.
+	 */
+	public final class Call {
+		
+		private final String target;
+		private final Tags tags;
+		private final AtomicInteger inFlight;
+		private final long requestBytes;
+		private final RemoteCallEvent event;
+		private final long startTime;
+		
+		private Call(final String target, final Tags tags, final AtomicInteger inFlight, final long requestBytes, 
+				final RemoteCallEvent event) {
+			this.target = target;
+			this.tags = tags;
+			this.inFlight = inFlight;
+			this.requestBytes = requestBytes;
+			this.event = event;
+			this.inFlight.incrementAndGet();
+			this.event.begin();
+			this.startTime = System.nanoTime();
+		}
+		
+		public void success(final int status) {
+			final String outcome = Outcome.forStatus(status).name();
+			this.event.setStatus(status);
+			this.event.setOutcome(outcome);
+			this.stop(Tags.of("outcome", outcome, "exception", "None"));
+		}
+		
+		public void failure(final Throwable throwable) {
+			this.event.setOutcome("IO_ERROR");
+			this.stop(Tags.of("outcome", "IO_ERROR", "exception", throwable.getClass().getSimpleName()));
+		}
+		
+		/**
+		 * Counts the bytes read from the response body, recorded when the stream is closed.
+		 */
+		public InputStream countResponse(final InputStream body) {
+			return new CountingInputStream(body, this);
+		}
+		
+		private void stop(final Tags outcome) {
+			final long elapsed = System.nanoTime() - this.startTime;
+			this.inFlight.decrementAndGet();
+			this.event.commit();
+			ServerTiming.record(this.target, elapsed);
+			Timer.builder(REQUESTS)
+					.tags(this.tags.and(outcome))
+					.serviceLevelObjectives(serviceLevelObjectives)
+					.register(meterRegistry)
+					.record(elapsed, TimeUnit.NANOSECONDS);
+			if (this.requestBytes >= 0)
+				this.summary(REQUEST_SIZE).record(this.requestBytes);
+		}
+		
+		private DistributionSummary summary(final String name) {
+			return DistributionSummary.builder(name)
+					.tags(this.tags)
+					.baseUnit("bytes")
+					.register(meterRegistry);
+		}
+	
+	}
+	
+	private static final class CountingInputStream extends FilterInputStream {
+		
+		private final Call call;
+		private long count;
+		private boolean closed;
+		
+		private CountingInputStream(final InputStream in, final Call call) {
+			super(in);
+			this.call = call;
+		}
+		
+		@Override
+		public int read() throws IOException {
+			final int b = super.read();
+			if (b >= 0)
+				this.count++;
+			return b;
+		}
+		
+		@Override
+		public int read(final byte[] b, final int off, final int len) throws IOException {
+			final int n = super.read(b, off, len);
+			if (n > 0)
+				this.count += n;
+			return n;
+		}
+		
+		@Override
+		public long skip(final long n) throws IOException {
+			final long skipped = super.skip(n);
+			this.count += skipped;
+			return skipped;
+		}
+		
+		/**
+		 * Without mark support bytes read ahead are not counted twice.
+		 */
+		@Override
+		public boolean markSupported() {
+			return false;
+		}
+		
+		@Override
+		public void close() throws IOException {
+			try {
+				super.close();
+			}
+			finally {
+				if (!this.closed) {
+					this.closed = true;
+					this.call.summary(RESPONSE_SIZE).record(this.count);
+				}
+			}
+		}
+	
+	}
+
+
+
+}
+
+
+
+
+
+
+
+
+
+
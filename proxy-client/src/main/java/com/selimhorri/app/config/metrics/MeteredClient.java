@@ -0,0 +1,109 @@
+package com.selimhorri.app.config.metrics;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.net.URI;
+import java.nio.charset.Charset;
+import java.util.List;
+import java.util.Locale;
+
+import org.springframework.beans.factory.ObjectProvider;
+
+import com.selimhorri.app.config.timing.ServerTiming;
+
+import feign.Client;
+import feign.Request;
+import feign.Request.Options;
+import feign.RequestTemplate;
+import feign.Response;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Feign {@link Client} decorator recording every upstream call in the {@link ClientMetrics}, 
+ * resolved lazily since Feign clients are built before the meter registry is available. 
+ * The uri tag is the client path followed by the method's template, e.g. {@code /user-service/api/users/{userId}}. 
+ * The upstream Server-Timing entries are merged into the request {@link ServerTiming}.
+ */
+@RequiredArgsConstructor
+public class MeteredClient implements Client {
+	
+	private final Client delegate;
+	private final ObjectProvider<ClientMetrics> clientMetricsProvider;
+	
+	@Override
+	public Response execute(final Request request, final Options options) throws IOException {
+		
+		final String target = URI.create(request.url()).getHost().toLowerCase(Locale.ROOT);
+		final ClientMetrics.Call call = this.clientMetricsProvider.getObject().start(target, 
+				request.httpMethod().name(), uriOf(request), (request.body() != null) ? request.body().length : 0);
+		final Response response;
+		try {
+			response = this.delegate.execute(request, options);
+		}
+		catch (IOException | RuntimeException e) {
+			call.failure(e);
+			throw e;
+		}
+		call.success(response.status());
+		response.headers().getOrDefault(ServerTiming.HEADER, List.of())
+				.forEach(value -> ServerTiming.recordUpstream(target, value));
+		return (response.body() != null) ? 
+				response.toBuilder().body(new CountingBody(response.body(), call)).build() : 
+				response;
+	}
+	
+	static String uriOf(final Request request) {
+		final RequestTemplate requestTemplate = request.requestTemplate();
+		if (requestTemplate == null || requestTemplate.methodMetadata() == null || requestTemplate.feignTarget() == null)
+			return ClientMetrics.uriOf(URI.create(request.url()).getPath());
+		final String path = requestTemplate.methodMetadata().template().path();
+		return URI.create(requestTemplate.feignTarget().url()).getPath() + (path.isEmpty() || path.startsWith("/") ? path : "/" + path);
+	}
+	
+	@RequiredArgsConstructor
+	private static final class CountingBody implements Response.Body {
+		
+		private final Response.Body delegate;
+		private final ClientMetrics.Call call;
+		private InputStream inputStream;
+		
+		@Override
+		public Integer length() {
+			return this.delegate.length();
+		}
+		
+		@Override
+		public boolean isRepeatable() {
+			return this.delegate.isRepeatable();
+		}
+		
+		@Override
+		public InputStream asInputStream() throws IOException {
+			if (this.inputStream == null || this.delegate.isRepeatable())
+				this.inputStream = this.call.countResponse(this.delegate.asInputStream());
+			return this.inputStream;
+		}
+		
+		@Override
+		public Reader asReader(final Charset charset) throws IOException {
+			return new InputStreamReader(this.asInputStream(), charset);
+		}
+		
+		@Override
+		public void close() throws IOException {
+			try {
+				if (this.inputStream != null)
+					this.inputStream.close();
+			}
+			finally {
+				this.delegate.close();
+			}
+		}
+	
+	}
+
+
+
+}
@@ -0,0 +1,47 @@
+package com.selimhorri.app.config.metrics;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import feign.Client;
+
+/**
+ * Wraps the Feign {@link Client} in a {@link MeteredClient}. The post processor runs first so the 
+ * metered client is the innermost decorator: it sees each real upstream call once, not the coalesced 
+ * followers nor the calls refused or answered by the resilience fallback.
+ */
+@Configuration
+public class MetricsConfig {
+	
+	@Bean
+	public static MeteredClientPostProcessor meteredClientPostProcessor(final ObjectProvider<ClientMetrics> clientMetricsProvider) {
+		return new MeteredClientPostProcessor(clientMetricsProvider);
+	}
+	
+	static final class MeteredClientPostProcessor implements BeanPostProcessor, Ordered {
+		
+		private final ObjectProvider<ClientMetrics> clientMetricsProvider;
+		
+		private MeteredClientPostProcessor(final ObjectProvider<ClientMetrics> clientMetricsProvider) {
+			this.clientMetricsProvider = clientMetricsProvider;
+		}
+		
+		@Override
+		public Object postProcessAfterInitialization(final Object bean, final String beanName) {
+			return (bean instanceof Client && !(bean instanceof MeteredClient)) ? 
+					new MeteredClient((Client) bean, this.clientMetricsProvider) : bean;
+		}
+		
+		@Override
+		public int getOrder() {
+			return Ordered.HIGHEST_PRECEDENCE;
+		}
+	
+	}
+
+
+
+}
@@ -0,0 +1,250 @@
+package com.selimhorri.app.config.resilience;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StreamUtils;
+import org.springframework.util.unit.DataSize;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import feign.Client;
+import feign.Request;
+import feign.Request.HttpMethod;
+import feign.Request.Options;
+import feign.Response;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.timelimiter.TimeLimiter;
+import io.github.resilience4j.timelimiter.TimeLimiterRegistry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Runs upstream Feign calls behind the resilience4j circuit breaker, time limiter and bulkhead instances 
+ * named after the target service (e.g. {@code order-service}). Calls run on the bounded resilience pool 
+ * so a caller waits at most the time limit, and the bulkhead stays held until the upstream call really 
+ * returns, so one slow service can never take more than its own share of threads. 5xx answers count as 
+ * failures. A refused or failed GET falls back to the last 200 seen for the same URL, when it was small 
+ * enough to keep; anything else fails with an {@link IOException} that Feign reports as retryable.
+ */
+@Component
+@Slf4j
+public class DependencyGuard {
+	
+	private final CircuitBreakerRegistry circuitBreakerRegistry;
+	private final BulkheadRegistry bulkheadRegistry;
+	private final TimeLimiterRegistry timeLimiterRegistry;
+	private final AsyncTaskExecutor executor;
+	private final MeterRegistry meterRegistry;
+	private final Cache<String, CachedResponse> lastKnownGood;
+	private final long maxBody;
+	
+	public DependencyGuard(final CircuitBreakerRegistry circuitBreakerRegistry, 
+			final BulkheadRegistry bulkheadRegistry, 
+			final TimeLimiterRegistry timeLimiterRegistry, 
+			@Qualifier("resilienceTaskExecutor") final AsyncTaskExecutor executor, 
+			final MeterRegistry meterRegistry, 
+			@Value("${app.resilience.fallback.max-size:32MB}") final DataSize maxSize, 
+			@Value("${app.resilience.fallback.max-body:64KB}") final DataSize maxBody, 
+			@Value("${app.resilience.fallback.ttl:10m}") final Duration ttl) {
+		this.circuitBreakerRegistry = circuitBreakerRegistry;
+		this.bulkheadRegistry = bulkheadRegistry;
+		this.timeLimiterRegistry = timeLimiterRegistry;
+		this.executor = executor;
+		this.meterRegistry = meterRegistry;
+		this.maxBody = maxBody.toBytes();
+		this.lastKnownGood = Caffeine.newBuilder()
+				.maximumWeight(maxSize.toBytes())
+				.<String, CachedResponse>weigher((url, cachedResponse) -> cachedResponse.weight())
+				.expireAfterWrite(ttl)
+				.build();
+	}
+	
+	public Response execute(final Request request, final Options options, final Client delegate) throws IOException {
+		
+		final String dependency = URI.create(request.url()).getHost().toLowerCase(Locale.ROOT);
+		final CircuitBreaker circuitBreaker = this.circuitBreakerRegistry.circuitBreaker(dependency);
+		final TimeLimiter timeLimiter = this.timeLimiterRegistry.timeLimiter(dependency);
+		final Bulkhead bulkhead = this.bulkheadRegistry.bulkhead(dependency);
+		
+		if (!circuitBreaker.tryAcquirePermission())
+			return this.fallback(request, dependency, CallNotPermittedException.createCallNotPermittedException(circuitBreaker));
+		
+		final long start = System.nanoTime();
+		final CompletableFuture<Response> call;
+		final Response response;
+		try {
+			call = CompletableFuture.supplyAsync(() -> {
+				bulkhead.acquirePermission();
+				try {
+					return delegate.execute(request, options);
+				}
+				catch (IOException e) {
+					throw new UncheckedIOException(e);
+				}
+				finally {
+					bulkhead.onComplete();
+				}
+			}, this.executor);
+			try {
+				response = timeLimiter.executeFutureSupplier(() -> call);
+			}
+			catch (TimeoutException e) {
+				// the upstream call keeps running, release its connection once it answers
+				call.thenAccept(Response::close);
+				throw e;
+			}
+		}
+		catch (Exception e) {
+			if (e instanceof InterruptedException)
+				Thread.currentThread().interrupt();
+			final Exception cause = (e instanceof UncheckedIOException) ? ((UncheckedIOException) e).getCause() : e;
+			circuitBreaker.onError(System.nanoTime() - start, TimeUnit.NANOSECONDS, cause);
+			return this.fallback(request, dependency, cause);
+		}
+		
+		if (response.status() >= 500) {
+			final IOException serverError = new ServerErrorException(dependency, response.status());
+			circuitBreaker.onError(System.nanoTime() - start, TimeUnit.NANOSECONDS, serverError);
+			if (this.lastKnownGood.getIfPresent(request.url()) != null) {
+				response.close();
+				return this.fallback(request, dependency, serverError);
+			}
+			return response;
+		}
+		circuitBreaker.onSuccess(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+		return this.remember(request, response);
+	}
+	
+	private Response remember(final Request request, final Response response) throws IOException {
+		if (request.httpMethod() != HttpMethod.GET || response.status() != 200 || response.body() == null 
+				|| response.body().length() == null || response.body().length() > this.maxBody)
+			return response;
+		final CachedResponse cachedResponse = CachedResponse.of(response);
+		this.lastKnownGood.put(request.url(), cachedResponse);
+		return cachedResponse.toResponse(request);
+	}
+	
+	private Response fallback(final Request request, final String dependency, final Exception cause) throws IOException {
+		
+		final CachedResponse cachedResponse = (request.httpMethod() == HttpMethod.GET) ? 
+				this.lastKnownGood.getIfPresent(request.url()) : null;
+		final String reason = reason(cause);
+		this.counter(dependency, reason, (cachedResponse != null) ? "cached" : "none").increment();
+		log.debug("** Call to {} refused or failed ({}), fallback {}*\n", request.url(), cause.toString(), 
+				(cachedResponse != null) ? "cached" : "none");
+		
+		if (cachedResponse != null)
+			return cachedResponse.toResponse(request);
+		if (cause instanceof IOException)
+			throw (IOException) cause;
+		throw new IOException(String.format("%s unavailable (%s)", dependency, reason), cause);
+	}
+	
+	private static String reason(final Exception cause) {
+		if (cause instanceof CallNotPermittedException)
+			return "circuit_open";
+		if (cause instanceof BulkheadFullException)
+			return "bulkhead_full";
+		if (cause instanceof TimeoutException)
+			return "timeout";
+		if (cause instanceof RejectedExecutionException)
+			return "pool_saturated";
+		if (cause instanceof ServerErrorException)
+			return "server_error";
+		return "error";
+	}
+	
+	private Counter counter(final String dependency, final String reason, final String fallback) {
+		return Counter.builder("resilience.fallbacks")
+				.description("Upstream calls refused or failed by their resilience4j guards, by reason and by whether a cached response was served")
+				.tag("dependency", dependency)
+				.tag("reason", reason)
+				.tag("fallback", fallback)
+				.register(this.meterRegistry);
+	}
+	
+	private static final class ServerErrorException extends IOException {
+		
+		private static final long serialVersionUID = 1L;
+		
+		ServerErrorException(final String dependency, final int status) {
+			super(String.format("%s answered %d", dependency, status));
+		}
+		
+	}
+	
+	/**
+	 * Fully buffered 200 kept as the last known good answer of a URL.
+	 */
+	private static final class CachedResponse {
+		
+		private final int status;
+		private final String reason;
+		private final Map<String, Collection<String>> headers;
+		private final byte[] body;
+		
+		private CachedResponse(final int status, final String reason, final Map<String, Collection<String>> headers, final byte[] body) {
+			this.status = status;
+			this.reason = reason;
+			this.headers = headers;
+			this.body = body;
+		}
+		
+		static CachedResponse of(final Response response) throws IOException {
+			try (response; final InputStream inputStream = response.body().asInputStream()) {
+				return new CachedResponse(response.status(), response.reason(), response.headers(), 
+						StreamUtils.copyToByteArray(inputStream));
+			}
+		}
+		
+		int weight() {
+			return this.body.length + 256;
+		}
+		
+		Response toResponse(final Request request) {
+			return Response.builder()
+					.status(this.status)
+					.reason(this.reason)
+					.headers(this.headers)
+					.body(this.body)
+					.request(request)
+					.build();
+		}
+		
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,74 @@
+package com.selimhorri.app.config.resilience;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import com.selimhorri.app.config.timing.ServerTiming;
+
+import feign.Client;
+
+/**
+ * Wraps the Feign {@link Client} in a {@link ResilientClient}. The post processor is ordered so it runs 
+ * right after the metrics one and before the coalescing one, coalesced followers then share the leader's guarded call instead of each 
+ * taking a bulkhead permit. The resilience pool has no queue: once every thread is busy, calls are refused.
+ */
+@Configuration
+public class ResilienceConfig {
+	
+	@Bean
+	public static ResilientClientPostProcessor resilientClientPostProcessor(final ObjectProvider<DependencyGuard> dependencyGuardProvider) {
+		return new ResilientClientPostProcessor(dependencyGuardProvider);
+	}
+	
+	@Bean
+	public ThreadPoolTaskExecutor resilienceTaskExecutor(
+			@Value("${app.resilience.pool-size:100}") final int poolSize) {
+		final var taskExecutor = new ThreadPoolTaskExecutor();
+		taskExecutor.setCorePoolSize(poolSize);
+		taskExecutor.setMaxPoolSize(poolSize);
+		taskExecutor.setQueueCapacity(0);
+		taskExecutor.setAllowCoreThreadTimeOut(true);
+		taskExecutor.setThreadNamePrefix("resilience-");
+		taskExecutor.setTaskDecorator(ServerTiming::propagate);
+		return taskExecutor;
+	}
+	
+	static final class ResilientClientPostProcessor implements BeanPostProcessor, Ordered {
+		
+		private final ObjectProvider<DependencyGuard> dependencyGuardProvider;
+		
+		private ResilientClientPostProcessor(final ObjectProvider<DependencyGuard> dependencyGuardProvider) {
+			this.dependencyGuardProvider = dependencyGuardProvider;
+		}
+		
+		@Override
+		public Object postProcessAfterInitialization(final Object bean, final String beanName) {
+			return (bean instanceof Client && !(bean instanceof ResilientClient)) ? 
+					new ResilientClient((Client) bean, this.dependencyGuardProvider) : bean;
+		}
+		
+		@Override
+		public int getOrder() {
+			return Ordered.HIGHEST_PRECEDENCE + 1;
+		}
+		
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,40 @@
+package com.selimhorri.app.config.resilience;
+
+import java.io.IOException;
+
+import org.springframework.beans.factory.ObjectProvider;
+
+import feign.Client;
+import feign.Request;
+import feign.Request.Options;
+import feign.Response;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Feign {@link Client} decorator routing every call through the {@link DependencyGuard}, 
+ * resolved lazily since Feign clients are built before the resilience4j registries are available.
+ */
+@RequiredArgsConstructor
+public class ResilientClient implements Client {
+	
+	private final Client delegate;
+	private final ObjectProvider<DependencyGuard> dependencyGuardProvider;
+	
+	@Override
+	public Response execute(final Request request, final Options options) throws IOException {
+		return this.dependencyGuardProvider.getObject().execute(request, options, this.delegate);
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
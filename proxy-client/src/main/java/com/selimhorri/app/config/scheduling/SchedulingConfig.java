@@ -0,0 +1,25 @@
+package com.selimhorri.app.config.scheduling;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * The token revocation list is only polled when tokens carry their own authorities.
+ */
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(name = "app.jwt.embedded-authorities", havingValue = "true")
+public class SchedulingConfig {
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -1,17 +1,77 @@
 package com.selimhorri.app.config.template;
 
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cloud.client.loadbalancer.LoadBalanced;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
+import com.selimhorri.app.config.deadline.DeadlineClientInterceptor;
+import com.selimhorri.app.config.metrics.ClientMetrics;
+import com.selimhorri.app.config.metrics.ClientMetricsInterceptor;
+
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.httpcomponents.PoolingHttpClientConnectionManagerMetricsBinder;
+
+/**
+ * Pooled Apache HttpClient behind the load balanced RestTemplate, 
+ * pool usage is published as httpcomponents.httpclient.pool.* gauges. 
+ * Calls forward what is left of the request deadline, and are recorded in the {@link ClientMetrics}.
+ */
 @Configuration
 public class TemplateConfig {
 	
+	@Bean
+	public PoolingHttpClientConnectionManager poolingHttpClientConnectionManager(
+			@Value("${app.client.max-total:200}") final int maxTotal, 
+			@Value("${app.client.max-per-route:50}") final int maxPerRoute) {
+		final var connectionManager = new PoolingHttpClientConnectionManager();
+		connectionManager.setMaxTotal(maxTotal);
+		connectionManager.setDefaultMaxPerRoute(maxPerRoute);
+		return connectionManager;
+	}
+	
+	@Bean(destroyMethod = "close")
+	public CloseableHttpClient httpClient(
+			final PoolingHttpClientConnectionManager poolingHttpClientConnectionManager, 
+			@Value("${app.client.connect-timeout:2s}") final Duration connectTimeout, 
+			@Value("${app.client.connection-request-timeout:1s}") final Duration connectionRequestTimeout, 
+			@Value("${app.client.read-timeout:5s}") final Duration readTimeout, 
+			@Value("${app.client.idle-timeout:30s}") final Duration idleTimeout) {
+		return HttpClients.custom()
+				.setConnectionManager(poolingHttpClientConnectionManager)
+				.setDefaultRequestConfig(RequestConfig.custom()
+						.setConnectTimeout((int) connectTimeout.toMillis())
+						.setConnectionRequestTimeout((int) connectionRequestTimeout.toMillis())
+						.setSocketTimeout((int) readTimeout.toMillis())
+						.build())
+				.evictExpiredConnections()
+				.evictIdleConnections(idleTimeout.toMillis(), TimeUnit.MILLISECONDS)
+				.build();
+	}
+	
+	@Bean
+	public MeterBinder httpClientPoolMetrics(final PoolingHttpClientConnectionManager poolingHttpClientConnectionManager) {
+		return new PoolingHttpClientConnectionManagerMetricsBinder(poolingHttpClientConnectionManager, "restTemplate");
+	}
+	
 	@LoadBalanced
 	@Bean
-	public RestTemplate restTemplateBean() {
-		return new RestTemplate();
+	public RestTemplate restTemplateBean(final CloseableHttpClient httpClient, final ClientMetrics clientMetrics) {
+		final var restTemplate = new RestTemplate(new HttpComponentsClientHttpRequestFactory(httpClient));
+		restTemplate.setUriTemplateHandler(ClientMetricsInterceptor.uriTemplateHandler(restTemplate.getUriTemplateHandler()));
+		restTemplate.getClientHttpRequestInitializers().add(ClientMetricsInterceptor.uriTemplateInitializer());
+		restTemplate.getInterceptors().add(new ClientMetricsInterceptor(clientMetrics));
+		restTemplate.getInterceptors().add(new DeadlineClientInterceptor());
+		return restTemplate;
 	}
 	
 	
@@ -0,0 +1,69 @@
+package com.selimhorri.app.config.timing;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Type;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Feeds the request {@link ServerTiming} from the JSON converter. The converter, which replaces the 
+ * default one, serialises into a buffer first so the time it took is known before the header is written. 
+ * Passed through upstream bodies are not serialised and do not show up. Nothing is replaced unless 
+ * app.server-timing.enabled is set.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.server-timing.enabled", havingValue = "true")
+public class ServerTimingConfig {
+	
+	@Bean
+	public MappingJackson2HttpMessageConverter mappingJackson2HttpMessageConverter(final ObjectMapper objectMapper) {
+		return new MappingJackson2HttpMessageConverter(objectMapper) {
+			
+			@Override
+			protected void writeInternal(final Object object, final Type type, final HttpOutputMessage outputMessage) 
+					throws IOException, HttpMessageNotWritableException {
+				
+				if (!ServerTiming.isActive()) {
+					super.writeInternal(object, type, outputMessage);
+					return;
+				}
+				
+				final ByteArrayOutputStream buffer = new ByteArrayOutputStream(4096);
+				final long start = System.nanoTime();
+				try {
+					super.writeInternal(object, type, new HttpOutputMessage() {
+						
+						@Override
+						public OutputStream getBody() {
+							return buffer;
+						}
+						
+						@Override
+						public HttpHeaders getHeaders() {
+							return outputMessage.getHeaders();
+						}
+					
+					});
+				}
+				finally {
+					ServerTiming.record(ServerTiming.JSON, System.nanoTime() - start);
+				}
+				buffer.writeTo(outputMessage.getBody());
+			}
+		
+		};
+	}
+
+
+
+}
@@ -0,0 +1,20 @@
+package com.selimhorri.app.jwt.service;
+
+import java.util.Date;
+
+public interface TokenRevocationService {
+	
+	boolean isRevoked(final String username, final Date issuedAt);
+	void refresh();
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,85 @@
+package com.selimhorri.app.jwt.service.impl;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+
+import com.selimhorri.app.business.user.model.CredentialChangeDto;
+import com.selimhorri.app.business.user.model.response.CredentialChangeUserServiceCollectionDtoResponse;
+import com.selimhorri.app.business.user.model.response.RevokedUsernameUserServiceCollectionDtoResponse;
+import com.selimhorri.app.constant.AppConstant;
+import com.selimhorri.app.jwt.service.TokenRevocationService;
+import com.selimhorri.app.jwt.util.impl.JwtUtilImpl;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Usernames of disabled, locked or expired credentials and the last change of every credential still covered by 
+ * a live token, polled from USER-SERVICE. A token is revoked when its credential is inactive or changed after the token 
+ * was issued. A failed poll keeps the last known lists, so a revocation is honoured at most one poll interval late.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class TokenRevocationServiceImpl implements TokenRevocationService {
+	
+	private static final String API_URL = AppConstant.DiscoveredDomainsApi.USER_SERVICE_HOST + "/api/credentials";
+	private final RestTemplate restTemplate;
+	private volatile Set<String> revokedUsernames = Set.of();
+	private volatile Map<String, Instant> changes = Map.of();
+	
+	/**
+	 * iat only has a second precision, a token issued within the second of the change is still honoured.
+	 */
+	@Override
+	public boolean isRevoked(final String username, final Date issuedAt) {
+		if (this.revokedUsernames.contains(username))
+			return true;
+		final Instant changedAt = this.changes.get(username);
+		return changedAt != null 
+				&& (issuedAt == null || issuedAt.toInstant().isBefore(changedAt.truncatedTo(ChronoUnit.SECONDS)));
+	}
+	
+	@Override
+	@Scheduled(fixedDelayString = "${app.jwt.revocation.poll-interval:PT30S}")
+	public void refresh() {
+		try {
+			final var revoked = this.restTemplate
+					.getForObject(API_URL + "/revoked", RevokedUsernameUserServiceCollectionDtoResponse.class);
+			if (revoked != null && revoked.getCollection() != null)
+				this.revokedUsernames = Set.copyOf(revoked.getCollection());
+			final var changed = this.restTemplate.getForObject(API_URL + "/changed?since={since}", 
+					CredentialChangeUserServiceCollectionDtoResponse.class, Instant.now().minus(JwtUtilImpl.TOKEN_VALIDITY));
+			if (changed != null && changed.getCollection() != null)
+				this.changes = changed.getCollection().stream()
+						.collect(Collectors.toUnmodifiableMap(CredentialChangeDto::getUsername, 
+								CredentialChangeDto::getChangedAt, (a, b) -> a.isAfter(b) ? a : b));
+		}
+		catch (RestClientException e) {
+			log.warn("**Token revocation lists not refreshed, keeping {} revoked and {} changed credentials: {}*", 
+					this.revokedUsernames.size(), this.changes.size(), e.getMessage());
+		}
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -1,13 +1,28 @@
 package com.selimhorri.app.jwt.util.impl;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.function.Function;
 
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.support.NoOpCacheManager;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
+import com.selimhorri.app.business.user.model.CredentialDto;
+import com.selimhorri.app.business.user.model.RoleBasedAuthority;
+import com.selimhorri.app.business.user.model.UserDetailsImpl;
+import com.selimhorri.app.constant.AppConstant;
 import com.selimhorri.app.jwt.util.JwtUtil;
 
 import io.jsonwebtoken.Claims;
@@ -17,7 +32,24 @@ import io.jsonwebtoken.SignatureAlgorithm;
 @Component
 public class JwtUtilImpl implements JwtUtil {
 	
+	public static final Duration TOKEN_VALIDITY = Duration.ofHours(10);
+	
 	private static final String SECRET_KEY = "secret";
+	private static final String ROLE_CLAIM = "role";
+	private static final String ENABLED_CLAIM = "enabled";
+	private static final String ACCOUNT_NON_EXPIRED_CLAIM = "accountNonExpired";
+	private static final String ACCOUNT_NON_LOCKED_CLAIM = "accountNonLocked";
+	private static final String CREDENTIALS_NON_EXPIRED_CLAIM = "credentialsNonExpired";
+	
+	private final Cache claimsCache;
+	private final boolean embeddedAuthorities;
+	
+	public JwtUtilImpl(final ObjectProvider<CacheManager> cacheManager, 
+			@Value("${app.jwt.embedded-authorities:false}") final boolean embeddedAuthorities) {
+		this.claimsCache = cacheManager.getIfAvailable(NoOpCacheManager::new)
+				.getCache(AppConstant.JWT_CACHE_NAME);
+		this.embeddedAuthorities = embeddedAuthorities;
+	}
 	
 	@Override
 	public String extractUsername(final String token) {
@@ -35,17 +67,45 @@ public class JwtUtilImpl implements JwtUtil {
 		return claimsResolver.apply(claims);
 	}
 	
+	/**
+	 * Verifies the signature once per token, later calls are served from the cache keyed by the token hash.
+	 */
 	private Claims extractAllClaims(final String token) {
-		return Jwts.parser().setSigningKey(SECRET_KEY).parseClaimsJws(token).getBody();
+		try {
+			return this.claimsCache.get(hash(token), 
+					() -> Jwts.parser().setSigningKey(SECRET_KEY).parseClaimsJws(token).getBody());
+		}
+		catch (Cache.ValueRetrievalException e) {
+			if (e.getCause() instanceof RuntimeException)
+				throw (RuntimeException) e.getCause();
+			throw e;
+		}
 	}
 	
-	private Boolean isTokenExpired(final String token) {
-		return this.extractExpiration(token).before(new Date());
+	private static String hash(final String value) {
+		try {
+			return Base64.getUrlEncoder().withoutPadding().encodeToString(MessageDigest.getInstance("SHA-256")
+					.digest(value.getBytes(StandardCharsets.UTF_8)));
+		}
+		catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
 	}
 	
 	@Override
 	public String generateToken(final UserDetails userDetails) {
 		final Map<String, Object> claims = new HashMap<>();
+		if (this.embeddedAuthorities)
+			userDetails.getAuthorities().stream()
+					.map(GrantedAuthority::getAuthority)
+					.findFirst()
+					.ifPresent(role -> {
+						claims.put(ROLE_CLAIM, role);
+						claims.put(ENABLED_CLAIM, userDetails.isEnabled());
+						claims.put(ACCOUNT_NON_EXPIRED_CLAIM, userDetails.isAccountNonExpired());
+						claims.put(ACCOUNT_NON_LOCKED_CLAIM, userDetails.isAccountNonLocked());
+						claims.put(CREDENTIALS_NON_EXPIRED_CLAIM, userDetails.isCredentialsNonExpired());
+					});
 		return this.createToken(claims, userDetails.getUsername());
 	}
 	
@@ -54,16 +114,35 @@ public class JwtUtilImpl implements JwtUtil {
 					.setClaims(claims)
 					.setSubject(subject)
 					.setIssuedAt(new Date(System.currentTimeMillis()))
-					.setExpiration(new Date(System.currentTimeMillis() + 1000 * 60 * 60 * 10))
+					.setExpiration(new Date(System.currentTimeMillis() + TOKEN_VALIDITY.toMillis()))
 					.signWith(SignatureAlgorithm.HS256, SECRET_KEY)
 		.compact();
 	}
 	
+	/**
+	 * Rebuilds the user from a verified token issued with app.jwt.embedded-authorities=true, 
+	 * null when the option is off or the token carries no role so callers fall back to USER-SERVICE.
+	 */
+	@Override
+	public UserDetails extractUserDetails(final String token) {
+		final Claims claims = this.extractAllClaims(token);
+		if (!this.embeddedAuthorities || claims.get(ROLE_CLAIM) == null)
+			return null;
+		return new UserDetailsImpl(CredentialDto.builder()
+				.username(claims.getSubject())
+				.roleBasedAuthority(RoleBasedAuthority.valueOf(claims.get(ROLE_CLAIM, String.class)))
+				.isEnabled(claims.get(ENABLED_CLAIM, Boolean.class))
+				.isAccountNonExpired(claims.get(ACCOUNT_NON_EXPIRED_CLAIM, Boolean.class))
+				.isAccountNonLocked(claims.get(ACCOUNT_NON_LOCKED_CLAIM, Boolean.class))
+				.isCredentialsNonExpired(claims.get(CREDENTIALS_NON_EXPIRED_CLAIM, Boolean.class))
+				.build());
+	}
+	
 	@Override
 	public Boolean validateToken(final String token, final UserDetails userDetails) {
-		final String username = this.extractUsername(token);
+		final Claims claims = this.extractAllClaims(token);
 		return (
-			username.equals(userDetails.getUsername()) && !isTokenExpired(token)
+			claims.getSubject().equals(userDetails.getUsername()) && !claims.getExpiration().before(new Date())
 		);
 	}
 	
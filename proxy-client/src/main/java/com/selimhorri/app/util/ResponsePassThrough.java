@@ -0,0 +1,73 @@
+package com.selimhorri.app.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import javax.servlet.http.HttpServletResponse;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.util.StreamUtils;
+
+import feign.FeignException;
+import feign.Response;
+
+/**
+ * Relays a raw upstream Feign response to the servlet response without decoding it into DTOs, 
+ * for read only endpoints whose payload the proxy never inspects. Non 2xx statuses are still 
+ * raised as {@link FeignException} so that error handling stays the same as for typed calls.
+ */
+public final class ResponsePassThrough {
+	
+	private static final Set<String> RELAYED_HEADERS = relayedHeaders();
+	
+	private ResponsePassThrough() {
+		
+	}
+	
+	public static void relay(final Response upstream, final HttpServletResponse response) throws IOException {
+		try (upstream) {
+			if (upstream.status() < 200 || upstream.status() > 299)
+				throw FeignException.errorStatus(upstream.request().httpMethod() + " " + upstream.request().url(), upstream);
+			
+			response.setStatus(upstream.status());
+			for (final Map.Entry<String, Collection<String>> header : upstream.headers().entrySet())
+				if (RELAYED_HEADERS.contains(header.getKey()))
+					header.getValue().forEach(value -> response.addHeader(header.getKey(), value));
+			
+			if (upstream.body() != null)
+				try (final InputStream body = upstream.body().asInputStream()) {
+					StreamUtils.copy(body, response.getOutputStream());
+				}
+		}
+	}
+	
+	private static Set<String> relayedHeaders() {
+		final Set<String> headers = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+		headers.addAll(Set.of(
+				HttpHeaders.CONTENT_TYPE, 
+				HttpHeaders.CONTENT_LENGTH, 
+				HttpHeaders.CONTENT_ENCODING, 
+				HttpHeaders.CONTENT_LANGUAGE, 
+				HttpHeaders.ETAG, 
+				HttpHeaders.LAST_MODIFIED, 
+				HttpHeaders.LINK));
+		return headers;
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,150 @@
+package com.selimhorri.app.business.dashboard.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.ResponseEntity;
+
+import com.selimhorri.app.business.dashboard.model.LegStatus;
+import com.selimhorri.app.business.dashboard.model.UserDashboardDto;
+import com.selimhorri.app.business.favourite.model.FavouriteDto;
+import com.selimhorri.app.business.favourite.model.response.FavouriteFavouriteServiceCollectionDtoResponse;
+import com.selimhorri.app.business.favourite.service.FavouriteClientService;
+import com.selimhorri.app.business.order.model.CartDto;
+import com.selimhorri.app.business.order.model.OrderDto;
+import com.selimhorri.app.business.order.model.response.CartOrderServiceDtoCollectionResponse;
+import com.selimhorri.app.business.order.model.response.OrderOrderServiceDtoCollectionResponse;
+import com.selimhorri.app.business.order.service.CartClientService;
+import com.selimhorri.app.business.order.service.OrderClientService;
+import com.selimhorri.app.business.payment.model.PaymentDto;
+import com.selimhorri.app.business.payment.model.response.PaymentPaymentServiceDtoCollectionResponse;
+import com.selimhorri.app.business.payment.service.PaymentClientService;
+import com.selimhorri.app.business.user.model.UserDto;
+import com.selimhorri.app.business.user.service.UserClientService;
+
+@ExtendWith(MockitoExtension.class)
+class UserDashboardServiceImplTest {
+
+    @Mock
+    private UserClientService userClientService;
+
+    @Mock
+    private CartClientService cartClientService;
+
+    @Mock
+    private OrderClientService orderClientService;
+
+    @Mock
+    private FavouriteClientService favouriteClientService;
+
+    @Mock
+    private PaymentClientService paymentClientService;
+
+    private final ExecutorService executorService = Executors.newCachedThreadPool();
+
+    private UserDashboardServiceImpl userDashboardService;
+
+    @BeforeEach
+    void setUp() {
+        userDashboardService = new UserDashboardServiceImpl(userClientService, cartClientService, orderClientService,
+                favouriteClientService, paymentClientService, executorService, Duration.ofMillis(300));
+    }
+
+    @AfterEach
+    void tearDown() {
+        executorService.shutdownNow();
+    }
+
+    @Test
+    void testFindByUserId_AllLegsComplete() {
+        // Given
+        givenUserCartsAndFavourites();
+        when(orderClientService.findAllByUserId("1")).thenReturn(ResponseEntity.ok(
+                OrderOrderServiceDtoCollectionResponse.builder()
+                        .collection(List.of(OrderDto.builder().orderId(10).build(), OrderDto.builder().orderId(11).build()))
+                        .build()));
+        when(paymentClientService.findAllByOrderIds(List.of(10, 11))).thenReturn(ResponseEntity.ok(
+                PaymentPaymentServiceDtoCollectionResponse.builder()
+                        .collection(List.of(PaymentDto.builder().paymentId(100).build()))
+                        .build()));
+
+        // When
+        UserDashboardDto dashboard = userDashboardService.findByUserId("1");
+
+        // Then
+        assertEquals(1, dashboard.getUserDto().getUserId());
+        assertEquals(1, dashboard.getCartDtos().size());
+        assertEquals(2, dashboard.getOrderDtos().size());
+        assertEquals(1, dashboard.getFavouriteDtos().size());
+        assertEquals(1, dashboard.getPaymentDtos().size());
+        assertTrue(dashboard.getLegs().values().stream().allMatch(LegStatus.OK::equals));
+        assertEquals(List.of("user", "carts", "orders", "favourites", "payments"), List.copyOf(dashboard.getLegs().keySet()));
+    }
+
+    @Test
+    void testFindByUserId_SlowLegTimesOutAndOthersAreReturned() {
+        // Given
+        givenUserCartsAndFavourites();
+        when(orderClientService.findAllByUserId("1")).thenAnswer(invocation -> {
+            Thread.sleep(2_000);
+            return ResponseEntity.ok(new OrderOrderServiceDtoCollectionResponse());
+        });
+
+        // When
+        long start = System.nanoTime();
+        UserDashboardDto dashboard = userDashboardService.findByUserId("1");
+
+        // Then
+        assertTrue(Duration.ofNanos(System.nanoTime() - start).toMillis() < 1_500);
+        assertEquals(LegStatus.OK, dashboard.getLegs().get("user"));
+        assertEquals(LegStatus.TIMEOUT, dashboard.getLegs().get("orders"));
+        assertEquals(LegStatus.SKIPPED, dashboard.getLegs().get("payments"));
+        assertNull(dashboard.getOrderDtos());
+        assertEquals(1, dashboard.getFavouriteDtos().size());
+    }
+
+    @Test
+    void testFindByUserId_FailedOrdersSkipPayments() {
+        // Given
+        givenUserCartsAndFavourites();
+        when(orderClientService.findAllByUserId("1")).thenThrow(new IllegalStateException("order-service unavailable"));
+
+        // When
+        UserDashboardDto dashboard = userDashboardService.findByUserId("1");
+
+        // Then
+        assertEquals(LegStatus.FAILED, dashboard.getLegs().get("orders"));
+        assertEquals(LegStatus.SKIPPED, dashboard.getLegs().get("payments"));
+        assertEquals(LegStatus.OK, dashboard.getLegs().get("carts"));
+        verify(paymentClientService, never()).findAllByOrderIds(any());
+    }
+
+    private void givenUserCartsAndFavourites() {
+        when(userClientService.findById("1")).thenReturn(ResponseEntity.ok(UserDto.builder().userId(1).build()));
+        when(cartClientService.findAllByUserId("1")).thenReturn(ResponseEntity.ok(
+                CartOrderServiceDtoCollectionResponse.builder()
+                        .collection(List.of(CartDto.builder().cartId(5).build()))
+                        .build()));
+        when(favouriteClientService.findAllByUserId("1")).thenReturn(ResponseEntity.ok(
+                FavouriteFavouriteServiceCollectionDtoResponse.builder()
+                        .collection(List.of(FavouriteDto.builder().userId(1).productId(7).build()))
+                        .build()));
+    }
+
+}
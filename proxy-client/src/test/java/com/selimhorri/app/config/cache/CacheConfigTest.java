@@ -0,0 +1,126 @@
+package com.selimhorri.app.config.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.convert.ApplicationConversionService;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.web.client.RestTemplate;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.selimhorri.app.business.auth.service.impl.UserDetailsServiceImpl;
+import com.selimhorri.app.business.user.model.CredentialDto;
+import com.selimhorri.app.business.user.model.RoleBasedAuthority;
+import com.selimhorri.app.business.user.model.UserDetailsImpl;
+import com.selimhorri.app.constant.AppConstant;
+import com.selimhorri.app.jwt.util.JwtUtil;
+import com.selimhorri.app.jwt.util.impl.JwtUtilImpl;
+
+import io.jsonwebtoken.SignatureException;
+
+@SpringJUnitConfig(classes = {CacheConfig.class, JwtUtilImpl.class, UserDetailsServiceImpl.class, CacheConfigTest.ConversionConfig.class})
+class CacheConfigTest {
+
+    // Binds the "30s" style durations of CacheConfig the way Spring Boot does
+    @Configuration
+    static class ConversionConfig {
+
+        @Bean
+        static ConversionService conversionService() {
+            return ApplicationConversionService.getSharedInstance();
+        }
+    }
+
+    @MockBean
+    private RestTemplate restTemplate;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private UserDetailsService userDetailsService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    private final CredentialDto credentialDto = CredentialDto.builder()
+            .credentialId(1)
+            .username("selimhorri")
+            .password("password")
+            .roleBasedAuthority(RoleBasedAuthority.ROLE_USER)
+            .isEnabled(true)
+            .isAccountNonExpired(true)
+            .isAccountNonLocked(true)
+            .isCredentialsNonExpired(true)
+            .build();
+
+    @BeforeEach
+    void setUp() {
+        cacheManager.getCache(AppConstant.JWT_CACHE_NAME).clear();
+        cacheManager.getCache(AppConstant.USER_DETAILS_CACHE_NAME).clear();
+    }
+
+    @Test
+    void testValidateToken_ShouldVerifySignatureOnlyOncePerToken() {
+        // Given
+        UserDetails userDetails = new UserDetailsImpl(credentialDto);
+        String token = jwtUtil.generateToken(userDetails);
+        CacheStats before = jwtStats();
+
+        // When
+        for (int i = 0; i < 3; i++) {
+            assertEquals("selimhorri", jwtUtil.extractUsername(token));
+            assertTrue(jwtUtil.validateToken(token, userDetails));
+        }
+
+        // Then
+        CacheStats stats = jwtStats().minus(before);
+        assertEquals(1, stats.missCount());
+        assertEquals(5, stats.hitCount());
+    }
+
+    @Test
+    void testExtractUsername_ShouldStillRejectTamperedTokens() {
+        // Given
+        String token = jwtUtil.generateToken(new UserDetailsImpl(credentialDto));
+        String tampered = token.substring(0, token.length() - 2) + (token.endsWith("A") ? "BB" : "AA");
+
+        // When / Then
+        assertThrows(SignatureException.class, () -> jwtUtil.extractUsername(tampered));
+    }
+
+    @Test
+    void testLoadUserByUsername_ShouldCallUserServiceOnlyOnceWithinTtl() {
+        // Given
+        when(restTemplate.getForObject(anyString(), eq(CredentialDto.class), eq("selimhorri"))).thenReturn(credentialDto);
+
+        // When
+        userDetailsService.loadUserByUsername("selimhorri");
+        UserDetails result = userDetailsService.loadUserByUsername("selimhorri");
+
+        // Then
+        assertEquals("selimhorri", result.getUsername());
+        verify(restTemplate, times(1)).getForObject(anyString(), eq(CredentialDto.class), eq("selimhorri"));
+    }
+
+    private CacheStats jwtStats() {
+        return ((CaffeineCache) cacheManager.getCache(AppConstant.JWT_CACHE_NAME)).getNativeCache().stats();
+    }
+}
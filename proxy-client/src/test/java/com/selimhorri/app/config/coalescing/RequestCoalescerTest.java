@@ -0,0 +1,240 @@
+package com.selimhorri.app.config.coalescing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.selimhorri.app.config.deadline.DeadlineTestSupport;
+import com.selimhorri.app.exception.wrapper.DeadlineExceededException;
+
+import feign.Client;
+import feign.Request;
+import feign.Request.HttpMethod;
+import feign.Request.Options;
+import feign.Response;
+import feign.Util;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class RequestCoalescerTest {
+
+    private static final String PRODUCT_URL = "http://PRODUCT-SERVICE/product-service/api/products/1";
+
+    private final AtomicInteger upstreamCalls = new AtomicInteger();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final ExecutorService executorService = Executors.newFixedThreadPool(8);
+
+    private MeterRegistry meterRegistry;
+    private Client delegate;
+
+    @BeforeEach
+    void setUp() {
+        this.meterRegistry = new SimpleMeterRegistry();
+        this.delegate = (request, options) -> {
+            this.upstreamCalls.incrementAndGet();
+            try {
+                this.release.await(5, TimeUnit.SECONDS);
+            }
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return Response.builder()
+                    .status(200)
+                    .reason("OK")
+                    .headers(Map.of())
+                    .body("{\"productId\":1}", StandardCharsets.UTF_8)
+                    .request(request)
+                    .build();
+        };
+    }
+
+    @AfterEach
+    void tearDown() {
+        this.executorService.shutdownNow();
+    }
+
+    @Test
+    void concurrentIdenticalGetsShareOneUpstreamCall() throws Exception {
+        // Given
+        final RequestCoalescer requestCoalescer = this.coalescer(Duration.ofSeconds(5));
+
+        // When
+        final List<Future<String>> bodies = new ArrayList<>();
+        for (int i = 0; i < 8; i++)
+            bodies.add(this.executorService.submit(() -> body(requestCoalescer.execute(get(PRODUCT_URL), new Options(), this.delegate))));
+        while (this.meterRegistry.find("proxy.coalescing.requests").tag("outcome", "leader").counter() == null)
+            Thread.sleep(5);
+        Thread.sleep(200);
+        this.release.countDown();
+
+        // Then
+        for (final Future<String> body : bodies)
+            assertEquals("{\"productId\":1}", body.get(5, TimeUnit.SECONDS));
+        assertEquals(1, this.upstreamCalls.get());
+        assertEquals(7, this.count("follower"));
+    }
+
+    @Test
+    void waiterCallsUpstreamItselfOnceMaxWaitElapses() throws Exception {
+        // Given
+        final RequestCoalescer requestCoalescer = this.coalescer(Duration.ofMillis(50));
+        final Future<String> leader = this.executorService.submit(() -> body(requestCoalescer.execute(get(PRODUCT_URL), new Options(), this.delegate)));
+        while (this.upstreamCalls.get() == 0)
+            Thread.sleep(5);
+
+        // When
+        final Future<String> follower = this.executorService.submit(() -> body(requestCoalescer.execute(get(PRODUCT_URL), new Options(), this.delegate)));
+        while (this.meterRegistry.find("proxy.coalescing.requests").tag("outcome", "timeout").counter() == null)
+            Thread.sleep(5);
+        this.release.countDown();
+
+        // Then
+        assertEquals("{\"productId\":1}", leader.get(5, TimeUnit.SECONDS));
+        assertEquals("{\"productId\":1}", follower.get(5, TimeUnit.SECONDS));
+        assertEquals(2, this.upstreamCalls.get());
+        assertEquals(1, this.count("timeout"));
+    }
+
+    @Test
+    void waiterStopsWaitingAtItsOwnDeadline() throws Exception {
+        // Given
+        final RequestCoalescer requestCoalescer = this.coalescer(Duration.ofSeconds(5));
+        final Future<String> leader = this.executorService.submit(() -> body(requestCoalescer.execute(get(PRODUCT_URL), new Options(), this.delegate)));
+        while (this.upstreamCalls.get() == 0)
+            Thread.sleep(5);
+
+        // When
+        final long start = System.nanoTime();
+        final Future<Response> follower = this.executorService.submit(() -> {
+            DeadlineTestSupport.start(100);
+            try {
+                return requestCoalescer.execute(get(PRODUCT_URL), new Options(), this.delegate);
+            }
+            finally {
+                DeadlineTestSupport.clear();
+            }
+        });
+
+        // Then - the waiter gives up well before max-wait, without calling upstream past its deadline
+        final ExecutionException e = assertThrows(ExecutionException.class, () -> follower.get(5, TimeUnit.SECONDS));
+        assertTrue(e.getCause() instanceof DeadlineExceededException);
+        assertTrue(Duration.ofNanos(System.nanoTime() - start).toMillis() < 2_000);
+        this.release.countDown();
+        assertEquals("{\"productId\":1}", leader.get(5, TimeUnit.SECONDS));
+        assertEquals(1, this.upstreamCalls.get());
+    }
+
+    @Test
+    void leaderDeadlineFailureIsNotSharedWithWaitersThatHaveTimeLeft() throws Exception {
+        // Given - the leader runs out of its own deadline upstream
+        final Client firstCallTimesOut = (request, options) -> {
+            if (this.upstreamCalls.get() == 0) {
+                this.delegate.execute(request, options);
+                throw new DeadlineExceededException("Deadline exceeded");
+            }
+            return this.delegate.execute(request, options);
+        };
+        final RequestCoalescer requestCoalescer = this.coalescer(Duration.ofSeconds(5));
+        final Future<Response> leader = this.executorService.submit(() -> requestCoalescer.execute(get(PRODUCT_URL), new Options(), firstCallTimesOut));
+        while (this.upstreamCalls.get() == 0)
+            Thread.sleep(5);
+
+        // When
+        final Future<String> follower = this.executorService.submit(() -> body(requestCoalescer.execute(get(PRODUCT_URL), new Options(), firstCallTimesOut)));
+        Thread.sleep(200);
+        this.release.countDown();
+
+        // Then
+        final ExecutionException e = assertThrows(ExecutionException.class, () -> leader.get(5, TimeUnit.SECONDS));
+        assertTrue(e.getCause() instanceof DeadlineExceededException);
+        assertEquals("{\"productId\":1}", follower.get(5, TimeUnit.SECONDS));
+        assertEquals(2, this.upstreamCalls.get());
+        assertEquals(1, this.count("deadline_retry"));
+    }
+
+    @Test
+    void leaderGatewayTimeoutIsNotSharedWithWaitersThatHaveTimeLeft() throws Exception {
+        // Given - the leader gets a 504 back
+        final Client firstCallTimesOut = (request, options) -> {
+            final boolean first = this.upstreamCalls.get() == 0;
+            final Response response = this.delegate.execute(request, options);
+            if (!first)
+                return response;
+            response.close();
+            return Response.builder()
+                    .status(504)
+                    .reason("Gateway Timeout")
+                    .headers(Map.of())
+                    .request(request)
+                    .build();
+        };
+        final RequestCoalescer requestCoalescer = this.coalescer(Duration.ofSeconds(5));
+        final Future<Response> leader = this.executorService.submit(() -> requestCoalescer.execute(get(PRODUCT_URL), new Options(), firstCallTimesOut));
+        while (this.upstreamCalls.get() == 0)
+            Thread.sleep(5);
+
+        // When
+        final Future<String> follower = this.executorService.submit(() -> body(requestCoalescer.execute(get(PRODUCT_URL), new Options(), firstCallTimesOut)));
+        Thread.sleep(200);
+        this.release.countDown();
+
+        // Then
+        assertEquals(504, leader.get(5, TimeUnit.SECONDS).status());
+        assertEquals("{\"productId\":1}", follower.get(5, TimeUnit.SECONDS));
+        assertEquals(2, this.upstreamCalls.get());
+        assertEquals(1, this.count("deadline_retry"));
+    }
+
+    @Test
+    void routesNotOptedInAreNotCoalesced() throws Exception {
+        // Given
+        final RequestCoalescer requestCoalescer = this.coalescer(Duration.ofSeconds(5));
+        this.release.countDown();
+
+        // When
+        requestCoalescer.execute(get("http://ORDER-SERVICE/order-service/api/orders/1"), new Options(), this.delegate);
+        requestCoalescer.execute(get("http://ORDER-SERVICE/order-service/api/orders/1"), new Options(), this.delegate);
+
+        // Then
+        assertEquals(2, this.upstreamCalls.get());
+        assertEquals(0, this.meterRegistry.find("proxy.coalescing.requests").counters().size());
+    }
+
+    private RequestCoalescer coalescer(final Duration maxWait) {
+        return new RequestCoalescer(this.meterRegistry, true, maxWait,
+                new String[] {"/product-service/api/products/*", " /product-service/api/categories"});
+    }
+
+    private double count(final String outcome) {
+        return this.meterRegistry.get("proxy.coalescing.requests")
+                .tag("outcome", outcome)
+                .counter()
+                .count();
+    }
+
+    private static Request get(final String url) {
+        return Request.create(HttpMethod.GET, url, Map.of(), null, StandardCharsets.UTF_8, null);
+    }
+
+    private static String body(final Response response) throws Exception {
+        return Util.toString(response.body().asReader(StandardCharsets.UTF_8));
+    }
+
+}
@@ -0,0 +1,68 @@
+package com.selimhorri.app.config.deadline;
+
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Collection;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import com.selimhorri.app.exception.wrapper.DeadlineExceededException;
+
+import feign.RequestTemplate;
+import feign.Target;
+
+class DeadlineRequestInterceptorTest {
+
+    private final DeadlineRequestInterceptor deadlineRequestInterceptor = new DeadlineRequestInterceptor();
+
+    @AfterEach
+    void tearDown() {
+        Deadline.clear();
+    }
+
+    @Test
+    void remainingBudgetIsForwarded() {
+        // Given
+        Deadline.start(2_000);
+        final RequestTemplate requestTemplate = template();
+
+        // When
+        deadlineRequestInterceptor.apply(requestTemplate);
+
+        // Then
+        final Collection<String> values = requestTemplate.headers().get(Deadline.HEADER);
+        final long forwarded = Long.parseLong(values.iterator().next());
+        assertTrue(values.size() == 1 && forwarded > 1_000 && forwarded <= 2_000);
+    }
+
+    @Test
+    void noHeaderWithoutDeadline() {
+        // Given
+        final RequestTemplate requestTemplate = template();
+
+        // When
+        deadlineRequestInterceptor.apply(requestTemplate);
+
+        // Then
+        assertNull(requestTemplate.headers().get(Deadline.HEADER));
+    }
+
+    @Test
+    void spentBudgetFailsBeforeCallingUpstream() {
+        // Given
+        Deadline.start(-5);
+
+        // When / Then
+        assertThrows(DeadlineExceededException.class, () -> deadlineRequestInterceptor.apply(template()));
+    }
+
+    private static RequestTemplate template() {
+        final RequestTemplate requestTemplate = new RequestTemplate();
+        requestTemplate.feignTarget(new Target.HardCodedTarget<>(Object.class, "ORDER-SERVICE", "http://ORDER-SERVICE"));
+        return requestTemplate;
+    }
+
+}
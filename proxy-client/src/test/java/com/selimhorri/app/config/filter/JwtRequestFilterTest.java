@@ -0,0 +1,120 @@
+package com.selimhorri.app.config.filter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Date;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.cache.CacheManager;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetailsService;
+
+import com.selimhorri.app.business.user.model.CredentialDto;
+import com.selimhorri.app.business.user.model.RoleBasedAuthority;
+import com.selimhorri.app.business.user.model.UserDetailsImpl;
+import com.selimhorri.app.jwt.service.JwtService;
+import com.selimhorri.app.jwt.service.TokenRevocationService;
+import com.selimhorri.app.jwt.service.impl.JwtServiceImpl;
+import com.selimhorri.app.jwt.util.impl.JwtUtilImpl;
+
+@ExtendWith(MockitoExtension.class)
+class JwtRequestFilterTest {
+
+    @Mock
+    private UserDetailsService userDetailsService;
+
+    @Mock
+    private TokenRevocationService tokenRevocationService;
+
+    private final UserDetailsImpl userDetails = new UserDetailsImpl(CredentialDto.builder()
+            .username("selimhorri")
+            .password("password")
+            .roleBasedAuthority(RoleBasedAuthority.ROLE_ADMIN)
+            .isEnabled(true)
+            .isAccountNonExpired(true)
+            .isAccountNonLocked(true)
+            .isCredentialsNonExpired(true)
+            .build());
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void testEmbeddedAuthorities_ShouldAuthenticateWithoutCallingUserService() throws Exception {
+        // Given
+        JwtService jwtService = jwtService(true);
+        when(tokenRevocationService.isRevoked(eq("selimhorri"), any(Date.class))).thenReturn(false);
+
+        String token = jwtService.generateToken(userDetails);
+
+        // When
+        filter(jwtService, token);
+
+        // Then
+        assertNull(jwtService.extractClaims(token, claims -> claims.get("ver")));
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        assertNotNull(authentication);
+        assertEquals("selimhorri", ((UserDetailsImpl) authentication.getPrincipal()).getUsername());
+        assertEquals("ROLE_ADMIN", authentication.getAuthorities().iterator().next().getAuthority());
+        verify(userDetailsService, never()).loadUserByUsername(anyString());
+    }
+
+    @Test
+    void testEmbeddedAuthorities_ShouldRejectRevokedCredential() throws Exception {
+        // Given
+        JwtService jwtService = jwtService(true);
+        when(tokenRevocationService.isRevoked(eq("selimhorri"), any(Date.class))).thenReturn(true);
+
+        // When
+        filter(jwtService, jwtService.generateToken(userDetails));
+
+        // Then
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+        verify(userDetailsService, never()).loadUserByUsername(anyString());
+    }
+
+    @Test
+    void testDefaultTokens_ShouldStillLoadUserFromUserService() throws Exception {
+        // Given
+        JwtService jwtService = jwtService(false);
+        when(userDetailsService.loadUserByUsername("selimhorri")).thenReturn(userDetails);
+
+        // When
+        filter(jwtService, jwtService.generateToken(userDetails));
+
+        // Then
+        assertNotNull(SecurityContextHolder.getContext().getAuthentication());
+        verify(userDetailsService).loadUserByUsername("selimhorri");
+    }
+
+    private JwtService jwtService(final boolean embeddedAuthorities) {
+        return new JwtServiceImpl(new JwtUtilImpl(
+                new StaticListableBeanFactory().getBeanProvider(CacheManager.class), embeddedAuthorities));
+    }
+
+    private void filter(final JwtService jwtService, final String token) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Authorization", "Bearer " + token);
+        new JwtRequestFilter(userDetailsService, jwtService, tokenRevocationService)
+                .doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+    }
+}
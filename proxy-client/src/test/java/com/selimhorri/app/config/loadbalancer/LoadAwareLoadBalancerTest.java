@@ -0,0 +1,131 @@
+package com.selimhorri.app.config.loadbalancer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.cloud.client.DefaultServiceInstance;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.client.loadbalancer.CompletionContext;
+import org.springframework.cloud.client.loadbalancer.DefaultRequest;
+import org.springframework.cloud.client.loadbalancer.DefaultResponse;
+import org.springframework.cloud.client.loadbalancer.Request;
+import org.springframework.cloud.client.loadbalancer.Response;
+import org.springframework.cloud.loadbalancer.core.ServiceInstanceListSupplier;
+import org.springframework.cloud.loadbalancer.support.ServiceInstanceListSuppliers;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class LoadAwareLoadBalancerTest {
+
+    private static final String SERVICE_ID = "USER-SERVICE";
+
+    private final ServiceInstance busy = new DefaultServiceInstance("busy", SERVICE_ID, "10.0.0.1", 8700, false);
+    private final ServiceInstance idle = new DefaultServiceInstance("idle", SERVICE_ID, "10.0.0.2", 8700, false);
+
+    private MeterRegistry meterRegistry;
+    private InstanceLoadTracker instanceLoadTracker;
+    private LoadAwareLoadBalancer loadBalancer;
+
+    @BeforeEach
+    void setUp() {
+        this.meterRegistry = new SimpleMeterRegistry();
+        this.instanceLoadTracker = new InstanceLoadTracker(this.meterRegistry, 0.3, 3, Duration.ofMinutes(1));
+        final StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+        beanFactory.addBean("supplier", ServiceInstanceListSuppliers.from(SERVICE_ID, this.busy, this.idle));
+        this.loadBalancer = new LoadAwareLoadBalancer(
+                beanFactory.getBeanProvider(ServiceInstanceListSupplier.class), SERVICE_ID, this.instanceLoadTracker);
+    }
+
+    @Test
+    void choosePrefersInstanceWithFewerInFlightRequests() {
+        // Given
+        final Request<Object> request = new DefaultRequest<>();
+        this.instanceLoadTracker.onStartRequest(request, new DefaultResponse(this.busy));
+        this.instanceLoadTracker.onStartRequest(request, new DefaultResponse(this.busy));
+
+        // When / Then
+        for (int i = 0; i < 20; i++)
+            assertEquals(this.idle, this.loadBalancer.choose(request).block().getServer());
+        assertEquals(2, this.meterRegistry.get("loadbalancer.instance.in.flight")
+                .tag("instance", "10.0.0.1:8700")
+                .gauge()
+                .value());
+    }
+
+    @Test
+    void choosePrefersInstanceWithLowerLatency() {
+        // Given
+        this.instanceLoadTracker.getInstanceLoad(this.busy).complete(Duration.ofMillis(500).toNanos(), false);
+        this.instanceLoadTracker.getInstanceLoad(this.idle).complete(Duration.ofMillis(5).toNanos(), false);
+
+        // When / Then
+        for (int i = 0; i < 20; i++)
+            assertEquals(this.idle, this.loadBalancer.choose(new DefaultRequest<>()).block().getServer());
+    }
+
+    @Test
+    void consecutiveFailuresEjectInstance() {
+        // Given
+        final Request<Object> request = new DefaultRequest<>();
+        final Response<ServiceInstance> lbResponse = new DefaultResponse(this.idle);
+
+        // When
+        for (int i = 0; i < 3; i++) {
+            this.instanceLoadTracker.onStartRequest(request, lbResponse);
+            this.instanceLoadTracker.onComplete(new CompletionContext<>(
+                    CompletionContext.Status.FAILED, new IllegalStateException("timeout"), request, lbResponse));
+        }
+
+        // Then
+        assertTrue(this.instanceLoadTracker.getInstanceLoad(this.idle).isEjected());
+        assertEquals(1, this.meterRegistry.get("loadbalancer.instance.ejected")
+                .tag("instance", "10.0.0.2:8700")
+                .gauge()
+                .value());
+        for (int i = 0; i < 20; i++)
+            assertEquals(this.busy, this.loadBalancer.choose(request).block().getServer());
+    }
+
+    @Test
+    void successResetsConsecutiveFailures() {
+        // Given
+        final InstanceLoad instanceLoad = this.instanceLoadTracker.getInstanceLoad(this.idle);
+
+        // When
+        instanceLoad.complete(1L, true);
+        instanceLoad.complete(1L, true);
+        instanceLoad.complete(1L, false);
+        instanceLoad.complete(1L, true);
+
+        // Then
+        assertFalse(instanceLoad.isEjected());
+    }
+
+    @Test
+    void instancesNoLongerDiscoveredAreDroppedWithTheirGauges() {
+        // Given - an instance replaced by a rollout, and one of another service
+        final ServiceInstance replaced = new DefaultServiceInstance("replaced", SERVICE_ID, "10.0.0.3", 8700, false);
+        final ServiceInstance otherService = new DefaultServiceInstance("other", "ORDER-SERVICE", "10.0.0.4", 8300, false);
+        this.instanceLoadTracker.getInstanceLoad(replaced);
+        this.instanceLoadTracker.getInstanceLoad(otherService);
+        this.instanceLoadTracker.getInstanceLoad(this.busy);
+
+        // When
+        this.loadBalancer.choose(new DefaultRequest<>()).block();
+
+        // Then
+        assertTrue(this.meterRegistry.find("loadbalancer.instance.score").tag("instance", "10.0.0.3:8700").gauges().isEmpty());
+        assertEquals(1, this.meterRegistry.find("loadbalancer.instance.score").tag("instance", "10.0.0.4:8300").gauges().size());
+        assertEquals(1, this.meterRegistry.find("loadbalancer.instance.score").tag("instance", "10.0.0.1:8700").gauges().size());
+        assertEquals(0, this.meterRegistry.find("loadbalancer.instance.in.flight").tag("instance", "10.0.0.3:8700").gauges().size());
+    }
+
+}
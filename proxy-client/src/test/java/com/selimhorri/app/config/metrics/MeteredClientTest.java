@@ -0,0 +1,94 @@
+package com.selimhorri.app.config.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.ConnectException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.cloud.openfeign.support.SpringMvcContract;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+
+import feign.Client;
+import feign.Feign;
+import feign.Response;
+import feign.RetryableException;
+import feign.Retryer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class MeteredClientTest {
+
+    private static final String USER_SERVICE_URL = "http://USER-SERVICE/user-service/api/users";
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void callIsTaggedWithClientPathAndMethodTemplate() throws IOException {
+        // Given
+        final UserClient userClient = userClient((request, options) -> Response.builder()
+                .status(200)
+                .reason("OK")
+                .headers(Map.of())
+                .body("{\"userId\":1}", StandardCharsets.UTF_8)
+                .request(request)
+                .build());
+
+        // When
+        try (Response response = userClient.findById("1"); InputStream body = response.body().asInputStream()) {
+            body.readAllBytes();
+        }
+
+        // Then
+        assertEquals(1, this.meterRegistry.get(ClientMetrics.REQUESTS)
+                .tags("caller", "proxy-client", "target", "user-service", "method", "GET", 
+                        "uri", "/user-service/api/users/{userId}", "outcome", "SUCCESS")
+                .timer()
+                .count());
+        assertEquals(12, this.meterRegistry.get(ClientMetrics.RESPONSE_SIZE).summary().totalAmount());
+    }
+
+    @Test
+    void connectionFailureIsCountedAsIoError() {
+        // Given
+        final UserClient userClient = userClient((request, options) -> {
+            throw new ConnectException("Connection refused");
+        });
+
+        // When
+        assertThrows(RetryableException.class, () -> userClient.findById("1"));
+
+        // Then
+        assertEquals(1, this.meterRegistry.get(ClientMetrics.REQUESTS)
+                .tags("outcome", "IO_ERROR", "exception", "ConnectException")
+                .timer()
+                .count());
+        assertEquals(0, this.meterRegistry.get(ClientMetrics.IN_FLIGHT).gauge().value());
+    }
+
+    private UserClient userClient(final Client upstream) {
+        final DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        beanFactory.registerSingleton("clientMetrics", new ClientMetrics(this.meterRegistry, "PROXY-CLIENT", 
+                new Duration[] { Duration.ofMillis(100) }));
+        return Feign.builder()
+                .contract(new SpringMvcContract())
+                .retryer(Retryer.NEVER_RETRY)
+                .client(new MeteredClient(upstream, beanFactory.getBeanProvider(ClientMetrics.class)))
+                .target(UserClient.class, USER_SERVICE_URL);
+    }
+
+    interface UserClient {
+
+        @GetMapping("/{userId}")
+        Response findById(@PathVariable("userId") final String userId);
+
+    }
+
+}
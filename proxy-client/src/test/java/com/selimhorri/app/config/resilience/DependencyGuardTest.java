@@ -0,0 +1,163 @@
+package com.selimhorri.app.config.resilience;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.util.unit.DataSize;
+
+import feign.Client;
+import feign.Request;
+import feign.Request.HttpMethod;
+import feign.Request.Options;
+import feign.Response;
+import feign.Util;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.timelimiter.TimeLimiterConfig;
+import io.github.resilience4j.timelimiter.TimeLimiterRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class DependencyGuardTest {
+
+    private static final String PRODUCT_URL = "http://PRODUCT-SERVICE/product-service/api/products/1";
+
+    private final ThreadPoolTaskExecutor taskExecutor = new ThreadPoolTaskExecutor();
+    private final AtomicInteger upstreamCalls = new AtomicInteger();
+
+    private MeterRegistry meterRegistry;
+    private DependencyGuard dependencyGuard;
+
+    @BeforeEach
+    void setUp() {
+        this.taskExecutor.setCorePoolSize(4);
+        this.taskExecutor.setQueueCapacity(0);
+        this.taskExecutor.initialize();
+        this.meterRegistry = new SimpleMeterRegistry();
+        this.dependencyGuard = new DependencyGuard(
+                CircuitBreakerRegistry.of(CircuitBreakerConfig.custom()
+                        .slidingWindowSize(2)
+                        .minimumNumberOfCalls(2)
+                        .build()),
+                BulkheadRegistry.of(BulkheadConfig.custom()
+                        .maxConcurrentCalls(1)
+                        .maxWaitDuration(Duration.ZERO)
+                        .build()),
+                TimeLimiterRegistry.of(TimeLimiterConfig.custom()
+                        .timeoutDuration(Duration.ofMillis(200))
+                        .cancelRunningFuture(false)
+                        .build()),
+                this.taskExecutor, this.meterRegistry,
+                DataSize.ofMegabytes(1), DataSize.ofKilobytes(64), Duration.ofMinutes(10));
+    }
+
+    @AfterEach
+    void tearDown() {
+        this.taskExecutor.shutdown();
+    }
+
+    @Test
+    void failedGetIsAnsweredWithTheLastKnownGoodResponse() throws Exception {
+        // Given
+        assertEquals("{\"productId\":1}", body(this.dependencyGuard.execute(get(PRODUCT_URL), new Options(), this.answering(200))));
+
+        // When
+        final Response response = this.dependencyGuard.execute(get(PRODUCT_URL), new Options(), (request, options) -> {
+            throw new IOException("connection refused");
+        });
+
+        // Then
+        assertEquals(200, response.status());
+        assertEquals("{\"productId\":1}", body(response));
+        assertEquals(1, this.meterRegistry.get("resilience.fallbacks")
+                .tag("dependency", "product-service")
+                .tag("reason", "error")
+                .tag("fallback", "cached")
+                .counter().count());
+    }
+
+    @Test
+    void serverErrorsOpenTheCircuitWhichThenFailsFast() throws Exception {
+        // Given
+        assertEquals(503, this.dependencyGuard.execute(get(PRODUCT_URL), new Options(), this.answering(503)).status());
+        assertEquals(500, this.dependencyGuard.execute(get(PRODUCT_URL), new Options(), this.answering(500)).status());
+
+        // When
+        final IOException e = assertThrows(IOException.class,
+                () -> this.dependencyGuard.execute(get(PRODUCT_URL), new Options(), this.answering(200)));
+
+        // Then
+        assertEquals(2, this.upstreamCalls.get());
+        assertTrue(e.getMessage().contains("circuit_open"));
+        assertEquals(1, this.meterRegistry.get("resilience.fallbacks")
+                .tag("reason", "circuit_open")
+                .tag("fallback", "none")
+                .counter().count());
+    }
+
+    @Test
+    void slowUpstreamIsTimedOutAndHoldsItsBulkheadUntilItAnswers() throws Exception {
+        // Given - the only permit is held by a call that outlives the time limiter
+        final CountDownLatch release = new CountDownLatch(1);
+        final Client slow = (request, options) -> {
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            }
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return this.answering(200).execute(request, options);
+        };
+
+        // When
+        final long start = System.nanoTime();
+        final IOException timedOut = assertThrows(IOException.class,
+                () -> this.dependencyGuard.execute(get(PRODUCT_URL), new Options(), slow));
+        final long waitedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        final IOException rejected = assertThrows(IOException.class,
+                () -> this.dependencyGuard.execute(get(PRODUCT_URL), new Options(), this.answering(200)));
+        release.countDown();
+
+        // Then
+        assertTrue(waitedMillis < 1000);
+        assertTrue(timedOut.getMessage().contains("timeout"));
+        assertTrue(rejected.getMessage().contains("bulkhead_full"));
+    }
+
+    private Client answering(final int status) {
+        return (request, options) -> {
+            this.upstreamCalls.incrementAndGet();
+            return Response.builder()
+                    .status(status)
+                    .reason("status " + status)
+                    .headers(Map.of())
+                    .body("{\"productId\":1}", StandardCharsets.UTF_8)
+                    .request(request)
+                    .build();
+        };
+    }
+
+    private static Request get(final String url) {
+        return Request.create(HttpMethod.GET, url, Map.of(), null, StandardCharsets.UTF_8, null);
+    }
+
+    private static String body(final Response response) throws IOException {
+        return Util.toString(response.body().asReader(StandardCharsets.UTF_8));
+    }
+
+}
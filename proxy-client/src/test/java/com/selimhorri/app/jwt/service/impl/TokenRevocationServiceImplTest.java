@@ -0,0 +1,76 @@
+package com.selimhorri.app.jwt.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+import com.selimhorri.app.business.user.model.CredentialChangeDto;
+import com.selimhorri.app.business.user.model.response.CredentialChangeUserServiceCollectionDtoResponse;
+import com.selimhorri.app.business.user.model.response.RevokedUsernameUserServiceCollectionDtoResponse;
+
+@ExtendWith(MockitoExtension.class)
+class TokenRevocationServiceImplTest {
+
+    private static final Instant CHANGED_AT = Instant.parse("2026-10-17T10:00:00.250Z");
+
+    @Mock
+    private RestTemplate restTemplate;
+
+    @InjectMocks
+    private TokenRevocationServiceImpl tokenRevocationService;
+
+    @Test
+    void testIsRevoked_ShouldRejectTokensIssuedBeforeTheCredentialChanged() {
+        // Given
+        when(restTemplate.getForObject(startsWith("http://USER-SERVICE"), eq(RevokedUsernameUserServiceCollectionDtoResponse.class)))
+                .thenReturn(new RevokedUsernameUserServiceCollectionDtoResponse(List.of("locked")));
+        when(restTemplate.getForObject(startsWith("http://USER-SERVICE"), eq(CredentialChangeUserServiceCollectionDtoResponse.class), any(Instant.class)))
+                .thenReturn(new CredentialChangeUserServiceCollectionDtoResponse(List.of(
+                        new CredentialChangeDto("selimhorri", CHANGED_AT))));
+
+        // When
+        tokenRevocationService.refresh();
+
+        // Then
+        assertTrue(tokenRevocationService.isRevoked("locked", new Date()));
+        assertTrue(tokenRevocationService.isRevoked("selimhorri", Date.from(CHANGED_AT.minusSeconds(60))));
+        assertFalse(tokenRevocationService.isRevoked("selimhorri", Date.from(Instant.parse("2026-10-17T10:00:00Z"))));
+        assertFalse(tokenRevocationService.isRevoked("selimhorri", Date.from(CHANGED_AT.plusSeconds(60))));
+        assertFalse(tokenRevocationService.isRevoked("unchanged", Date.from(CHANGED_AT.minusSeconds(60))));
+    }
+
+    @Test
+    void testRefresh_ShouldKeepTheLastKnownListsWhenUserServiceIsDown() {
+        // Given
+        when(restTemplate.getForObject(startsWith("http://USER-SERVICE"), eq(RevokedUsernameUserServiceCollectionDtoResponse.class)))
+                .thenReturn(new RevokedUsernameUserServiceCollectionDtoResponse(List.of("locked")))
+                .thenThrow(new ResourceAccessException("user-service down"));
+        when(restTemplate.getForObject(startsWith("http://USER-SERVICE"), eq(CredentialChangeUserServiceCollectionDtoResponse.class), any(Instant.class)))
+                .thenReturn(new CredentialChangeUserServiceCollectionDtoResponse(List.of(
+                        new CredentialChangeDto("selimhorri", CHANGED_AT))));
+        tokenRevocationService.refresh();
+
+        // When
+        tokenRevocationService.refresh();
+
+        // Then
+        assertTrue(tokenRevocationService.isRevoked("locked", new Date()));
+        assertTrue(tokenRevocationService.isRevoked("selimhorri", Date.from(CHANGED_AT.minusSeconds(60))));
+    }
+
+}
@@ -0,0 +1,86 @@
+package com.selimhorri.app.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import feign.FeignException;
+import feign.Request;
+import feign.Request.HttpMethod;
+import feign.Response;
+
+class ResponsePassThroughTest {
+
+    private static final String BODY = "{\"collection\":[{\"orderId\":1}]}";
+
+    @Test
+    void relayCopiesStatusBodyAndRelevantHeaders() throws Exception {
+        // Given
+        final AtomicBoolean closed = new AtomicBoolean();
+        final Response upstream = upstream(200, Map.of(
+                "content-type", List.of("application/json"),
+                "ETag", List.of("\"v1\""),
+                "Transfer-Encoding", List.of("chunked"),
+                "Set-Cookie", List.of("JSESSIONID=upstream")), closed);
+        final MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        ResponsePassThrough.relay(upstream, response);
+
+        // Then
+        assertEquals(200, response.getStatus());
+        assertEquals(BODY, response.getContentAsString());
+        assertEquals("application/json", response.getContentType());
+        assertEquals("\"v1\"", response.getHeader("ETag"));
+        assertNull(response.getHeader("Transfer-Encoding"));
+        assertNull(response.getHeader("Set-Cookie"));
+        assertTrue(closed.get());
+    }
+
+    @Test
+    void relayRaisesFeignExceptionForErrorStatus() {
+        // Given
+        final AtomicBoolean closed = new AtomicBoolean();
+        final Response upstream = upstream(503, Map.of("content-type", List.of("application/json")), closed);
+        final MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        final FeignException e = assertThrows(FeignException.class, () -> ResponsePassThrough.relay(upstream, response));
+
+        // Then
+        assertEquals(503, e.status());
+        assertEquals(BODY, e.contentUTF8());
+        assertEquals(0, response.getContentAsByteArray().length);
+        assertTrue(closed.get());
+    }
+
+    private static Response upstream(final int status, final Map<String, Collection<String>> headers, final AtomicBoolean closed) {
+        final Request request = Request.create(HttpMethod.GET, "http://ORDER-SERVICE/order-service/api/orders",
+                Map.of(), null, StandardCharsets.UTF_8, null);
+        final ByteArrayInputStream body = new ByteArrayInputStream(BODY.getBytes(StandardCharsets.UTF_8)) {
+            @Override
+            public void close() {
+                closed.set(true);
+            }
+        };
+        return Response.builder()
+                .status(status)
+                .reason("reason")
+                .request(request)
+                .headers(headers)
+                .body(body, null)
+                .build();
+    }
+
+}
@@ -0,0 +1,53 @@
+package com.selimhorri.app.config.enrichment;
+
+import java.time.Duration;
+import java.util.concurrent.Executor;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import com.selimhorri.app.config.deadline.Deadline;
+import com.selimhorri.app.config.resilience.DependencyGuard;
+import com.selimhorri.app.config.timing.ServerTiming;
+
+@Configuration
+public class EnrichmentConfig {
+	
+	@Bean
+	public ThreadPoolTaskExecutor enrichmentTaskExecutor(
+			@Value("${app.enrichment.pool-size:16}") final int poolSize, 
+			@Value("${app.enrichment.queue-capacity:500}") final int queueCapacity) {
+		final var taskExecutor = new ThreadPoolTaskExecutor();
+		taskExecutor.setCorePoolSize(poolSize);
+		taskExecutor.setMaxPoolSize(poolSize);
+		taskExecutor.setQueueCapacity(queueCapacity);
+		taskExecutor.setAllowCoreThreadTimeOut(true);
+		taskExecutor.setThreadNamePrefix("enrichment-");
+		taskExecutor.setTaskDecorator(task -> ServerTiming.propagate(Deadline.propagate(task)));
+		return taskExecutor;
+	}
+	
+	@Bean
+	public EnrichmentExecutor enrichmentExecutorBean(
+			@Qualifier("enrichmentTaskExecutor") final Executor enrichmentTaskExecutor, 
+			@Value("${app.enrichment.deadline:2s}") final Duration deadline, 
+			final DependencyGuard dependencyGuard) {
+		return new EnrichmentExecutor(enrichmentTaskExecutor, deadline, dependencyGuard);
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
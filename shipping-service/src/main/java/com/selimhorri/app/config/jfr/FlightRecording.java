@@ -0,0 +1,119 @@
+package com.selimhorri.app.config.jfr;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Recording;
+
+/**
+ * Rolling JFR recording running for the life of the application, on disk and bounded by
+ * app.jfr.max-age and app.jfr.max-size. The JDK events follow the app.jfr.settings configuration,
+ * the custom ones are kept when they last longer than app.jfr.threshold. Dumps are capped by 
+ * app.jfr.max-dumps, the oldest being deleted first.
+ */
+@Component
+@ConditionalOnProperty(name = "app.jfr.enabled", havingValue = "true")
+public class FlightRecording implements DisposableBean {
+	
+	private static final DateTimeFormatter FILE_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+	
+	private final Recording recording;
+	private final String name;
+	private final Path dumpDirectory;
+	private final Duration maxAge;
+	private final int maxDumps;
+	
+	public FlightRecording(@Value("${spring.application.name}") final String applicationName, 
+			@Value("${app.jfr.settings:default}") final String settings, 
+			@Value("${app.jfr.max-age:30m}") final Duration maxAge, 
+			@Value("${app.jfr.max-size:250MB}") final DataSize maxSize, 
+			@Value("${app.jfr.threshold:10ms}") final Duration threshold, 
+			@Value("${app.jfr.dump-directory:${java.io.tmpdir}/jfr}") final Path dumpDirectory, 
+			@Value("${app.jfr.max-dumps:5}") final int maxDumps)
+					throws IOException, ParseException {
+		this.name = applicationName.toLowerCase(Locale.ROOT);
+		this.dumpDirectory = dumpDirectory;
+		this.maxAge = maxAge;
+		this.maxDumps = Math.max(1, maxDumps);
+		this.recording = new Recording(Configuration.getConfiguration(settings));
+		this.recording.setName(this.name);
+		this.recording.setToDisk(true);
+		this.recording.setMaxAge(maxAge);
+		this.recording.setMaxSize(maxSize.toBytes());
+		this.recording.enable(RemoteCallEvent.class).withThreshold(threshold);
+		this.recording.enable(RepositoryInvocationEvent.class).withThreshold(threshold);
+		this.recording.start();
+	}
+	
+	public Duration getMaxAge() {
+		return this.maxAge;
+	}
+	
+	/**
+	 * Writes about the last {@code last} of events, at most app.jfr.max-age, to a new file of the 
+	 * dump directory, trimmed by whole chunks so it may reach a little further back.
+	 */
+	public Path dump(final Duration last) throws IOException {
+		Files.createDirectories(this.dumpDirectory);
+		final Path file = this.dumpDirectory.resolve(String.format("%s-%s.jfr", 
+				this.name, LocalDateTime.now().format(FILE_TIMESTAMP)));
+		try (final Recording snapshot = FlightRecorder.getFlightRecorder().takeSnapshot()) {
+			snapshot.setMaxAge(last.compareTo(this.maxAge) < 0 ? last : this.maxAge);
+			snapshot.dump(file);
+		}
+		this.deleteOldestDumps();
+		return file;
+	}
+	
+	/**
+	 * Keeps the newest app.jfr.max-dumps files of this application, by the timestamp in their name.
+	 */
+	private void deleteOldestDumps() throws IOException {
+		final List<Path> dumps;
+		try (final Stream<Path> files = Files.list(this.dumpDirectory)) {
+			dumps = files
+					.filter(path -> path.getFileName().toString().matches(Pattern.quote(this.name) + "-\\d{8}-\\d{6}\\.jfr"))
+					.sorted(Comparator.comparing(Path::getFileName).reversed())
+					.collect(Collectors.toList());
+		}
+		for (final Path dump : dumps.subList(Math.min(this.maxDumps, dumps.size()), dumps.size()))
+			Files.deleteIfExists(dump);
+	}
+	
+	@Override
+	public void destroy() {
+		this.recording.close();
+	}
+
+
+
+}
+
+
+
+
+
+
+
+
+
+
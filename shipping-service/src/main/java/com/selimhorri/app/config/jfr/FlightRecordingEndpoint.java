@@ -0,0 +1,53 @@
+package com.selimhorri.app.config.jfr;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * {@code POST /actuator/jfr?minutes=..} dumps the last minutes of the rolling recording,
+ * ten without argument and never more than app.jfr.max-age, and answers with the file written 
+ * on the instance. It is left out of the web exposure and is reached over JMX, with 
+ * {@code spring.jmx.enabled}.
+ */
+@Component
+@Endpoint(id = "jfr")
+@ConditionalOnProperty(name = "app.jfr.enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class FlightRecordingEndpoint {
+	
+	private static final int DEFAULT_MINUTES = 10;
+	
+	private final FlightRecording flightRecording;
+	
+	@WriteOperation
+	public Map<String, Object> dump(@Nullable final Integer minutes) throws IOException {
+		final int requested = (minutes == null || minutes <= 0) ? DEFAULT_MINUTES : minutes;
+		final int last = (int) Math.max(1, Math.min(requested, this.flightRecording.getMaxAge().toMinutes()));
+		final Path file = this.flightRecording.dump(Duration.ofMinutes(last));
+		return Map.of("file", file.toAbsolutePath().toString(), "minutes", last, "bytes", Files.size(file));
+	}
+
+
+
+}
+
+
+
+
+
+
+
+
+
+
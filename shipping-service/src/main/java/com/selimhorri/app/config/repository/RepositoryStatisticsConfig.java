@@ -0,0 +1,95 @@
+package com.selimhorri.app.config.repository;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.hibernate.boot.Metadata;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostLoadEventListener;
+import org.hibernate.integrator.spi.Integrator;
+import org.hibernate.jpa.boot.internal.EntityManagerFactoryBuilderImpl;
+import org.hibernate.jpa.boot.spi.IntegratorProvider;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.hibernate.service.spi.SessionFactoryServiceRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+import org.springframework.util.function.SingletonSupplier;
+
+/**
+ * Wraps every Spring Data repository in the {@link RepositoryStatistics} interceptor, outermost so
+ * the flush on commit is counted too, and hooks the statement and entity counters into Hibernate.
+ */
+@Configuration
+public class RepositoryStatisticsConfig {
+	
+	@Bean
+	public static BeanPostProcessor repositoryStatisticsPostProcessor(
+			final ObjectProvider<RepositoryStatistics> repositoryStatistics) {
+		final Supplier<RepositoryStatistics> statistics = SingletonSupplier.of(repositoryStatistics::getObject);
+		return new BeanPostProcessor() {
+			
+			@Override
+			public Object postProcessBeforeInitialization(final Object bean, final String beanName) {
+				if (bean instanceof RepositoryFactoryBeanSupport)
+					((RepositoryFactoryBeanSupport<?, ?, ?>) bean).addRepositoryFactoryCustomizer(factory ->
+							factory.addRepositoryProxyPostProcessor((proxyFactory, repositoryInformation) -> {
+								final String repository = repositoryInformation.getRepositoryInterface().getSimpleName();
+								proxyFactory.addAdvice(0, (MethodInterceptor) invocation ->
+										statistics.get().invoke(repository, invocation));
+							}));
+				return bean;
+			}
+		
+		};
+	}
+	
+	@Bean
+	public HibernatePropertiesCustomizer repositoryStatisticsHibernatePropertiesCustomizer() {
+		return properties -> {
+			properties.put(AvailableSettings.STATEMENT_INSPECTOR, (StatementInspector) sql -> {
+				RepositoryStatistics.statementPrepared(sql);
+				return sql;
+			});
+			properties.put(EntityManagerFactoryBuilderImpl.INTEGRATOR_PROVIDER, 
+					(IntegratorProvider) () -> List.of(new EntityLoadIntegrator()));
+		};
+	}
+	
+	private static final class EntityLoadIntegrator implements Integrator {
+		
+		@Override
+		public void integrate(final Metadata metadata, final SessionFactoryImplementor sessionFactory, 
+				final SessionFactoryServiceRegistry serviceRegistry) {
+			serviceRegistry.getService(EventListenerRegistry.class)
+					.appendListeners(EventType.POST_LOAD, (PostLoadEventListener) event -> RepositoryStatistics.entityLoaded());
+		}
+		
+		@Override
+		public void disintegrate(final SessionFactoryImplementor sessionFactory, 
+				final SessionFactoryServiceRegistry serviceRegistry) {
+			// listeners go away with the session factory
+		}
+	
+	}
+
+
+
+}
+
+
+
+
+
+
+
+
+
+
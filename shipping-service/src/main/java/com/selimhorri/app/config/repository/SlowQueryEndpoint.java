@@ -0,0 +1,46 @@
+package com.selimhorri.app.config.repository;
+
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * {@code GET /actuator/slowqueries} lists the slow repository invocations, newest first,
+ * {@code DELETE} empties the log.
+ */
+@Component
+@Endpoint(id = "slowqueries")
+@RequiredArgsConstructor
+public class SlowQueryEndpoint {
+	
+	private final SlowQueryLog slowQueryLog;
+	
+	@ReadOperation
+	public List<SlowQuery> entries() {
+		return this.slowQueryLog.entries();
+	}
+	
+	@DeleteOperation
+	public Map<String, Object> clear() {
+		return Map.of("cleared", this.slowQueryLog.clear());
+	}
+
+
+
+}
+
+
+
+
+
+
+
+
+
+
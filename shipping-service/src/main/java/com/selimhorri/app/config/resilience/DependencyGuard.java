@@ -0,0 +1,119 @@
+package com.selimhorri.app.config.resilience;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+import org.springframework.web.client.HttpClientErrorException;
+
+import com.github.benmanes.caffeine.cache.Cache;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.timelimiter.TimeLimiter;
+import io.github.resilience4j.timelimiter.TimeLimiterRegistry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Runs remote lookups of a dependency behind the resilience4j circuit breaker, time limiter and 
+ * bulkhead instances named after it (e.g. {@code order-service}). The bulkhead is held on the worker 
+ * thread for the whole call, so a slow dependency can only pin its own share of the pool. 
+ * A refused, timed out or failed lookup falls back to the last value fetched for the same key, 
+ * and otherwise fails so the caller leaves that part of the DTO unresolved.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class DependencyGuard {
+	
+	private final CircuitBreakerRegistry circuitBreakerRegistry;
+	private final BulkheadRegistry bulkheadRegistry;
+	private final TimeLimiterRegistry timeLimiterRegistry;
+	private final ScheduledExecutorService timeoutScheduler;
+	private final Cache<List<Object>, Object> lastKnownGood;
+	private final MeterRegistry meterRegistry;
+	
+	public <T> CompletableFuture<T> submit(final String dependency, final Object key, final Supplier<T> lookup, final Executor executor) {
+		
+		final CircuitBreaker circuitBreaker = this.circuitBreakerRegistry.circuitBreaker(dependency);
+		final TimeLimiter timeLimiter = this.timeLimiterRegistry.timeLimiter(dependency);
+		final Bulkhead bulkhead = this.bulkheadRegistry.bulkhead(dependency);
+		final List<Object> cacheKey = List.of(dependency, key);
+		
+		final CompletableFuture<T> guarded = new CompletableFuture<>();
+		CircuitBreaker.decorateCompletionStage(circuitBreaker, 
+				() -> timeLimiter.executeCompletionStage(this.timeoutScheduler, 
+						() -> CompletableFuture.supplyAsync(Bulkhead.decorateSupplier(bulkhead, lookup), executor)))
+			.get()
+			.whenComplete((value, throwable) -> {
+				if (throwable == null) {
+					if (value != null)
+						this.lastKnownGood.put(cacheKey, value);
+					guarded.complete(value);
+					return;
+				}
+				final Throwable cause = (throwable instanceof CompletionException && throwable.getCause() != null) ? 
+						throwable.getCause() : throwable;
+				if (cause instanceof HttpClientErrorException) {
+					guarded.completeExceptionally(cause);
+					return;
+				}
+				@SuppressWarnings("unchecked")
+				final T fallback = (T) this.lastKnownGood.getIfPresent(cacheKey);
+				this.counter(dependency, reason(cause), (fallback != null) ? "cached" : "unresolved").increment();
+				log.debug("*** Lookup on {} refused or failed ({}), fallback {} *", dependency, cause.toString(), 
+						(fallback != null) ? "cached" : "unresolved");
+				if (fallback != null)
+					guarded.complete(fallback);
+				else
+					guarded.completeExceptionally(cause);
+			});
+		
+		return guarded;
+	}
+	
+	private static String reason(final Throwable cause) {
+		if (cause instanceof CallNotPermittedException)
+			return "circuit_open";
+		if (cause instanceof BulkheadFullException)
+			return "bulkhead_full";
+		if (cause instanceof TimeoutException)
+			return "timeout";
+		if (cause instanceof RejectedExecutionException)
+			return "pool_saturated";
+		return "error";
+	}
+	
+	private Counter counter(final String dependency, final String reason, final String fallback) {
+		return Counter.builder("resilience.fallbacks")
+				.description("Dependency calls refused or failed by their resilience4j guards, by reason and by whether a cached value was served")
+				.tag("dependency", dependency)
+				.tag("reason", reason)
+				.tag("fallback", fallback)
+				.register(this.meterRegistry);
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
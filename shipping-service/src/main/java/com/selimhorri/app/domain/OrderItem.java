@@ -28,7 +28,7 @@ public class OrderItem implements Serializable {
     @Column(name = "product_title")
     private String productTitle;
 
-    @Column(name = "product_price")
+    @Column(name = "product_price", columnDefinition = "DECIMAL(7, 2)")
     private Double productPrice;
 
     @Column(name = "product_image_url")
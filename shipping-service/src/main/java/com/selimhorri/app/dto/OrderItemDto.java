@@ -1,11 +1,15 @@
 package com.selimhorri.app.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.io.Serializable;
+import java.util.Set;
 
 @NoArgsConstructor
 @AllArgsConstructor
@@ -20,4 +24,7 @@ public class OrderItemDto implements Serializable {
     private Integer orderedQuantity;
     private ProductDto productDto;
     private OrderDto orderDto;
+
+    @JsonInclude(Include.NON_EMPTY)
+    private Set<String> unresolved;
 }
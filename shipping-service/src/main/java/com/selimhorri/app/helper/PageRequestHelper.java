@@ -0,0 +1,67 @@
+package com.selimhorri.app.helper;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import com.selimhorri.app.constant.AppConstant;
+import com.selimhorri.app.exception.wrapper.InvalidCursorException;
+
+public interface PageRequestHelper {
+	
+	public static Pageable of(final Integer page, final Integer size, final Sort sort) {
+		return PageRequest.of(Math.max(Optional.ofNullable(page).orElse(0), 0), size(size), sort);
+	}
+	
+	public static int size(final Integer size) {
+		return Math.min(Math.max(Optional.ofNullable(size).orElse(AppConstant.DEFAULT_PAGE_SIZE), 1), 
+				AppConstant.MAX_PAGE_SIZE);
+	}
+	
+	/**
+	 * Encodes the primary key of the last returned row as an opaque, url-safe cursor.
+	 */
+	public static String encodeCursor(final Object... keyParts) {
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(Arrays.stream(keyParts)
+				.map(String::valueOf)
+				.collect(Collectors.joining(","))
+				.getBytes(StandardCharsets.UTF_8));
+	}
+	
+	/**
+	 * Decodes a cursor back to its primary key, a blank cursor starts from the first row, hence null.
+	 */
+	public static <K> K decodeCursor(final String cursor, final Function<String[], K> keyMapper) {
+		
+		if (cursor == null || cursor.isBlank())
+			return null;
+		
+		try {
+			return keyMapper.apply(new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8)
+					.split(",", -1));
+		}
+		catch (RuntimeException e) {
+			throw new InvalidCursorException(String.format("Cursor: [%s] is not valid", cursor), e);
+		}
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
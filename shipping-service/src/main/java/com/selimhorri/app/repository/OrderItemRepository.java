@@ -1,12 +1,38 @@
 package com.selimhorri.app.repository;
 
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.QueryHints.HINT_READONLY;
+
+import java.util.stream.Stream;
+
+import javax.persistence.QueryHint;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import com.selimhorri.app.constant.AppConstant;
 import com.selimhorri.app.domain.OrderItem;
 import com.selimhorri.app.domain.id.OrderItemId;
 
 public interface OrderItemRepository extends JpaRepository<OrderItem, OrderItemId> {
 	
+	Slice<OrderItem> findAllBy(final Pageable pageable);
+	
+	@Query("SELECT oi FROM OrderItem oi "
+			+ "WHERE oi.orderItemId.orderId > :orderId "
+			+ "OR (oi.orderItemId.orderId = :orderId AND oi.orderItemId.productId > :productId)")
+	Slice<OrderItem> findAllAfter(@Param("orderId") final Integer orderId, @Param("productId") final Integer productId, 
+			final Pageable pageable);
 	
+	@QueryHints({
+		@QueryHint(name = HINT_FETCH_SIZE, value = "" + AppConstant.EXPORT_FETCH_SIZE),
+		@QueryHint(name = HINT_READONLY, value = "true")
+	})
+	@Query("SELECT oi FROM OrderItem oi ORDER BY oi.orderItemId.orderId, oi.orderItemId.productId")
+	Stream<OrderItem> streamAllBy();
 	
 }
@@ -1,14 +1,26 @@
 package com.selimhorri.app.service.impl;
 
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+import javax.persistence.EntityManager;
 import javax.transaction.Transactional;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
 
+import com.selimhorri.app.config.enrichment.EnrichmentExecutor;
 import com.selimhorri.app.constant.AppConstant;
+import com.selimhorri.app.domain.OrderItem;
 import com.selimhorri.app.domain.id.OrderItemId;
 import com.selimhorri.app.dto.OrderDto;
 import com.selimhorri.app.dto.OrderItemDto;
@@ -28,23 +40,55 @@ import lombok.extern.slf4j.Slf4j;
 public class OrderItemServiceImpl implements OrderItemService {
 	
 	private final OrderItemRepository orderItemRepository;
+	private final EntityManager entityManager;
 	private final RestTemplate restTemplate;
+	private final EnrichmentExecutor enrichmentExecutor;
 	
 	@Override
 	public List<OrderItemDto> findAll() {
 		log.info("*** OrderItemDto List, service; fetch all orderItems *");
-		return this.orderItemRepository.findAll()
+		return this.enrich(this.orderItemRepository.findAll()
 				.stream()
 					.map(OrderItemMappingHelper::map)
-					.map(o -> {
-						o.setProductDto(this.restTemplate.getForObject(AppConstant.DiscoveredDomainsApi
-								.PRODUCT_SERVICE_API_URL + "/" + o.getProductDto().getProductId(), ProductDto.class));
-						o.setOrderDto(this.restTemplate.getForObject(AppConstant.DiscoveredDomainsApi
-								.ORDER_SERVICE_API_URL + "/" + o.getOrderDto().getOrderId(), OrderDto.class));
-						return o;
-					})
 					.distinct()
-					.collect(Collectors.toUnmodifiableList());
+					.collect(Collectors.toUnmodifiableList()));
+	}
+	
+	@Override
+	public Page<OrderItemDto> findAll(final Pageable pageable) {
+		log.info("*** OrderItemDto Page, service; fetch orderItems page *");
+		final Page<OrderItemDto> orderItemDtos = this.orderItemRepository.findAll(pageable)
+				.map(OrderItemMappingHelper::map);
+		this.enrich(orderItemDtos.getContent());
+		return orderItemDtos;
+	}
+	
+	@Override
+	public Slice<OrderItemDto> findAllAfter(final OrderItemId orderItemId, final int size) {
+		log.info("*** OrderItemDto Slice, service; fetch orderItems after cursor *");
+		final var pageable = PageRequest.of(0, size, Sort.by("orderItemId.orderId", "orderItemId.productId"));
+		final Slice<OrderItemDto> orderItemDtos = ((orderItemId == null) ? 
+					this.orderItemRepository.findAllBy(pageable) : 
+					this.orderItemRepository.findAllAfter(orderItemId.getOrderId(), orderItemId.getProductId(), pageable))
+				.map(OrderItemMappingHelper::map);
+		this.enrich(orderItemDtos.getContent());
+		return orderItemDtos;
+	}
+	
+	/**
+	 * Maps rows one at a time off a JDBC cursor, detaching each entity once mapped, 
+	 * so that the persistence context does not grow with the table.
+	 */
+	@Override
+	public void exportAll(final Consumer<OrderItemDto> orderItemDtoConsumer) {
+		log.info("*** OrderItemDto Stream, service; export all orderItems *");
+		try (final Stream<OrderItem> orderItems = this.orderItemRepository.streamAllBy()) {
+			orderItems.forEach(orderItem -> {
+				final var orderItemDto = OrderItemMappingHelper.map(orderItem);
+				this.entityManager.detach(orderItem);
+				orderItemDtoConsumer.accept(orderItemDto);
+			});
+		}
 	}
 	
 	@Override
@@ -52,13 +96,7 @@ public class OrderItemServiceImpl implements OrderItemService {
 		log.info("*** OrderItemDto, service; fetch orderItem by id *");
 		return this.orderItemRepository.findById(null)
 				.map(OrderItemMappingHelper::map)
-				.map(o -> {
-					o.setProductDto(this.restTemplate.getForObject(AppConstant.DiscoveredDomainsApi
-							.PRODUCT_SERVICE_API_URL + "/" + o.getProductDto().getProductId(), ProductDto.class));
-					o.setOrderDto(this.restTemplate.getForObject(AppConstant.DiscoveredDomainsApi
-							.ORDER_SERVICE_API_URL + "/" + o.getOrderDto().getOrderId(), OrderDto.class));
-					return o;
-				})
+				.map(o -> this.enrich(List.of(o)).get(0))
 				.orElseThrow(() -> new OrderItemNotFoundException(String.format("OrderItem with id: %s not found", orderItemId)));
 	}
 	
@@ -82,6 +120,44 @@ public class OrderItemServiceImpl implements OrderItemService {
 		this.orderItemRepository.deleteById(orderItemId);
 	}
 	
+	private List<OrderItemDto> enrich(final List<OrderItemDto> orderItemDtos) {
+		
+		final long deadline = this.enrichmentExecutor.deadline();
+		final var productFutures = this.enrichmentExecutor.submitAll(AppConstant.DiscoveredDomainsApi.PRODUCT_SERVICE_NAME, 
+				orderItemDtos.stream()
+					.map(o -> o.getProductDto().getProductId())
+					.collect(Collectors.toList()), 
+				productId -> this.restTemplate.getForObject(AppConstant.DiscoveredDomainsApi
+						.PRODUCT_SERVICE_API_URL + "/{productId}", ProductDto.class, productId));
+		final var orderFutures = this.enrichmentExecutor.submitAll(AppConstant.DiscoveredDomainsApi.ORDER_SERVICE_NAME, 
+				orderItemDtos.stream()
+					.map(o -> o.getOrderDto().getOrderId())
+					.collect(Collectors.toList()), 
+				orderId -> this.restTemplate.getForObject(AppConstant.DiscoveredDomainsApi
+						.ORDER_SERVICE_API_URL + "/{orderId}", OrderDto.class, orderId));
+		
+		final Map<Integer, ProductDto> productDtos = this.enrichmentExecutor.awaitAll(productFutures, deadline);
+		final Map<Integer, OrderDto> orderDtos = this.enrichmentExecutor.awaitAll(orderFutures, deadline);
+		
+		orderItemDtos.forEach(o -> {
+			final var unresolved = new HashSet<String>();
+			final var productDto = productDtos.get(o.getProductDto().getProductId());
+			if (productDto != null)
+				o.setProductDto(productDto);
+			else
+				unresolved.add("product");
+			final var orderDto = orderDtos.get(o.getOrderDto().getOrderId());
+			if (orderDto != null)
+				o.setOrderDto(orderDto);
+			else
+				unresolved.add("order");
+			if (!unresolved.isEmpty())
+				o.setUnresolved(unresolved);
+		});
+		
+		return orderItemDtos;
+	}
+	
 	
 	
 }
@@ -0,0 +1,5 @@
+
+ALTER TABLE order_items ADD COLUMN product_title VARCHAR(255);
+ALTER TABLE order_items ADD COLUMN product_price DECIMAL(7, 2);
+ALTER TABLE order_items ADD COLUMN product_image_url VARCHAR(255);
+
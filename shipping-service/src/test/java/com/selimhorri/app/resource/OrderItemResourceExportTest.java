@@ -0,0 +1,65 @@
+package com.selimhorri.app.resource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.web.embedded.tomcat.TomcatServletWebServerFactory;
+import org.springframework.boot.web.server.WebServerFactoryCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import com.selimhorri.app.dto.OrderItemDto;
+import com.selimhorri.app.service.OrderItemService;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = "SPRING_CONFIG_IMPORT=")
+class OrderItemResourceExportTest {
+
+    private static final int ORDER_ITEMS = 5;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @MockBean
+    private OrderItemService orderItemService;
+
+    @Test
+    void exportAll_slowerThanTheContainerAsyncTimeout_shouldStreamEveryOrderItem() {
+        // Given - an export that takes about 2s against a 200ms container default
+        doAnswer(invocation -> {
+            final Consumer<OrderItemDto> consumer = invocation.getArgument(0);
+            for (int productId = 1; productId <= ORDER_ITEMS; productId++) {
+                Thread.sleep(400);
+                consumer.accept(OrderItemDto.builder().productId(productId).build());
+            }
+            return null;
+        }).when(orderItemService).exportAll(any());
+
+        // When
+        final ResponseEntity<String> response = restTemplate.getForEntity("/api/shippings/export", String.class);
+
+        // Then
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(ORDER_ITEMS, response.getBody().split("\n").length);
+    }
+
+    @TestConfiguration
+    static class ShortAsyncTimeout {
+
+        @Bean
+        WebServerFactoryCustomizer<TomcatServletWebServerFactory> shortAsyncTimeout() {
+            return factory -> factory.addConnectorCustomizers(connector -> connector.setAsyncTimeout(200));
+        }
+
+    }
+
+}
@@ -0,0 +1,83 @@
+package com.selimhorri.app.config.deadline;
+
+import java.time.Duration;
+import java.util.OptionalLong;
+import java.util.concurrent.TimeUnit;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * Request budget, carried between hops in the {@value #HEADER} header as the milliseconds left and 
+ * held for the request thread as an absolute {@link System#nanoTime()} instant. Every outgoing call 
+ * re-computes the header from what is left, so the budget shrinks along the call chain. 
+ * Tasks handed to a pool keep the budget through {@link #propagate(Runnable)}.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class Deadline {
+	
+	public static final String HEADER = "X-Deadline-Ms";
+	
+	private static final ThreadLocal<Long> CURRENT = new ThreadLocal<>();
+	
+	public static OptionalLong remainingMillis() {
+		final Long deadline = CURRENT.get();
+		return (deadline == null) ? 
+				OptionalLong.empty() : 
+				OptionalLong.of(TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime()));
+	}
+	
+	/**
+	 * @return the {@link System#nanoTime()} instant a local wait of the given timeout should end at, 
+	 * never later than the request deadline
+	 */
+	public static long cap(final Duration timeout) {
+		final long local = System.nanoTime() + timeout.toNanos();
+		final Long deadline = CURRENT.get();
+		return (deadline == null) ? local : Math.min(local, deadline);
+	}
+	
+	public static Runnable propagate(final Runnable task) {
+		final Long deadline = CURRENT.get();
+		if (deadline == null)
+			return task;
+		return () -> {
+			final Long previous = CURRENT.get();
+			CURRENT.set(deadline);
+			try {
+				task.run();
+			}
+			finally {
+				restore(previous);
+			}
+		};
+	}
+	
+	static void start(final long remainingMillis) {
+		CURRENT.set(System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(remainingMillis));
+	}
+	
+	static void clear() {
+		CURRENT.remove();
+	}
+	
+	private static void restore(final Long previous) {
+		if (previous == null)
+			CURRENT.remove();
+		else
+			CURRENT.set(previous);
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
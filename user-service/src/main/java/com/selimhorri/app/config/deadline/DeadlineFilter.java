@@ -0,0 +1,64 @@
+package com.selimhorri.app.config.deadline;
+
+import java.io.IOException;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Starts the request {@link Deadline} from the {@value Deadline#HEADER} header, and answers 504 without 
+ * doing any work when the caller's budget is already spent. Requests without the header are unbounded.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@Slf4j
+public class DeadlineFilter extends OncePerRequestFilter {
+	
+	@Override
+	protected void doFilterInternal(final HttpServletRequest request, final HttpServletResponse response, 
+			final FilterChain filterChain) throws ServletException, IOException {
+		
+		final String header = request.getHeader(Deadline.HEADER);
+		if (header == null || !header.strip().matches("-?\\d{1,18}")) {
+			filterChain.doFilter(request, response);
+			return;
+		}
+		
+		final long remainingMillis = Long.parseLong(header.strip());
+		if (remainingMillis <= 0) {
+			log.info("*** Request deadline already exceeded, {} {} refused *", request.getMethod(), request.getRequestURI());
+			response.setStatus(HttpServletResponse.SC_GATEWAY_TIMEOUT);
+			return;
+		}
+		
+		Deadline.start(remainingMillis);
+		try {
+			filterChain.doFilter(request, response);
+		}
+		finally {
+			Deadline.clear();
+		}
+	}
+	
+	
+	
+}
+
+
+
+
+
+
+
+
+
+
@@ -0,0 +1,48 @@
+package com.selimhorri.app.config.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+import lombok.Setter;
+
+/**
+ * An outbound RestTemplate or Feign call, from the request to the response headers.
+ */
+@Name("com.selimhorri.app.RemoteCall")
+@Label("Remote Call")
+@Category({ "E-commerce", "Remote" })
+@Description("Outbound call to another service")
+@StackTrace(false)
+@Setter
+public class RemoteCallEvent extends Event {
+	
+	@Label("Target")
+	private String target;
+	
+	@Label("Method")
+	private String method;
+	
+	@Label("URI")
+	private String uri;
+	
+	@Label("Status")
+	private int status;
+	
+	@Label("Outcome")
+	private String outcome;
+
+}
+
+
+
+
+
+
+
+
+
+
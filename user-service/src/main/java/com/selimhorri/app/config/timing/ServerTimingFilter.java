@@ -0,0 +1,101 @@
+package com.selimhorri.app.config.timing;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.ServletOutputStream;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.HttpServletResponseWrapper;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Starts the request {@link ServerTiming} and writes its header right before the response is committed, 
+ * once the handler is done with the DB and upstream services and the JSON body has been serialised.
+ */
+@Component
+@ConditionalOnProperty(name = "app.server-timing.enabled", havingValue = "true")
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+public class ServerTimingFilter extends OncePerRequestFilter {
+	
+	@Override
+	protected void doFilterInternal(final HttpServletRequest request, final HttpServletResponse response, 
+			final FilterChain filterChain) throws ServletException, IOException {
+		
+		final ServerTimingResponse timedResponse = new ServerTimingResponse(response, ServerTiming.start());
+		try {
+			filterChain.doFilter(request, timedResponse);
+		}
+		finally {
+			ServerTiming.clear();
+		}
+		if (!request.isAsyncStarted())
+			timedResponse.writeHeader();
+	}
+	
+	private static final class ServerTimingResponse extends HttpServletResponseWrapper {
+		
+		private final ServerTiming serverTiming;
+		private boolean headerWritten;
+		
+		private ServerTimingResponse(final HttpServletResponse response, final ServerTiming serverTiming) {
+			super(response);
+			this.serverTiming = serverTiming;
+		}
+		
+		private void writeHeader() {
+			if (this.headerWritten)
+				return;
+			this.headerWritten = true;
+			if (!this.isCommitted())
+				this.setHeader(ServerTiming.HEADER, this.serverTiming.toHeaderValue());
+		}
+		
+		@Override
+		public ServletOutputStream getOutputStream() throws IOException {
+			this.writeHeader();
+			return super.getOutputStream();
+		}
+		
+		@Override
+		public PrintWriter getWriter() throws IOException {
+			this.writeHeader();
+			return super.getWriter();
+		}
+		
+		@Override
+		public void flushBuffer() throws IOException {
+			this.writeHeader();
+			super.flushBuffer();
+		}
+		
+		@Override
+		public void sendError(final int sc) throws IOException {
+			this.writeHeader();
+			super.sendError(sc);
+		}
+		
+		@Override
+		public void sendError(final int sc, final String msg) throws IOException {
+			this.writeHeader();
+			super.sendError(sc, msg);
+		}
+		
+		@Override
+		public void sendRedirect(final String location) throws IOException {
+			this.writeHeader();
+			super.sendRedirect(location);
+		}
+	
+	}
+
+
+
+}
@@ -1,6 +1,7 @@
 package com.selimhorri.app.domain;
 
 import java.io.Serializable;
+import java.time.Instant;
 import java.util.Set;
 
 import javax.persistence.CascadeType;
@@ -15,6 +16,8 @@ import javax.persistence.Id;
 import javax.persistence.JoinColumn;
 import javax.persistence.OneToMany;
 import javax.persistence.OneToOne;
+import javax.persistence.PrePersist;
+import javax.persistence.PreUpdate;
 import javax.persistence.Table;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
@@ -32,7 +35,7 @@ import lombok.NoArgsConstructor;
 @EqualsAndHashCode(callSuper = true, exclude = {"user", "verificationTokens"})
 @Data
 @Builder
-public final class Credential extends AbstractMappedEntity implements Serializable {
+public class Credential extends AbstractMappedEntity implements Serializable {
 	
 	private static final long serialVersionUID = 1L;
 	
@@ -71,6 +74,15 @@ public final class Credential extends AbstractMappedEntity implements Serializab
 	@OneToMany(cascade = CascadeType.ALL, fetch = FetchType.LAZY, mappedBy = "credential")
 	private Set<VerificationToken> verificationTokens;
 	
+	/**
+	 * Stamps every change of the credential, proxy-client rejects token-embedded authorities issued before it.
+	 */
+	@PrePersist
+	@PreUpdate
+	void touch() {
+		this.setUpdatedAt(Instant.now());
+	}
+	
 }
 
 
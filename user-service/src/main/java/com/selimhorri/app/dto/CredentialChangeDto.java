@@ -0,0 +1,40 @@
+package com.selimhorri.app.dto;
+
+import java.io.Serializable;
+import java.time.Instant;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonFormat.Shape;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Last change of a credential, tokens issued before it no longer carry its current role and status.
+ */
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+@Builder
+public class CredentialChangeDto implements Serializable {
+	
+	private static final long serialVersionUID = 1L;
+	
+	private String username;
+	
+	@JsonFormat(shape = Shape.STRING)
+	private Instant changedAt;
+	
+}
+
+
+
+
+
+
+
+
+
+
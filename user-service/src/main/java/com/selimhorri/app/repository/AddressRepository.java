@@ -1,11 +1,34 @@
 package com.selimhorri.app.repository;
 
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import com.selimhorri.app.domain.Address;
 
 public interface AddressRepository extends JpaRepository<Address, Integer> {
 	
+	@Override
+	@EntityGraph(attributePaths = {"user", "user.credential"})
+	List<Address> findAll();
+	
+	@Override
+	@EntityGraph(attributePaths = {"user", "user.credential"})
+	Page<Address> findAll(final Pageable pageable);
+	
+	@Override
+	@EntityGraph(attributePaths = {"user", "user.credential"})
+	Optional<Address> findById(final Integer addressId);
+	
+	@EntityGraph(attributePaths = {"user", "user.credential"})
+	Slice<Address> findAllBy(final Pageable pageable);
 	
+	@EntityGraph(attributePaths = {"user", "user.credential"})
+	Slice<Address> findByAddressIdGreaterThan(final Integer addressId, final Pageable pageable);
 	
 }
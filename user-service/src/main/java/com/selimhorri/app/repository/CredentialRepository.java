@@ -1,13 +1,49 @@
 package com.selimhorri.app.repository;
 
+import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.selimhorri.app.domain.Credential;
+import com.selimhorri.app.dto.CredentialChangeDto;
 
 public interface CredentialRepository extends JpaRepository<Credential, Integer> {
 	
+	@Override
+	@EntityGraph(attributePaths = {"user"})
+	List<Credential> findAll();
+	
+	@Override
+	@EntityGraph(attributePaths = {"user"})
+	Page<Credential> findAll(final Pageable pageable);
+	
+	@Override
+	@EntityGraph(attributePaths = {"user"})
+	Optional<Credential> findById(final Integer credentialId);
+	
+	@EntityGraph(attributePaths = {"user"})
 	Optional<Credential> findByUsername(final String username);
 	
+	@EntityGraph(attributePaths = {"user"})
+	Slice<Credential> findAllBy(final Pageable pageable);
+	
+	@EntityGraph(attributePaths = {"user"})
+	Slice<Credential> findByCredentialIdGreaterThan(final Integer credentialId, final Pageable pageable);
+	
+	@Query("SELECT c.username FROM Credential c WHERE c.isEnabled = false OR c.isAccountNonExpired = false "
+			+ "OR c.isAccountNonLocked = false OR c.isCredentialsNonExpired = false")
+	List<String> findAllInactiveUsernames();
+	
+	@Query("SELECT new com.selimhorri.app.dto.CredentialChangeDto(c.username, c.updatedAt) FROM Credential c "
+			+ "WHERE c.updatedAt > :since")
+	List<CredentialChangeDto> findAllChangedSince(@Param("since") final Instant since);
+	
 }
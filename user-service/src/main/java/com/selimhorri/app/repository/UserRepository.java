@@ -1,13 +1,41 @@
 package com.selimhorri.app.repository;
 
+import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import com.selimhorri.app.domain.User;
 
 public interface UserRepository extends JpaRepository<User, Integer> {
 	
+	@Override
+	@EntityGraph(attributePaths = {"credential"})
+	List<User> findAll();
+	
+	@Override
+	@EntityGraph(attributePaths = {"credential"})
+	Page<User> findAll(final Pageable pageable);
+	
+	@Override
+	@EntityGraph(attributePaths = {"credential"})
+	List<User> findAllById(final Iterable<Integer> userIds);
+	
+	@Override
+	@EntityGraph(attributePaths = {"credential"})
+	Optional<User> findById(final Integer userId);
+	
+	@EntityGraph(attributePaths = {"credential"})
 	Optional<User> findByCredentialUsername(final String username);
 	
+	@EntityGraph(attributePaths = {"credential"})
+	Slice<User> findAllBy(final Pageable pageable);
+	
+	@EntityGraph(attributePaths = {"credential"})
+	Slice<User> findByUserIdGreaterThan(final Integer userId, final Pageable pageable);
+	
 }
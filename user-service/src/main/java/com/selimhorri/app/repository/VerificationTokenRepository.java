@@ -1,11 +1,34 @@
 package com.selimhorri.app.repository;
 
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import com.selimhorri.app.domain.VerificationToken;
 
 public interface VerificationTokenRepository extends JpaRepository<VerificationToken, Integer> {
 	
+	@Override
+	@EntityGraph(attributePaths = {"credential"})
+	List<VerificationToken> findAll();
+	
+	@Override
+	@EntityGraph(attributePaths = {"credential"})
+	Page<VerificationToken> findAll(final Pageable pageable);
+	
+	@Override
+	@EntityGraph(attributePaths = {"credential"})
+	Optional<VerificationToken> findById(final Integer verificationTokenId);
+	
+	@EntityGraph(attributePaths = {"credential"})
+	Slice<VerificationToken> findAllBy(final Pageable pageable);
 	
+	@EntityGraph(attributePaths = {"credential"})
+	Slice<VerificationToken> findByVerificationTokenIdGreaterThan(final Integer verificationTokenId, final Pageable pageable);
 	
 }
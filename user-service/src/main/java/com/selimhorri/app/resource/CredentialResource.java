@@ -1,9 +1,12 @@
 package com.selimhorri.app.resource;
 
+import java.time.Instant;
+
 import javax.validation.Valid;
 import javax.validation.constraints.NotBlank;
 import javax.validation.constraints.NotNull;
 
+import org.springframework.data.domain.Sort;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -12,10 +15,13 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.selimhorri.app.dto.CredentialChangeDto;
 import com.selimhorri.app.dto.CredentialDto;
 import com.selimhorri.app.dto.response.collection.DtoCollectionResponse;
+import com.selimhorri.app.helper.PageRequestHelper;
 import com.selimhorri.app.service.CredentialService;
 
 import lombok.RequiredArgsConstructor;
@@ -30,8 +36,21 @@ public class CredentialResource {
 	private final CredentialService credentialService;
 	
 	@GetMapping
-	public ResponseEntity<DtoCollectionResponse<CredentialDto>> findAll() {
+	public ResponseEntity<DtoCollectionResponse<CredentialDto>> findAll(
+			@RequestParam(name = "page", required = false) final Integer page, 
+			@RequestParam(name = "size", required = false) final Integer size, 
+			@RequestParam(name = "cursor", required = false) final String cursor, 
+			final Sort sort) {
 		log.info("*** CredentialDto List, controller; fetch all credentials *");
+		if (cursor != null) {
+			final var credentialId = PageRequestHelper.decodeCursor(cursor, parts -> Integer.parseInt(parts[0]));
+			return ResponseEntity.ok(DtoCollectionResponse.of(
+					this.credentialService.findAllAfter(credentialId, PageRequestHelper.size(size)), 
+					c -> PageRequestHelper.encodeCursor(c.getCredentialId())));
+		}
+		if (page != null || size != null || sort.isSorted())
+			return ResponseEntity.ok(DtoCollectionResponse.of(
+					this.credentialService.findAll(PageRequestHelper.of(page, size, sort))));
 		return ResponseEntity.ok(new DtoCollectionResponse<>(this.credentialService.findAll()));
 	}
 	
@@ -92,6 +111,25 @@ public class CredentialResource {
 		return ResponseEntity.ok(this.credentialService.findByUsername(username));
 	}
 	
+	/**
+	 * Usernames whose tokens must no longer be honoured, polled by proxy-client for token-embedded authorities.
+	 */
+	@GetMapping("/revoked")
+	public ResponseEntity<DtoCollectionResponse<String>> findAllRevoked() {
+		log.info("*** String List, resource; fetch all revoked credential usernames *");
+		return ResponseEntity.ok(new DtoCollectionResponse<>(this.credentialService.findAllInactiveUsernames()));
+	}
+	
+	/**
+	 * Credentials changed after the given instant, token-embedded authorities issued before their change are rejected.
+	 */
+	@GetMapping("/changed")
+	public ResponseEntity<DtoCollectionResponse<CredentialChangeDto>> findAllChanged(
+			@RequestParam("since") final Instant since) {
+		log.info("*** CredentialChangeDto List, resource; fetch all credentials changed since *");
+		return ResponseEntity.ok(new DtoCollectionResponse<>(this.credentialService.findAllChangedSince(since)));
+	}
+	
 	
 	
 }
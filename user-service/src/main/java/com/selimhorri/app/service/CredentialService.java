@@ -1,18 +1,28 @@
 package com.selimhorri.app.service;
 
+import java.time.Instant;
 import java.util.List;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+import com.selimhorri.app.dto.CredentialChangeDto;
 import com.selimhorri.app.dto.CredentialDto;
 
 public interface CredentialService {
 	
 	List<CredentialDto> findAll();
+	Page<CredentialDto> findAll(final Pageable pageable);
+	Slice<CredentialDto> findAllAfter(final Integer credentialId, final int size);
 	CredentialDto findById(final Integer credentialId);
 	CredentialDto save(final CredentialDto credentialDto);
 	CredentialDto update(final CredentialDto credentialDto);
 	CredentialDto update(final Integer credentialId, final CredentialDto credentialDto);
 	void deleteById(final Integer credentialId);
 	CredentialDto findByUsername(final String username);
+	List<String> findAllInactiveUsernames();
+	List<CredentialChangeDto> findAllChangedSince(final Instant since);
 	
 }
 
@@ -5,6 +5,11 @@ import java.util.stream.Collectors;
 
 import javax.transaction.Transactional;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 
 import com.selimhorri.app.dto.AddressDto;
@@ -34,6 +39,23 @@ public class AddressServiceImpl implements AddressService {
 					.collect(Collectors.toUnmodifiableList());
 	}
 	
+	@Override
+	public Page<AddressDto> findAll(final Pageable pageable) {
+		log.info("*** AddressDto Page, service; fetch addresses page *");
+		return this.addressRepository.findAll(pageable)
+				.map(AddressMappingHelper::map);
+	}
+	
+	@Override
+	public Slice<AddressDto> findAllAfter(final Integer addressId, final int size) {
+		log.info("*** AddressDto Slice, service; fetch addresses after cursor *");
+		final var pageable = PageRequest.of(0, size, Sort.by("addressId"));
+		return ((addressId == null) ? 
+					this.addressRepository.findAllBy(pageable) : 
+					this.addressRepository.findByAddressIdGreaterThan(addressId, pageable))
+				.map(AddressMappingHelper::map);
+	}
+	
 	@Override
 	public AddressDto findById(final Integer addressId) {
 		log.info("*** AddressDto, service; fetch address by id *");
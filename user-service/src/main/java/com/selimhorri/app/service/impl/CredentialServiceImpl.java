@@ -1,12 +1,19 @@
 package com.selimhorri.app.service.impl;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.stream.Collectors;
 
 import javax.transaction.Transactional;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 
+import com.selimhorri.app.dto.CredentialChangeDto;
 import com.selimhorri.app.dto.CredentialDto;
 import com.selimhorri.app.exception.wrapper.CredentialNotFoundException;
 import com.selimhorri.app.exception.wrapper.UserObjectNotFoundException;
@@ -35,6 +42,23 @@ public class CredentialServiceImpl implements CredentialService {
 					.collect(Collectors.toUnmodifiableList());
 	}
 	
+	@Override
+	public Page<CredentialDto> findAll(final Pageable pageable) {
+		log.info("*** CredentialDto Page, service; fetch credentials page *");
+		return this.credentialRepository.findAll(pageable)
+				.map(CredentialMappingHelper::map);
+	}
+	
+	@Override
+	public Slice<CredentialDto> findAllAfter(final Integer credentialId, final int size) {
+		log.info("*** CredentialDto Slice, service; fetch credentials after cursor *");
+		final var pageable = PageRequest.of(0, size, Sort.by("credentialId"));
+		return ((credentialId == null) ? 
+					this.credentialRepository.findAllBy(pageable) : 
+					this.credentialRepository.findByCredentialIdGreaterThan(credentialId, pageable))
+				.map(CredentialMappingHelper::map);
+	}
+	
 	@Override
 	public CredentialDto findById(final Integer credentialId) {
 		log.info("*** CredentialDto, service; fetch credential by ids *");
@@ -74,6 +98,18 @@ public class CredentialServiceImpl implements CredentialService {
 				.orElseThrow(() -> new UserObjectNotFoundException(String.format("#### Credential with username: %s not found! ####", username))));
 	}
 	
+	@Override
+	public List<String> findAllInactiveUsernames() {
+		log.info("*** String List, service; fetch all inactive credential usernames *");
+		return this.credentialRepository.findAllInactiveUsernames();
+	}
+	
+	@Override
+	public List<CredentialChangeDto> findAllChangedSince(final Instant since) {
+		log.info("*** CredentialChangeDto List, service; fetch all credentials changed since *");
+		return this.credentialRepository.findAllChangedSince(since);
+	}
+	
 	
 	
 }
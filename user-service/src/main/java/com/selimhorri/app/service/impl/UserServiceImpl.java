@@ -1,10 +1,17 @@
 package com.selimhorri.app.service.impl;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 import javax.transaction.Transactional;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 
 import com.selimhorri.app.dto.UserDto;
@@ -34,6 +41,35 @@ public class UserServiceImpl implements UserService {
 					.collect(Collectors.toUnmodifiableList());
 	}
 	
+	@Override
+	public Page<UserDto> findAll(final Pageable pageable) {
+		log.info("*** UserDto Page, service; fetch users page *");
+		return this.userRepository.findAll(pageable)
+				.map(UserMappingHelper::map);
+	}
+	
+	@Override
+	public Slice<UserDto> findAllAfter(final Integer userId, final int size) {
+		log.info("*** UserDto Slice, service; fetch users after cursor *");
+		final var pageable = PageRequest.of(0, size, Sort.by("userId"));
+		return ((userId == null) ? 
+					this.userRepository.findAllBy(pageable) : 
+					this.userRepository.findByUserIdGreaterThan(userId, pageable))
+				.map(UserMappingHelper::map);
+	}
+	
+	@Override
+	public List<UserDto> findAllByIds(final Collection<Integer> userIds) {
+		log.info("*** UserDto List, service; fetch users by ids *");
+		return this.userRepository.findAllById(userIds.stream()
+					.filter(Objects::nonNull)
+					.collect(Collectors.toUnmodifiableSet()))
+				.stream()
+					.map(UserMappingHelper::map)
+					.distinct()
+					.collect(Collectors.toUnmodifiableList());
+	}
+	
 	@Override
 	public UserDto findById(final Integer userId) {
 		log.info("*** UserDto, service; fetch user by id *");
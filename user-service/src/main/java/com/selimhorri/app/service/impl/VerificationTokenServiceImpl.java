@@ -5,6 +5,11 @@ import java.util.stream.Collectors;
 
 import javax.transaction.Transactional;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 
 import com.selimhorri.app.dto.VerificationTokenDto;
@@ -34,6 +39,23 @@ public class VerificationTokenServiceImpl implements VerificationTokenService {
 					.collect(Collectors.toUnmodifiableList());
 	}
 	
+	@Override
+	public Page<VerificationTokenDto> findAll(final Pageable pageable) {
+		log.info("*** VerificationTokenDto Page, service; fetch verificationTokens page *");
+		return this.verificationTokenRepository.findAll(pageable)
+				.map(VerificationTokenMappingHelper::map);
+	}
+	
+	@Override
+	public Slice<VerificationTokenDto> findAllAfter(final Integer verificationTokenId, final int size) {
+		log.info("*** VerificationTokenDto Slice, service; fetch verificationTokens after cursor *");
+		final var pageable = PageRequest.of(0, size, Sort.by("verificationTokenId"));
+		return ((verificationTokenId == null) ? 
+					this.verificationTokenRepository.findAllBy(pageable) : 
+					this.verificationTokenRepository.findByVerificationTokenIdGreaterThan(verificationTokenId, pageable))
+				.map(VerificationTokenMappingHelper::map);
+	}
+	
 	@Override
 	public VerificationTokenDto findById(final Integer verificationTokenId) {
 		log.info("*** VerificationTokenDto, service; fetch verificationToken by ids *");
@@ -0,0 +1,185 @@
+package com.selimhorri.app.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import com.selimhorri.app.domain.Address;
+import com.selimhorri.app.domain.Credential;
+import com.selimhorri.app.domain.RoleBasedAuthority;
+import com.selimhorri.app.domain.User;
+import com.selimhorri.app.domain.VerificationToken;
+import com.selimhorri.app.dto.CredentialChangeDto;
+import com.selimhorri.app.helper.AddressMappingHelper;
+import com.selimhorri.app.helper.CredentialMappingHelper;
+import com.selimhorri.app.helper.UserMappingHelper;
+import com.selimhorri.app.helper.VerificationTokenMappingHelper;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class UserRepositoryTest {
+
+    private static final int EXTRA_USERS = 10;
+
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CredentialRepository credentialRepository;
+
+    @Autowired
+    private AddressRepository addressRepository;
+
+    @Autowired
+    private VerificationTokenRepository verificationTokenRepository;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        // One credential, address and token per distinct user, so an N+1 would grow with the row count
+        for (int i = 0; i < EXTRA_USERS; i++) {
+            User user = testEntityManager.persist(User.builder()
+                    .firstName("first-" + i)
+                    .lastName("last-" + i)
+                    .email("user-" + i + "@statement.count")
+                    .build());
+            Credential credential = testEntityManager.persist(Credential.builder()
+                    .username("statement-count-" + i)
+                    .password("password")
+                    .roleBasedAuthority(RoleBasedAuthority.ROLE_USER)
+                    .isEnabled(true)
+                    .isAccountNonExpired(true)
+                    .isAccountNonLocked(true)
+                    .isCredentialsNonExpired(true)
+                    .user(user)
+                    .build());
+            testEntityManager.persist(Address.builder()
+                    .fullAddress("address-" + i)
+                    .user(user)
+                    .build());
+            testEntityManager.persist(VerificationToken.builder()
+                    .token("token-" + i)
+                    .expireDate(LocalDate.now())
+                    .credential(credential)
+                    .build());
+        }
+        testEntityManager.flush();
+        testEntityManager.clear();
+
+        statistics = testEntityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void testFindAllUsers_ShouldIssueSingleStatement() {
+        // When
+        List<User> users = userRepository.findAll();
+        users.forEach(UserMappingHelper::map);
+
+        // Then
+        assertTrue(users.size() >= EXTRA_USERS);
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void testFindAllUsersPage_ShouldIssueSelectAndCountOnly() {
+        // When
+        Page<User> users = userRepository.findAll(PageRequest.of(0, 5));
+        users.forEach(UserMappingHelper::map);
+
+        // Then
+        assertEquals(5, users.getNumberOfElements());
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void testFindAllCredentials_ShouldIssueSingleStatement() {
+        // When
+        List<Credential> credentials = credentialRepository.findAll();
+        credentials.forEach(CredentialMappingHelper::map);
+
+        // Then
+        assertTrue(credentials.size() >= EXTRA_USERS);
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void testFindAllAddresses_ShouldIssueSingleStatement() {
+        // When
+        List<Address> addresses = addressRepository.findAll();
+        addresses.forEach(AddressMappingHelper::map);
+
+        // Then
+        assertTrue(addresses.size() >= EXTRA_USERS);
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void testFindAllInactiveUsernames_ShouldReturnOnlyRevokedCredentials() {
+        // Given
+        testEntityManager.persist(Credential.builder()
+                .username("statement-count-locked")
+                .roleBasedAuthority(RoleBasedAuthority.ROLE_USER)
+                .isEnabled(true)
+                .isAccountNonExpired(true)
+                .isAccountNonLocked(false)
+                .isCredentialsNonExpired(true)
+                .build());
+        testEntityManager.flush();
+
+        // When
+        List<String> usernames = credentialRepository.findAllInactiveUsernames();
+
+        // Then
+        assertTrue(usernames.contains("statement-count-locked"));
+        assertFalse(usernames.contains("statement-count-0"));
+    }
+
+    @Test
+    void testFindAllChangedSince_ShouldReturnOnlyCredentialsUpdatedAfterward() {
+        // Given
+        Instant since = Instant.now();
+        Credential credential = credentialRepository.findByUsername("statement-count-0").orElseThrow();
+        credential.setPassword("changed");
+        testEntityManager.flush();
+
+        // When
+        List<CredentialChangeDto> changes = credentialRepository.findAllChangedSince(since);
+
+        // Then
+        assertEquals(1, changes.size());
+        assertEquals("statement-count-0", changes.get(0).getUsername());
+        assertFalse(changes.get(0).getChangedAt().isBefore(since));
+    }
+
+    @Test
+    void testFindAllVerificationTokens_ShouldIssueSingleStatement() {
+        // When
+        List<VerificationToken> verificationTokens = verificationTokenRepository.findAll();
+        verificationTokens.forEach(VerificationTokenMappingHelper::map);
+
+        // Then
+        assertTrue(verificationTokens.size() >= EXTRA_USERS);
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+}